@@ -45,6 +45,7 @@ dependencies {
     implementation(libs.tink)
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":spi:common:core-spi")))
     testImplementation(libs.awaitility)
     testImplementation(libs.junit.jupiter.api)
     testImplementation(libs.mockserver.netty)
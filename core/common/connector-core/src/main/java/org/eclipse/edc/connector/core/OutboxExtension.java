@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core;
+
+import org.eclipse.edc.connector.core.event.outbox.OutboxImpl;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.Outbox;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.connector.core.OutboxExtension.NAME;
+
+@Extension(value = NAME)
+@Provides({ Outbox.class })
+public class OutboxExtension implements ServiceExtension {
+
+    public static final String NAME = "Outbox";
+
+    @Setting(description = "Maximum number of outbox messages claimed per relay iteration", key = "edc.outbox.batch.size", defaultValue = "100")
+    private int batchSize;
+
+    @Setting(description = "Time in milliseconds between two outbox relay iterations", key = "edc.outbox.poll.interval", defaultValue = "1000")
+    private long pollInterval;
+
+    @Setting(description = "Maximum number of concurrent outbox deliveries per destination", key = "edc.outbox.destination.concurrency", defaultValue = "4")
+    private int maxConcurrencyPerDestination;
+
+    @Setting(description = "Maximum number of delivery attempts of an outbox message before it is dropped", key = "edc.outbox.attempts.max", defaultValue = "10")
+    private int maxAttempts;
+
+    @Setting(description = "Minimum time in milliseconds before retrying a failed outbox delivery, doubled at every attempt", key = "edc.outbox.backoff.min", defaultValue = "1000")
+    private long minBackoff;
+
+    @Setting(description = "Maximum time in milliseconds before retrying a failed outbox delivery", key = "edc.outbox.backoff.max", defaultValue = "300000")
+    private long maxBackoff;
+
+    @Setting(description = "Time in milliseconds after which an outbox message whose delivery outcome was not recorded is delivered again", key = "edc.outbox.claim.timeout", defaultValue = "60000")
+    private long claimTimeout;
+
+    @Inject
+    private OutboxStore store;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private OutboxImpl outbox;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        outbox = OutboxImpl.Builder.newInstance()
+                .store(store)
+                .monitor(context.getMonitor().withPrefix("Outbox"))
+                .clock(clock)
+                .executorInstrumentation(executorInstrumentation)
+                .batchSize(batchSize)
+                .pollInterval(pollInterval)
+                .maxConcurrencyPerDestination(maxConcurrencyPerDestination)
+                .maxAttempts(maxAttempts)
+                .minBackoff(minBackoff)
+                .maxBackoff(maxBackoff)
+                .claimTimeout(claimTimeout)
+                .build();
+
+        context.registerService(Outbox.class, outbox);
+    }
+
+    @Override
+    public void start() {
+        outbox.start();
+    }
+
+    @Override
+    public void shutdown() {
+        if (outbox != null) {
+            outbox.stop();
+        }
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.core.base;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -51,6 +53,21 @@ public class OkHttpClientFactory {
             builder.socketFactory(new CustomSocketFactory(configuration.getSendBufferSize(), configuration.getReceiveBufferSize()));
         }
 
+        if (configuration.getMaxRequests() > 0 || configuration.getMaxRequestsPerHost() > 0) {
+            var dispatcher = new Dispatcher();
+            if (configuration.getMaxRequests() > 0) {
+                dispatcher.setMaxRequests(configuration.getMaxRequests());
+            }
+            if (configuration.getMaxRequestsPerHost() > 0) {
+                dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+            }
+            builder.dispatcher(dispatcher);
+        }
+
+        if (configuration.getMaxIdleConnections() > 0 && configuration.getKeepAlive() > 0) {
+            builder.connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAlive(), SECONDS));
+        }
+
         ofNullable(okHttpEventListener).ifPresent(builder::eventListener);
 
         if (configuration.isEnforceHttps()) {
@@ -36,6 +36,8 @@ public class EventRouterImpl implements EventRouter {
 
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<EventSubscriber>> transactionalSubscribers = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<EventEnvelope<?>>> deferredEvents = new ThreadLocal<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
@@ -50,13 +52,47 @@ public class EventRouterImpl implements EventRouter {
         syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
     }
 
+    @Override
+    public <E extends Event> void registerTransactional(Class<E> eventKind, EventSubscriber subscriber) {
+        transactionalSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+    }
+
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
         subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
+        subscriberFor(event, this::getTransactionalSubscribers).forEach(subscriber -> subscriber.on(event));
+
+        var deferred = deferredEvents.get();
+        if (deferred != null) {
+            deferred.add(event);
+        } else {
+            notifySubscribers(event);
+        }
+    }
+
+    @Override
+    public Runnable deferring(Runnable work) {
+        if (deferredEvents.get() != null) {
+            // nested in a deferring work, its events are notified together with the outer ones
+            work.run();
+            return () -> { };
+        }
+
+        var deferred = new ArrayList<EventEnvelope<?>>();
+        deferredEvents.set(deferred);
+        try {
+            work.run();
+        } finally {
+            deferredEvents.remove();
+        }
+        return () -> deferred.forEach(this::notifySubscribers);
+    }
+
+    private <E extends Event> void notifySubscribers(EventEnvelope<E> event) {
         subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
 
         subscriberFor(event, this::getSubscribers)
@@ -78,6 +114,10 @@ public class EventRouterImpl implements EventRouter {
         return syncSubscribers;
     }
 
+    private Map<Class<?>, List<EventSubscriber>> getTransactionalSubscribers() {
+        return transactionalSubscribers;
+    }
+
     private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
         return supplier.get().entrySet()
                 .stream()
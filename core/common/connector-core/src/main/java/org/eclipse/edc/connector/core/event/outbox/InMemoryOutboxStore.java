@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link OutboxStore}, the messages are lost when the runtime stops.
+ */
+public class InMemoryOutboxStore implements OutboxStore {
+
+    private final Map<String, OutboxMessage> messages = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void save(OutboxMessage message) {
+        messages.put(message.getId(), message);
+    }
+
+    @Override
+    public synchronized List<OutboxMessage> claimDue(int max, long now, long claimUntil) {
+        var partitions = new HashSet<Partition>();
+        var claimed = new ArrayList<OutboxMessage>();
+        for (var message : messages.values()) {
+            if (claimed.size() >= max) {
+                break;
+            }
+            var oldestOfPartition = partitions.add(new Partition(message.getDestination(), message.getPartitionKey()));
+            if (oldestOfPartition && message.getNextAttemptAt() <= now) {
+                claimed.add(message.toBuilder().nextAttemptAt(claimUntil).build());
+            }
+        }
+        claimed.forEach(message -> messages.put(message.getId(), message));
+        return claimed;
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        messages.remove(id);
+    }
+
+    @Override
+    public synchronized void reschedule(String id, int attempts, long nextAttemptAt) {
+        messages.computeIfPresent(id, (key, message) -> message.toBuilder().attempts(attempts).nextAttemptAt(nextAttemptAt).build());
+    }
+
+    private record Partition(String destination, String partitionKey) {
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.outbox.Outbox;
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.event.outbox.OutboxMessageHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * {@link Outbox} that relays the stored messages to the handlers of their channels.
+ * <p>
+ * The relay claims the due messages in batches and starts their delivery without waiting for it, limiting the number
+ * of concurrent deliveries per destination, so that a slow destination does not hold back the others. Delivered
+ * messages are deleted, failed ones are retried with exponential backoff until the maximum number of attempts is
+ * reached. Since a partition only gets its next message once the previous one has been delivered or given up on, the
+ * messages of an entity are delivered in order.
+ */
+public class OutboxImpl implements Outbox {
+
+    private final Map<String, OutboxMessageHandler> handlers = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> destinationPermits = new ConcurrentHashMap<>();
+    private OutboxStore store;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private int batchSize = 100;
+    private long pollInterval = 1000;
+    private int maxConcurrencyPerDestination = 4;
+    private int maxAttempts = 10;
+    private long minBackoff = 1000;
+    private long maxBackoff = 300_000;
+    private long claimTimeout = 60_000;
+    private ScheduledExecutorService executor;
+    private boolean started;
+
+    private OutboxImpl() {
+    }
+
+    @Override
+    public void write(OutboxMessage message) {
+        store.save(message);
+    }
+
+    @Override
+    public synchronized void registerHandler(String channel, OutboxMessageHandler handler) {
+        handlers.put(channel, handler);
+        if (started) {
+            startRelay();
+        }
+    }
+
+    /**
+     * Start relaying the stored messages. Without any registered handler there is nothing to deliver, so the relay
+     * thread is only started once the first handler gets registered.
+     */
+    public synchronized void start() {
+        started = true;
+        if (!handlers.isEmpty()) {
+            startRelay();
+        }
+    }
+
+    public synchronized void stop() {
+        started = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Whether the relay thread is running.
+     *
+     * @return true if the relay is running.
+     */
+    public synchronized boolean isRelaying() {
+        return executor != null;
+    }
+
+    /**
+     * Claim a batch of due messages and start their delivery.
+     *
+     * @return the number of messages whose delivery has been started.
+     */
+    public int relay() {
+        var now = clock.millis();
+        var messages = store.claimDue(batchSize, now, now + claimTimeout);
+        var started = 0;
+        for (var message : messages) {
+            var permits = destinationPermits.computeIfAbsent(message.getDestination(), d -> new Semaphore(maxConcurrencyPerDestination));
+            if (!permits.tryAcquire()) {
+                // the destination is busy, release the claim so that the message gets picked up by the next batch
+                store.reschedule(message.getId(), message.getAttempts(), now);
+                continue;
+            }
+
+            deliver(message).whenComplete((result, throwable) -> {
+                permits.release();
+                recordOutcome(message, throwable);
+            });
+            started++;
+        }
+        return started;
+    }
+
+    private void startRelay() {
+        if (executor == null) {
+            executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Outbox relay");
+            executor.scheduleWithFixedDelay(this::relayAll, pollInterval, pollInterval, MILLISECONDS);
+        }
+    }
+
+    private void relayAll() {
+        try {
+            int started;
+            do {
+                started = relay();
+            } while (started == batchSize);
+        } catch (Throwable e) {
+            monitor.severe("Outbox relay failed, will retry in %d ms".formatted(pollInterval), e);
+        }
+    }
+
+    private CompletableFuture<Void> deliver(OutboxMessage message) {
+        var handler = handlers.get(message.getChannel());
+        if (handler == null) {
+            return CompletableFuture.failedFuture(new EdcException(format("No handler registered for outbox channel %s", message.getChannel())));
+        }
+        try {
+            return handler.handle(message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void recordOutcome(OutboxMessage message, Throwable throwable) {
+        try {
+            if (throwable == null) {
+                store.delete(message.getId());
+                return;
+            }
+
+            var attempts = message.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                monitor.severe(format("Outbox message %s of channel %s to %s failed %d times, giving up",
+                        message.getId(), message.getChannel(), message.getDestination(), attempts), throwable);
+                store.delete(message.getId());
+            } else {
+                monitor.warning(format("Outbox message %s of channel %s to %s failed, attempt %d of %d",
+                        message.getId(), message.getChannel(), message.getDestination(), attempts, maxAttempts), throwable);
+                store.reschedule(message.getId(), attempts, clock.millis() + backoff(attempts));
+            }
+        } catch (Exception e) {
+            // the claim expires, so the message will be delivered again
+            monitor.severe(format("Outbox message %s: failed to record delivery outcome", message.getId()), e);
+        }
+    }
+
+    private long backoff(int attempts) {
+        var exponent = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoff, minBackoff * (1L << exponent));
+    }
+
+    public static class Builder {
+
+        private final OutboxImpl outbox;
+
+        private Builder() {
+            outbox = new OutboxImpl();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(OutboxStore store) {
+            outbox.store = store;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            outbox.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            outbox.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            outbox.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            outbox.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder pollInterval(long pollInterval) {
+            outbox.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder maxConcurrencyPerDestination(int maxConcurrencyPerDestination) {
+            outbox.maxConcurrencyPerDestination = maxConcurrencyPerDestination;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            outbox.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder minBackoff(long minBackoff) {
+            outbox.minBackoff = minBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(long maxBackoff) {
+            outbox.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder claimTimeout(long claimTimeout) {
+            outbox.claimTimeout = claimTimeout;
+            return this;
+        }
+
+        public OutboxImpl build() {
+            Objects.requireNonNull(outbox.store, "store");
+            Objects.requireNonNull(outbox.monitor, "monitor");
+            return outbox;
+        }
+    }
+}
@@ -91,6 +91,21 @@ class OkHttpClientFactoryTest {
         });
     }
 
+    @Test
+    void shouldConfigureDispatcherAndConnectionPool() {
+        var configuration = mock(OkHttpClientConfiguration.class);
+        when(configuration.getMaxRequests()).thenReturn(128);
+        when(configuration.getMaxRequestsPerHost()).thenReturn(32);
+        when(configuration.getMaxIdleConnections()).thenReturn(16);
+        when(configuration.getKeepAlive()).thenReturn(60);
+
+        var okHttpClient = OkHttpClientFactory.create(configuration, eventListener, monitor);
+
+        assertThat(okHttpClient.dispatcher().getMaxRequests()).isEqualTo(128);
+        assertThat(okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(32);
+        assertThat(okHttpClient.connectionPool()).isNotNull();
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -149,6 +149,54 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldNotifyOnlyTransactionalSubscribers_whileDeferring() {
+        var transactionalSubscriber = mock(EventSubscriber.class);
+        var syncSubscriber = mock(EventSubscriber.class);
+        var subscriber = mock(EventSubscriber.class);
+        eventRouter.registerTransactional(TestEvent.class, transactionalSubscriber);
+        eventRouter.registerSync(TestEvent.class, syncSubscriber);
+        eventRouter.register(TestEvent.class, subscriber);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+
+        var notifySubscribers = eventRouter.deferring(() -> eventRouter.publish(event));
+
+        verify(transactionalSubscriber).on(eq(event));
+        verifyNoInteractions(syncSubscriber, subscriber);
+
+        notifySubscribers.run();
+
+        verify(syncSubscriber).on(eq(event));
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber).on(eq(event)));
+        verify(transactionalSubscriber).on(eq(event));
+    }
+
+    @Test
+    void shouldDiscardDeferredEvents_whenWorkFails() {
+        var syncSubscriber = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, syncSubscriber);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+
+        assertThatThrownBy(() -> eventRouter.deferring(() -> {
+            eventRouter.publish(event);
+            throw new RuntimeException("unexpected exception");
+        })).isInstanceOf(RuntimeException.class);
+
+        verifyNoInteractions(syncSubscriber);
+
+        eventRouter.publish(event);
+
+        verify(syncSubscriber).on(eq(event));
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
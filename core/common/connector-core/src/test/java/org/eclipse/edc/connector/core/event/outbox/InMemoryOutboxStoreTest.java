@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.event.outbox.OutboxStoreTestBase;
+
+class InMemoryOutboxStoreTest extends OutboxStoreTestBase {
+
+    private final InMemoryOutboxStore store = new InMemoryOutboxStore();
+
+    @Override
+    protected OutboxStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.event.outbox.OutboxMessageHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxImplTest {
+
+    private static final long NOW = 1000;
+
+    private final OutboxStore store = mock();
+    private final Monitor monitor = mock();
+    private final OutboxMessageHandler handler = mock();
+    private final OutboxImpl outbox = OutboxImpl.Builder.newInstance()
+            .store(store)
+            .monitor(monitor)
+            .clock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC))
+            .batchSize(10)
+            .maxConcurrencyPerDestination(1)
+            .maxAttempts(3)
+            .minBackoff(100)
+            .maxBackoff(150)
+            .claimTimeout(500)
+            .build();
+
+    @Test
+    void write_shouldSaveMessage() {
+        var message = message("id", "destination", 0);
+
+        outbox.write(message);
+
+        verify(store).save(message);
+    }
+
+    @Test
+    void start_shouldNotStartRelay_untilHandlerIsRegistered() {
+        try {
+            outbox.start();
+
+            assertThat(outbox.isRelaying()).isFalse();
+
+            outbox.registerHandler("channel", handler);
+
+            assertThat(outbox.isRelaying()).isTrue();
+        } finally {
+            outbox.stop();
+        }
+        assertThat(outbox.isRelaying()).isFalse();
+    }
+
+    @Test
+    void relay_shouldDeleteMessage_whenDelivered() {
+        outbox.registerHandler("channel", handler);
+        var message = message("id", "destination", 0);
+        when(store.claimDue(10, NOW, NOW + 500)).thenReturn(List.of(message));
+        when(handler.handle(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        var started = outbox.relay();
+
+        assertThat(started).isEqualTo(1);
+        verify(handler).handle(message);
+        verify(store).delete("id");
+    }
+
+    @Test
+    void relay_shouldRescheduleWithBackoff_whenDeliveryFails() {
+        outbox.registerHandler("channel", handler);
+        when(store.claimDue(anyInt(), anyLong(), anyLong())).thenReturn(List.of(message("id", "destination", 1)));
+        when(handler.handle(any())).thenReturn(CompletableFuture.failedFuture(new EdcException("error")));
+
+        outbox.relay();
+
+        verify(store).reschedule("id", 2, NOW + 150);
+        verify(store, never()).delete(any());
+    }
+
+    @Test
+    void relay_shouldGiveUp_whenMaxAttemptsReached() {
+        outbox.registerHandler("channel", handler);
+        when(store.claimDue(anyInt(), anyLong(), anyLong())).thenReturn(List.of(message("id", "destination", 2)));
+        when(handler.handle(any())).thenReturn(CompletableFuture.failedFuture(new EdcException("error")));
+
+        outbox.relay();
+
+        verify(store).delete("id");
+        verify(store, never()).reschedule(anyString(), anyInt(), anyLong());
+        verify(monitor).severe(anyString(), any(EdcException.class));
+    }
+
+    @Test
+    void relay_shouldRescheduleWithBackoff_whenHandlerIsMissing() {
+        when(store.claimDue(anyInt(), anyLong(), anyLong())).thenReturn(List.of(message("id", "destination", 0)));
+
+        outbox.relay();
+
+        verify(store).reschedule("id", 1, NOW + 100);
+    }
+
+    @Test
+    void relay_shouldRescheduleWithBackoff_whenHandlerThrows() {
+        outbox.registerHandler("channel", handler);
+        when(store.claimDue(anyInt(), anyLong(), anyLong())).thenReturn(List.of(message("id", "destination", 0)));
+        when(handler.handle(any())).thenThrow(new EdcException("error"));
+
+        outbox.relay();
+
+        verify(store).reschedule("id", 1, NOW + 100);
+    }
+
+    @Test
+    void relay_shouldLimitConcurrentDeliveriesPerDestination() {
+        outbox.registerHandler("channel", handler);
+        var pending = new CompletableFuture<Void>();
+        when(store.claimDue(anyInt(), anyLong(), anyLong())).thenReturn(List.of(
+                message("id1", "destination", 0),
+                message("id2", "destination", 0),
+                message("id3", "other-destination", 0)));
+        when(handler.handle(any())).thenReturn(pending);
+
+        var started = outbox.relay();
+
+        assertThat(started).isEqualTo(2);
+        verify(handler, times(2)).handle(any());
+        verify(store).reschedule("id2", 0, NOW);
+
+        pending.complete(null);
+
+        verify(store).delete("id1");
+        verify(store).delete("id3");
+        verify(store, never()).delete(eq("id2"));
+    }
+
+    private OutboxMessage message(String id, String destination, int attempts) {
+        return OutboxMessage.Builder.newInstance()
+                .id(id)
+                .channel("channel")
+                .destination(destination)
+                .partitionKey("partition")
+                .payload("payload")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -20,6 +20,7 @@ public class JsonLdConfiguration {
     private boolean httpsEnabled = false;
     private boolean avoidVocab = false;
     private boolean checkPrefixes = true;
+    private long httpCacheValidity = 0;
 
     private JsonLdConfiguration() {
 
@@ -41,6 +42,13 @@ public class JsonLdConfiguration {
         return avoidVocab;
     }
 
+    /**
+     * Time in milliseconds a document resolved through http or https is reused, 0 or less disables the caching.
+     */
+    public long getHttpCacheValidity() {
+        return httpCacheValidity;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -69,6 +77,11 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder httpCacheValidity(long httpCacheValidity) {
+            configuration.httpCacheValidity = httpCacheValidity;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
@@ -42,17 +42,20 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
+ * <p>
+ * The context document used to compact a scope is built once and reused until a namespace or a context gets
+ * registered. Documents resolved through http or https are reused for the configured
+ * {@link JsonLdConfiguration#getHttpCacheValidity()}.
  */
 public class TitaniumJsonLd implements JsonLd {
     private static final Map<String, String> EMPTY_NAMESPACES = Collections.emptyMap();
@@ -62,6 +65,7 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, JsonDocument> contextDocuments = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
 
     private final JsonObjectValidator validator;
@@ -111,10 +115,7 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(JsonLdKeywords.CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = contextDocuments.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
                     .options(new JsonLdOptions(documentLoader))
                     .get();
@@ -133,12 +134,14 @@ public class TitaniumJsonLd implements JsonLd {
         }
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        contextDocuments.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        contextDocuments.clear();
     }
 
     @Override
@@ -147,20 +150,22 @@ public class TitaniumJsonLd implements JsonLd {
     }
 
     private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
-
-        //only inject the vocab if the @context is an object, not a URL
-        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(JsonLdKeywords.CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(VOCAB, CoreConstants.EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(JsonLdKeywords.CONTEXT, newContextObject);
-            }
+        //only inject the vocab if the @context is an object, not a URL, the input is not copied otherwise
+        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(VOCAB, CoreConstants.EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json)
+                    .add(JsonLdKeywords.CONTEXT, newContextObject)
+                    .build();
         }
-        return jsonObjectBuilder.build();
+        return json;
+    }
+
+    private JsonDocument createContextDocument(String scope) {
+        return JsonDocument.of(createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonValue createContext(String scope) {
@@ -207,10 +212,15 @@ public class TitaniumJsonLd implements JsonLd {
 
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
+        private static final int MAX_HTTP_DOCUMENTS = 100;
+        private static final Set<String> HTTP_SCHEMES = Set.of("http", "https");
+
+        private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+        private final Map<URI, Document> documentCache = new ConcurrentHashMap<>();
+        private final Map<URI, HttpDocument> httpDocumentCache = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
         private final Monitor monitor;
+        private final long httpCacheValidity;
 
         CachedDocumentLoader(JsonLdConfiguration configuration, Monitor monitor) {
             loader = new SchemeRouter()
@@ -219,6 +229,7 @@ public class TitaniumJsonLd implements JsonLd {
                     .set("file", new FileLoader())
                     .set("jar", new JarLoader());
             this.monitor = monitor;
+            this.httpCacheValidity = configuration.getHttpCacheValidity();
         }
 
         @Override
@@ -230,6 +241,8 @@ public class TitaniumJsonLd implements JsonLd {
             var document = documentCache.get(uri);
             if (document != null) {
                 return document;
+            } else if (httpCacheValidity > 0 && HTTP_SCHEMES.contains(uri.getScheme())) {
+                return loadHttpDocument(uri, options);
             } else {
                 return loader.loadDocument(uri, options);
             }
@@ -244,6 +257,26 @@ public class TitaniumJsonLd implements JsonLd {
             }
         }
 
+        private Document loadHttpDocument(URI uri, DocumentLoaderOptions options) throws JsonLdError {
+            var now = System.currentTimeMillis();
+            var cached = httpDocumentCache.get(uri);
+            if (cached != null && now < cached.expiresAt()) {
+                return cached.document();
+            }
+
+            var document = loader.loadDocument(uri, options);
+            if (httpDocumentCache.size() >= MAX_HTTP_DOCUMENTS) {
+                httpDocumentCache.values().removeIf(it -> now >= it.expiresAt());
+            }
+            if (httpDocumentCache.size() < MAX_HTTP_DOCUMENTS) {
+                httpDocumentCache.put(uri, new HttpDocument(document, now + httpCacheValidity));
+            }
+            return document;
+        }
+
+        private record HttpDocument(Document document, long expiresAt) {
+        }
+
     }
 
 }
@@ -369,6 +369,50 @@ class TitaniumJsonLdTest {
 
     }
 
+    @Test
+    void documentResolution_shouldReuseHttpDocument_whenHttpCacheIsEnabled() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response(TestUtils.getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = defaultService(JsonLdConfiguration.Builder.newInstance().httpEnabled(true).httpCacheValidity(60_000).build());
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(HttpRequest.request().withMethod("GET"), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldLoadHttpDocumentEveryTime_whenHttpCacheIsDisabled() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response(TestUtils.getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = httpEnabledService();
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(HttpRequest.request().withMethod("GET"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void compact_shouldUseNamespace_whenRegisteredAfterCompaction() {
+        var ns = "https://test.org/schema/";
+        var expanded = createObjectBuilder()
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value")))
+                .build();
+        var service = defaultService();
+        assertThat(service.compact(expanded)).isSucceeded();
+
+        service.registerNamespace("ns", ns);
+
+        assertThat(service.compact(expanded)).isSucceeded().satisfies(c -> Assertions.assertThat(c.getString("ns:key")).isEqualTo("value"));
+    }
+
     private JsonLd httpEnabledService() {
         return new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).build());
     }
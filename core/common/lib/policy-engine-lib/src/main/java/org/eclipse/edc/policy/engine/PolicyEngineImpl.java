@@ -40,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -62,6 +63,8 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final List<ValidatorRuleEntry<? extends PolicyContext>> preValidators = new ArrayList<>();
     private final List<ValidatorRuleEntry<? extends PolicyContext>> postValidators = new ArrayList<>();
 
+    private final Map<Class<?>, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
+
     private final ScopeFilter scopeFilter;
     private final RuleValidator ruleValidator;
 
@@ -81,10 +84,9 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public <C extends PolicyContext> Result<Void> evaluate(Policy policy, C context) {
-        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(context.getClass());
+        var functions = scopedFunctions.computeIfAbsent(context.getClass(), this::scopedFunctions);
 
-        var preValidationFailure = preValidators.stream()
-                .filter(isScoped)
+        var preValidationFailure = functions.preValidators().stream()
                 .map(it -> (PolicyValidatorRule<C>) it.rule())
                 .filter(it -> !it.apply(policy, context))
                 .findFirst();
@@ -95,51 +97,44 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-
-        ruleFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    }
-                });
-
-        constraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionFunction(entry.key, (operator, value, permission) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, prohibition, context));
-                    }
-                });
-
-        dynamicConstraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, prohibition, context));
-                    }
-                });
+        functions.ruleFunctions().forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dutyRuleFunction((rule) ->
+                        ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.permissionRuleFunction((rule) ->
+                        ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.prohibitionRuleFunction((rule) ->
+                        ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
+            }
+        });
+
+        functions.constraintFunctions().forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
+                        ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, duty, context));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.permissionFunction(entry.key, (operator, value, permission) ->
+                        ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, permission, context));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) ->
+                        ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, prohibition, context));
+            }
+        });
+
+        functions.dynamicConstraintFunctions().forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) ->
+                        ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, duty, context));
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) ->
+                        ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, permission, context));
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) ->
+                        ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, prohibition, context));
+            }
+        });
 
         var evaluator = evalBuilder.build();
 
@@ -149,8 +144,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var postValidationFailure = postValidators.stream()
-                    .filter(isScoped)
+            var postValidationFailure = functions.postValidators().stream()
                     .map(it -> (PolicyValidatorRule<C>) it.rule())
                     .filter(it -> !it.apply(policy, context))
                     .findFirst();
@@ -199,49 +193,58 @@ public class PolicyEngineImpl implements PolicyEngine {
     @Override
     public <C extends PolicyContext> void registerScope(String scope, Class<C> contextType) {
         scopes.put(scope, contextType);
+        invalidate();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType, type, key, function));
+        invalidate();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType(scope), type, key, function));
+        invalidate();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType, type, function));
+        invalidate();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType(scope), type, function));
+        invalidate();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType, type, function));
+        invalidate();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType(scope), type, function));
+        invalidate();
     }
 
     @Override
     public <C extends PolicyContext> void registerPreValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         preValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidate();
     }
 
     @Override
     public <C extends PolicyContext> void registerPostValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         postValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidate();
     }
 
     @Override
@@ -264,6 +267,25 @@ public class PolicyEngineImpl implements PolicyEngine {
         registerPostValidator(PolicyContext.class, validator);
     }
 
+    /**
+     * Select the functions that apply to a context type. The selection doesn't depend on the context instance, so it
+     * is done once per context type and reused until a new function or scope gets registered.
+     */
+    private ScopedFunctions scopedFunctions(Class<?> contextType) {
+        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(contextType);
+        return new ScopedFunctions(
+                preValidators.stream().filter(isScoped).toList(),
+                postValidators.stream().filter(isScoped).toList(),
+                ruleFunctions.stream().filter(isScoped).toList(),
+                constraintFunctions.stream().filter(isScoped).toList(),
+                dynamicConstraintFunctions.stream().filter(isScoped).toList()
+        );
+    }
+
+    private void invalidate() {
+        scopedFunctions.clear();
+    }
+
     @NotNull
     private Result<Void> failValidator(String type, PolicyValidatorRule<?> validator, PolicyContext context) {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.name()));
@@ -293,6 +315,14 @@ public class PolicyEngineImpl implements PolicyEngine {
             PolicyValidatorRule<C> rule
     ) implements FunctionEntry<C> { }
 
+    private record ScopedFunctions(
+            List<ValidatorRuleEntry<? extends PolicyContext>> preValidators,
+            List<ValidatorRuleEntry<? extends PolicyContext>> postValidators,
+            List<RuleFunctionEntry<Rule, ? extends PolicyContext>> ruleFunctions,
+            List<ConstraintFunctionEntry<Rule, ? extends PolicyContext>> constraintFunctions,
+            List<DynamicConstraintFunctionEntry<Rule, ? extends PolicyContext>> dynamicConstraintFunctions
+    ) { }
+
     private interface FunctionEntry<C extends PolicyContext> {
         Class<C> contextType();
     }
@@ -409,6 +409,19 @@ class PolicyEngineImplTest {
         verifyNoInteractions(function);
     }
 
+    @Test
+    void shouldApplyFunction_whenRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createTestPolicy();
+
+        var first = policyEngine.evaluate(policy, new TestContext());
+        policyEngine.registerFunction(TestContext.class, Prohibition.class, "foo", (op, rv, prohibition, context) -> true);
+        var second = policyEngine.evaluate(policy, new TestContext());
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isFailed();
+    }
+
     @Nested
     class TypedContext {
 
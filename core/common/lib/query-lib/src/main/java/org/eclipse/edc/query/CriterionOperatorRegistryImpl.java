@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -46,6 +45,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         registry.registerOperatorPredicate(CONTAINS, new ContainsOperatorPredicate());
         registry.registerOperatorPredicate(NOT_EQUAL, new NotEqualOperatorPredicate());
         registry.registerOperatorPredicate(LESS_THAN, new LessThanOperatorPredicate());
+        registry.registerOperatorPredicate(GREATER_THAN, new GreaterThanOperatorPredicate());
         return registry;
     }
 
@@ -71,21 +71,18 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
-
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        var operandLeft = (String) criterion.getOperandLeft();
+        var lookups = propertyLookups.stream().map(it -> it.forKey(operandLeft)).toList();
+        var operatorPredicate = predicate.forOperand(criterion.getOperandRight());
 
-            if (property == null) {
-                return false;
+        return t -> {
+            for (var lookup : lookups) {
+                var property = lookup.apply(t);
+                if (property != null) {
+                    return operatorPredicate.test(property);
+                }
             }
-
-            return predicate.test(property, criterion.getOperandRight());
+            return false;
         };
 
     }
@@ -16,21 +16,26 @@ package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public class IlikeOperatorPredicate implements OperatorPredicate {
     @Override
     public boolean test(Object property, Object operandRight) {
+        return forOperand(operandRight).test(property);
+    }
+
+    @Override
+    public Predicate<Object> forOperand(Object operandRight) {
         if (operandRight instanceof String stringOperand) {
             var regexPattern = Pattern.quote(stringOperand.toLowerCase())
                     .replace("%", "\\E.*\\Q")
                     .replace("_", "\\E.\\Q");
 
-            return Pattern.compile("^" + regexPattern + "$")
-                    .matcher(property.toString().toLowerCase())
-                    .matches();
+            var pattern = Pattern.compile("^" + regexPattern + "$");
+            return property -> pattern.matcher(property.toString().toLowerCase()).matches();
         }
 
-        return false;
+        return property -> false;
     }
 }
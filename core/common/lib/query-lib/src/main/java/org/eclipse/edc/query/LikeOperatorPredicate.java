@@ -16,12 +16,18 @@ package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public class LikeOperatorPredicate implements OperatorPredicate {
 
     @Override
     public boolean test(Object property, Object operandRight) {
+        return forOperand(operandRight).test(property);
+    }
+
+    @Override
+    public Predicate<Object> forOperand(Object operandRight) {
         if (operandRight instanceof String stringOperand) {
             var regexPattern = Pattern.quote(stringOperand)
                     .replace("%", "\\E.*\\Q")
@@ -29,9 +35,10 @@ public class LikeOperatorPredicate implements OperatorPredicate {
 
             regexPattern = "^" + regexPattern + "$";
 
-            return Pattern.compile(regexPattern).matcher(property.toString()).matches();
+            var pattern = Pattern.compile(regexPattern);
+            return property -> pattern.matcher(property.toString()).matches();
         }
 
-        return false;
+        return property -> false;
     }
 }
@@ -18,6 +18,8 @@ import org.eclipse.edc.spi.query.PropertyLookup;
 import org.eclipse.edc.util.reflection.ReflectionException;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.function.Function;
+
 public class ReflectionPropertyLookup implements PropertyLookup {
     @Override
     public Object getProperty(String key, Object object) {
@@ -27,4 +29,16 @@ public class ReflectionPropertyLookup implements PropertyLookup {
             return null;
         }
     }
+
+    @Override
+    public Function<Object, Object> forKey(String key) {
+        var accessor = ReflectionUtil.fieldAccessor(key);
+        return object -> {
+            try {
+                return accessor.apply(object);
+            } catch (ReflectionException e) {
+                return null;
+            }
+        };
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.query;
 
 import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.eclipse.edc.spi.query.PropertyLookup;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -23,8 +24,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CriterionOperatorRegistryImplTest {
@@ -80,7 +82,7 @@ class CriterionOperatorRegistryImplTest {
 
         @Test
         void shouldConvertUsingTheRegisteredConverter() {
-            OperatorPredicate predicate = mock();
+            var predicate = operatorPredicate();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("operator", predicate);
             registry.registerPropertyLookup((key, object) -> "propertyValue");
@@ -94,7 +96,7 @@ class CriterionOperatorRegistryImplTest {
 
         @Test
         void shouldIgnoreOperatorCase() {
-            OperatorPredicate predicate = mock();
+            var predicate = operatorPredicate();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("OPerATOr", predicate);
             registry.registerPropertyLookup((key, object) -> "propertyValue");
@@ -108,7 +110,7 @@ class CriterionOperatorRegistryImplTest {
 
         @Test
         void shouldReturnAlwaysFalsePredicate_whenPropertyCannotBeFound() {
-            OperatorPredicate predicate = mock();
+            var predicate = operatorPredicate();
             when(predicate.test(any(), any())).thenReturn(true);
             registry.registerOperatorPredicate("operator", predicate);
             registry.registerPropertyLookup((key, object) -> null);
@@ -117,7 +119,25 @@ class CriterionOperatorRegistryImplTest {
             var result = registry.toPredicate(criterion).test("any");
 
             assertThat(result).isFalse();
-            verifyNoInteractions(predicate);
+            verify(predicate, never()).test(any(), any());
+        }
+
+        @Test
+        void shouldPrepareLookupAndOperandOnce() {
+            var predicate = operatorPredicate();
+            when(predicate.test(any(), any())).thenReturn(true);
+            registry.registerOperatorPredicate("operator", predicate);
+            PropertyLookup propertyLookup = mock();
+            when(propertyLookup.forKey(any())).thenReturn(object -> "propertyValue");
+            registry.registerPropertyLookup(propertyLookup);
+
+            var result = registry.toPredicate(criterion("any", "operator", "operandRight"));
+
+            assertThat(result.test("first")).isTrue();
+            assertThat(result.test("second")).isTrue();
+            verify(propertyLookup).forKey("any");
+            verify(predicate).forOperand("operandRight");
+            verify(predicate, times(2)).test("propertyValue", "operandRight");
         }
     }
 
@@ -128,7 +148,7 @@ class CriterionOperatorRegistryImplTest {
         void shouldUseLatestPropertyLookup() {
             registry.registerPropertyLookup((key, object) -> "firstOne");
             registry.registerPropertyLookup((key, object) -> "secondOne");
-            OperatorPredicate operatorPredicate = mock();
+            var operatorPredicate = operatorPredicate();
             registry.registerOperatorPredicate("=", operatorPredicate);
 
             registry.toPredicate(criterion("any", "=", "value")).test("any");
@@ -140,7 +160,7 @@ class CriterionOperatorRegistryImplTest {
         void shouldUseLatestPropertyLookupThatDidNotReturnNull() {
             registry.registerPropertyLookup((key, object) -> "firstOne");
             registry.registerPropertyLookup((key, object) -> null);
-            OperatorPredicate operatorPredicate = mock();
+            var operatorPredicate = operatorPredicate();
             registry.registerOperatorPredicate("=", operatorPredicate);
 
             registry.toPredicate(criterion("any", "=", "value")).test("any");
@@ -149,4 +169,10 @@ class CriterionOperatorRegistryImplTest {
         }
     }
 
+    private OperatorPredicate operatorPredicate() {
+        OperatorPredicate predicate = mock();
+        when(predicate.forOperand(any())).thenCallRealMethod();
+        return predicate;
+    }
+
 }
@@ -43,4 +43,18 @@ class LikeOperatorPredicateTest {
         assertThat(predicate.test("invalid", "%test%")).isFalse();
     }
 
+    @Test
+    void forOperand_shouldMatchEveryProperty() {
+        var prepared = predicate.forOperand("%test_");
+
+        assertThat(prepared.test("this is a test1")).isTrue();
+        assertThat(prepared.test("test2")).isTrue();
+        assertThat(prepared.test("test")).isFalse();
+    }
+
+    @Test
+    void forOperand_shouldNotMatch_whenOperandIsNotString() {
+        assertThat(predicate.forOperand(1).test("1")).isFalse();
+    }
+
 }
@@ -19,7 +19,11 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +207,23 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    };
+
+    private static final Map<Class<?>, Optional<ArgumentHandler>> HANDLERS_BY_CLASS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the handler of an argument, resolved once for every argument class.
+     *
+     * @param argument the argument
+     * @return the handler, empty if no handler accepts the argument
+     */
+    static Optional<ArgumentHandler> forArgument(Object argument) {
+        if (argument == null) {
+            return Optional.of(NULL);
+        }
+        return HANDLERS_BY_CLASS.computeIfAbsent(argument.getClass(), type -> Arrays.stream(values())
+                .filter(it -> it.accepts(argument))
+                .<ArgumentHandler>map(it -> it)
+                .findFirst());
     }
 }
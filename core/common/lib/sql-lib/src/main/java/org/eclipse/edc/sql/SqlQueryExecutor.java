@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -60,6 +60,34 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        var rowsChanged = new int[arguments.size()];
+        try (var statement = connection.prepareStatement(sql)) {
+            var executed = 0;
+            for (var index = 0; index < arguments.size(); index++) {
+                setArguments(statement, arguments.get(index));
+                statement.addBatch();
+                if (index - executed + 1 == configuration.batchSize() || index == arguments.size() - 1) {
+                    var batchRowsChanged = statement.executeBatch();
+                    System.arraycopy(batchRowsChanged, 0, rowsChanged, executed, batchRowsChanged.length);
+                    executed = index + 1;
+                }
+            }
+            return rowsChanged;
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
@@ -106,8 +134,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument).orElse(null);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
@@ -17,12 +17,17 @@ package org.eclipse.edc.sql;
 /**
  * Configuration class for {@link SqlQueryExecutor}
  */
-public record SqlQueryExecutorConfiguration(int fetchSize) {
+public record SqlQueryExecutorConfiguration(int fetchSize, int batchSize) {
 
     public static final String DEFAULT_EDC_SQL_FETCH_SIZE = "5000";
+    public static final String DEFAULT_EDC_SQL_BATCH_SIZE = "1000";
+
+    public SqlQueryExecutorConfiguration(int fetchSize) {
+        this(fetchSize, Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
+    }
 
     public static SqlQueryExecutorConfiguration ofDefaults() {
-        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
+        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE), Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
     }
 
 }
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
@@ -105,6 +106,34 @@ public class SqlExecuteStatement {
         return format("INSERT INTO %s (%s) VALUES (%s);", tableName, columnValues.columnName(), columnValues.value());
     }
 
+    /**
+     * Gives a SQL upsert statement ({@code INSERT ... ON CONFLICT ... DO UPDATE}, as supported by Postgres): the row gets
+     * inserted, or, if a row with the same conflict column value already exists, its columns get updated with the
+     * inserted values. The statement has no trailing semicolon, so that further assignments, a where condition and a
+     * returning clause can be appended to it.
+     *
+     * @param tableName the table name.
+     * @param conflictColumn the column on which the conflict is detected, usually the primary key.
+     * @param insertOnlyColumns the columns that are not updated on conflict.
+     * @return sql upsert statement.
+     */
+    public String upsertInto(String tableName, String conflictColumn, String... insertOnlyColumns) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create UPSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+        var notUpdated = Stream.concat(Stream.of(conflictColumn), Arrays.stream(insertOnlyColumns)).toList();
+        var assignments = columnEntries.stream()
+                .map(ColumnEntry::columnName)
+                .filter(column -> !notUpdated.contains(column))
+                .map(column -> format("%s = EXCLUDED.%s", column, column))
+                .collect(joining(", "));
+
+        return format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s",
+                tableName, columnValues.columnName(), columnValues.value(), conflictColumn, assignments);
+    }
+
     /**
      * Gives a SQL update statement.
      *
@@ -26,8 +26,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +102,25 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var rows = IntStream.range(0, 5).mapToObj(i -> new Object[]{ "key" + i, "value" + i }).toList();
+
+        var rowsChanged = executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows);
+
+        assertThat(rowsChanged).containsExactly(1, 1, 1, 1, 1);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    void executeBatch_shouldFail_whenRowViolatesConstraint(Connection connection) {
+        var rows = List.of(new Object[]{ "key", "value" }, new Object[]{ "key", "other value" });
+
+        assertThatThrownBy(() -> executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows))
+                .isInstanceOf(EdcPersistenceException.class);
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
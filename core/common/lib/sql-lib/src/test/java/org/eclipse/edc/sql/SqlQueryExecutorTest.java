@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql;
 
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,8 +31,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +59,46 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldPrepareOnceAndExecuteInBatches() throws SQLException {
+        var batchExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 2));
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 }, new int[]{ 0 });
+
+        var rowsChanged = batchExecutor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a", 1 }, new Object[]{ "b", 2 }, new Object[]{ "c", 3 }));
+
+        assertThat(rowsChanged).containsExactly(1, 1, 0);
+        verify(connection, times(1)).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).setString(1, "c");
+        verify(preparedStatement).setInt(2, 3);
+        verify(preparedStatement).close();
+    }
+
+    @Test
+    void executeBatch_shouldNotPrepareStatement_whenNoArguments() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+
+        var rowsChanged = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(rowsChanged).isEmpty();
+        verify(connection, never()).prepareStatement(any());
+    }
+
+    @Test
+    void executeBatch_shouldThrowPersistenceException_whenBatchFails() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("error"));
+
+        assertThatThrownBy(() -> executor.executeBatch(connection, DUMMY_SQL, List.<Object[]>of(new Object[]{ "a" })))
+                .isInstanceOf(EdcPersistenceException.class);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
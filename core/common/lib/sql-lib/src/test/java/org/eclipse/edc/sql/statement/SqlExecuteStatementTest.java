@@ -53,6 +53,40 @@ class SqlExecuteStatementTest {
         }
     }
 
+    @Nested
+    class Upsert {
+
+        @Test
+        void shouldThrowException_whenNoColumnSpecified() {
+            assertThatThrownBy(() -> SqlExecuteStatement.newInstance("::json").upsertInto("table_name", "id"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldReturnStatement_whenThereAreSimpleColumns() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .column("another_column_name")
+                    .upsertInto("table_name", "id");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name, another_column_name) values (?, ?, ?) " +
+                    "on conflict (id) do update set column_name = excluded.column_name, another_column_name = excluded.another_column_name");
+        }
+
+        @Test
+        void shouldNotUpdateInsertOnlyColumns() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("created_at")
+                    .jsonColumn("column_name")
+                    .upsertInto("table_name", "id", "created_at");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, created_at, column_name) values (?, ?, ?::json) " +
+                    "on conflict (id) do update set column_name = excluded.column_name");
+        }
+    }
+
     @Nested
     class Update {
 
@@ -16,6 +16,7 @@ package org.eclipse.edc.statemachine;
 
 import org.eclipse.edc.spi.entity.StateEntityManager;
 import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
@@ -24,10 +25,14 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -41,23 +46,34 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_WORKERS = StateMachineManager.DEFAULT_WORKERS;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected int workers = DEFAULT_WORKERS;
+    protected WriteBehindMode writeBehindMode = WriteBehindMode.DISABLED;
+    protected Supplier<WaitStrategy> waitStrategyFactory = () -> () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
+    protected TransactionContext transactionContext = new NoopTransactionContext();
+    protected EventRouter eventRouter;
     protected S store;
+    private final WriteBehindBuffer<E> writeBehindBuffer = new WriteBehindBuffer<>(entities -> store.saveAll(entities));
 
     @Override
     public void start() {
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategyFactory)
+                .workers(workers);
+        if (writeBehindMode == WriteBehindMode.BATCH) {
+            stateMachineManagerBuilder.processorDecorator(processor -> () -> writeBehindBuffer.run(processor::process));
+        }
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
+        store.onStateChange(stateMachineManager::wakeUp);
 
         stateMachineManager.start();
     }
@@ -82,15 +98,76 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
     }
 
+    /**
+     * Wraps the processing function of a processor, so that with write-behind enabled the updates made while
+     * processing an entity are persisted once, when the function completes. The updates that publish events, see
+     * {@link #update(StatefulEntity, Runnable)}, are not buffered.
+     *
+     * @param process the processing function.
+     * @return the wrapped function.
+     */
+    protected Function<E, Boolean> writeBehind(Function<E, Boolean> process) {
+        if (writeBehindMode == WriteBehindMode.DISABLED) {
+            return process;
+        }
+        return entity -> writeBehindBuffer.run(() -> process.apply(entity));
+    }
+
+    /**
+     * Persists the pending update of the entity right away when write-behind is enabled. It must be called before
+     * handing the entity over to asynchronous work that reloads or leases it, otherwise that work would observe the
+     * entity as it was before the buffered update and still leased.
+     *
+     * @param entity the entity.
+     */
+    protected void flush(E entity) {
+        if (writeBehindMode != WriteBehindMode.DISABLED) {
+            writeBehindBuffer.flush(entity);
+        }
+    }
+
     protected void update(E entity) {
-        store.save(entity);
-        monitor.debug(() -> "[%s] %s %s is now in state %s"
-                .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
-                        entity.getId(), entity.stateAsString()));
+        save(entity);
+        logUpdate(entity);
+    }
+
+    /**
+     * Persists the entity and publishes the events of its transition. Only the transactional subscribers of the
+     * {@link EventRouter}, e.g. the outbox writers, are notified in the transaction of the update, so that what they
+     * write is committed together with the new state. The other subscribers are notified once the transaction is
+     * committed, so that e.g. a remote callback neither holds the transaction open nor rolls the update back when it
+     * fails. Without an event router all the events are published after the commit. The update is never buffered by
+     * write-behind, otherwise the events would be committed before the state change or without it.
+     *
+     * @param entity the entity.
+     * @param publish publishes the events of the transition.
+     */
+    protected void update(E entity, Runnable publish) {
+        var notifySubscribers = transactionContext.execute(() -> {
+            if (writeBehindMode != WriteBehindMode.DISABLED) {
+                writeBehindBuffer.discard(entity);
+            }
+            store.save(entity);
+            logUpdate(entity);
+            return eventRouter != null ? eventRouter.deferring(publish) : publish;
+        });
+        notifySubscribers.run();
     }
 
     protected void breakLease(E entity) {
-        store.save(entity);
+        save(entity);
+    }
+
+    private void save(E entity) {
+        if (writeBehindMode == WriteBehindMode.DISABLED || !writeBehindBuffer.offer(entity)) {
+            store.save(entity);
+        }
+    }
+
+    private void logUpdate(E entity) {
+        monitor.debug(() -> "[%s] %s %s is now in state %s"
+                .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
+                        entity.getId(), entity.stateAsString()));
     }
 
     public abstract static class Builder<E extends StatefulEntity<E>, S extends StateEntityStore<E>, M extends AbstractStateEntityManager<E, S>, B extends Builder<E, S, M, B>> {
@@ -113,8 +190,42 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Number of workers used by the state machine to run the processors, see {@link StateMachineManager.Builder#workers(int)}.
+         *
+         * @param workers the number of workers.
+         * @return the builder.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
+        /**
+         * Defines how the updates made by the processors are persisted, see {@link WriteBehindMode}.
+         *
+         * @param writeBehindMode the write-behind mode.
+         * @return the builder.
+         */
+        public B writeBehindMode(WriteBehindMode writeBehindMode) {
+            manager.writeBehindMode = writeBehindMode;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategyFactory = () -> waitStrategy;
+            return self();
+        }
+
+        /**
+         * Factory of the wait strategies, called once for every state machine loop so that the loops don't share the
+         * same back-off state, see {@link StateMachineManager.Builder#workers(int)}.
+         *
+         * @param waitStrategyFactory the wait strategy factory.
+         * @return the builder.
+         */
+        public B waitStrategyFactory(Supplier<WaitStrategy> waitStrategyFactory) {
+            manager.waitStrategyFactory = waitStrategyFactory;
             return self();
         }
 
@@ -138,6 +249,30 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Transaction context in which an entity update and the notification of the transactional subscribers of the
+         * events of its transition are run.
+         *
+         * @param transactionContext the transaction context.
+         * @return the builder.
+         */
+        public B transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return self();
+        }
+
+        /**
+         * Event router to which the events of the entity transitions are published, used to notify its non-transactional
+         * subscribers only after the update is committed.
+         *
+         * @param eventRouter the event router.
+         * @return the builder.
+         */
+        public B eventRouter(EventRouter eventRouter) {
+            manager.eventRouter = eventRouter;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
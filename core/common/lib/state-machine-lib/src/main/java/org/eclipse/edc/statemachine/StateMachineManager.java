@@ -22,10 +22,16 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,27 +41,36 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When configured with more than one worker, every processor runs in its own loop on a bounded pool of worker threads,
+ * so a slow processor does not hold up the others. A processor that processed at least one entity is re-queued
+ * immediately, while an idle one waits as dictated by its own wait strategy. Since a single processor loop never runs
+ * concurrently with itself and an entity is handled by a single processor at once, per-entity ordering is preserved.
+ * <p>
+ * Waiting loops can be woken up through {@link #wakeUp()}, e.g. when a store notifies that an entity changed state,
+ * in this case the wait strategy acts only as a polling fallback.
  */
 public class StateMachineManager {
 
+    public static final int DEFAULT_WORKERS = 1;
+
     private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<Loop> loops = new CopyOnWriteArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final Supplier<WaitStrategy> waitStrategyFactory;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private ScheduledExecutorService executor;
     private int shutdownTimeout = 10;
+    private int workers = DEFAULT_WORKERS;
+    private UnaryOperator<Processor> processorDecorator = UnaryOperator.identity();
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategyFactory) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.waitStrategyFactory = waitStrategyFactory;
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -65,7 +80,14 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        if (workers > 1) {
+            processors.stream().map(processor -> new Loop(List.of(processor))).forEach(loops::add);
+            loops.forEach(loop -> loop.scheduleNextIterationIn(0L));
+            return CompletableFuture.completedFuture(null);
+        }
+        var loop = new Loop(processors);
+        loops.add(loop);
+        return loop.scheduleNextIterationIn(0L);
     }
 
     /**
@@ -95,49 +117,106 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
+    /**
+     * Wakes up the loops that are currently waiting because their last iteration didn't process any entity, so that
+     * they run immediately instead of waiting for the wait strategy delay. If a loop is running at the moment, its next
+     * iteration will start without delay. Multiple wake-ups are coalesced, so it can be safely called on every entity
+     * state change.
+     */
+    public void wakeUp() {
+        loops.forEach(Loop::wakeUp);
+    }
+
+    private void initializeExecutor() {
+        var counter = new AtomicInteger();
+        var workerPool = new ScheduledThreadPoolExecutor(workers, r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName(workers > 1 ? "StateMachineManager-" + name + "-" + counter.incrementAndGet() : "StateMachineManager-" + name);
+            return thread;
+        });
+        // iterations cancelled by wake-ups would otherwise stay in the queue until their delay elapses
+        workerPool.setRemoveOnCancelPolicy(true);
+        executor = instrumentation.instrument(workerPool, name);
+    }
+
+    /**
+     * A loop that runs a set of processors sequentially, re-scheduling itself after every iteration.
+     * Every loop has its own wait strategy, so that the back-off state of an idle loop does not affect the others.
+     */
+    private class Loop {
+
+        private final List<Processor> processors;
+        private final WaitStrategy waitStrategy = waitStrategyFactory.get();
+        private ScheduledFuture<?> nextIteration;
+        private boolean wakeUpRequested;
+
+        Loop(List<Processor> processors) {
+            this.processors = processors;
+        }
+
+        synchronized void wakeUp() {
+            if (nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                scheduleNextIterationIn(0L);
+            } else {
+                wakeUpRequested = true;
+            }
+        }
+
+        @NotNull
+        synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+            var delay = wakeUpRequested ? 0L : delayMillis;
+            wakeUpRequested = false;
+            nextIteration = executor.schedule(this::run, delay, MILLISECONDS);
+            return nextIteration;
+        }
+
+        private void run() {
             if (active.get()) {
                 performLogic();
             }
-        };
-    }
+        }
 
-    private void performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+        private void performLogic() {
+            try {
+                var processed = processors.stream()
+                        .mapToLong(Processor::process)
+                        .sum();
 
-            waitStrategy.success();
+                waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+                var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+                scheduleNextIterationIn(delay);
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", name), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
         }
     }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
-    }
-
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategyFactory) {
+            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategyFactory);
         }
 
+        /**
+         * Create a builder whose loops all share the same wait strategy.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return new Builder(name, monitor, instrumentation, () -> waitStrategy);
+        }
+
+        /**
+         * Create a builder whose loops get their own wait strategy from the factory, see {@link #workers(int)}.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategyFactory) {
+            return new Builder(name, monitor, instrumentation, waitStrategyFactory);
         }
 
         public Builder processor(Processor processor) {
@@ -150,7 +229,35 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Number of worker threads that run the processors. With a single worker (default) the processors are run
+         * sequentially, with more workers every processor runs in its own loop on the bounded worker pool.
+         *
+         * @param workers the number of workers.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            loop.workers = workers;
+            return this;
+        }
+
+        /**
+         * Decorator applied to every registered processor on build, e.g. to run some logic around every execution.
+         *
+         * @param decorator the decorator.
+         * @return the builder.
+         */
+        public Builder processorDecorator(UnaryOperator<Processor> decorator) {
+            loop.processorDecorator = decorator;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.workers < 1) {
+                throw new IllegalArgumentException("StateMachineManager workers must be greater than 0, but was " + loop.workers);
+            }
+            loop.processors.replaceAll(loop.processorDecorator);
+            loop.initializeExecutor();
             return loop;
         }
     }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Buffers the entity updates made in a unit of work and flushes them when the unit of work ends, so that an entity
+ * updated multiple times gets persisted once.
+ * A unit of work is bound to the thread that runs it, updates coming from other threads (e.g. asynchronous
+ * callbacks) are not buffered: when they save the same entity instance they supersede its buffered update, that won't
+ * be flushed. Entities that are handed over to asynchronous work need to be flushed first through {@link #flush}.
+ *
+ * @param <E> the entity type.
+ */
+class WriteBehindBuffer<E extends StatefulEntity<E>> {
+
+    private final Map<String, E> pending = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> unitOfWork = new ThreadLocal<>();
+    private final Consumer<List<E>> flush;
+
+    WriteBehindBuffer(Consumer<List<E>> flush) {
+        this.flush = flush;
+    }
+
+    /**
+     * Runs the work in a unit of work, flushing the buffered entities at the end. If a unit of work is already active
+     * on the current thread the work becomes part of it.
+     *
+     * @param work the work.
+     * @return the work result.
+     */
+    <T> T run(Supplier<T> work) {
+        if (unitOfWork.get() != null) {
+            return work.get();
+        }
+
+        var ids = new LinkedHashSet<String>();
+        unitOfWork.set(ids);
+        try {
+            return work.get();
+        } finally {
+            unitOfWork.remove();
+            var entities = ids.stream().map(pending::remove).filter(Objects::nonNull).toList();
+            if (!entities.isEmpty()) {
+                flush.accept(entities);
+            }
+        }
+    }
+
+    /**
+     * Buffers the entity if a unit of work is active on the current thread.
+     *
+     * @param entity the entity.
+     * @return true if the entity has been buffered, false if it needs to be persisted by the caller.
+     */
+    boolean offer(E entity) {
+        var ids = unitOfWork.get();
+        if (ids == null) {
+            // only the same instance carries the buffered changes, a different one must not make them get lost
+            pending.remove(entity.getId(), entity);
+            return false;
+        }
+
+        ids.add(entity.getId());
+        pending.put(entity.getId(), entity);
+        return true;
+    }
+
+    /**
+     * Drops the buffered update of the entity, because the caller persists the entity itself.
+     *
+     * @param entity the entity.
+     */
+    void discard(E entity) {
+        var ids = unitOfWork.get();
+        if (pending.remove(entity.getId(), entity) && ids != null) {
+            ids.remove(entity.getId());
+        }
+    }
+
+    /**
+     * Persists the buffered update of the entity right away, if it's part of the unit of work of the current thread.
+     *
+     * @param entity the entity.
+     */
+    void flush(E entity) {
+        var ids = unitOfWork.get();
+        if (ids == null || !ids.remove(entity.getId())) {
+            return;
+        }
+
+        var buffered = pending.remove(entity.getId());
+        if (buffered != null) {
+            flush.accept(List.of(buffered));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+/**
+ * Defines how the entity updates made by the state machine processors are persisted.
+ */
+public enum WriteBehindMode {
+
+    /**
+     * Every update is persisted immediately.
+     */
+    DISABLED,
+
+    /**
+     * The updates made while processing an entity are buffered and the entity is persisted once at the end.
+     */
+    ENTITY,
+
+    /**
+     * The updates made during a whole processor run are buffered and all the entities are persisted at once at the end.
+     */
+    BATCH;
+
+    /**
+     * Parses the write-behind mode, case-insensitive.
+     *
+     * @param value the value.
+     * @return the write-behind mode.
+     * @throws IllegalArgumentException if the value is not a valid write-behind mode.
+     */
+    public static WriteBehindMode from(String value) {
+        return valueOf(value.toUpperCase());
+    }
+}
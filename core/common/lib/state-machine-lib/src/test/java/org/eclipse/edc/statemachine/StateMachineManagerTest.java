@@ -21,13 +21,20 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -66,6 +73,26 @@ class StateMachineManagerTest {
         });
     }
 
+    @Test
+    void shouldRunDecoratedProcessors() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var decorated = mock(Processor.class);
+        when(decorated.process()).thenAnswer(i -> processor.process());
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processorDecorator(p -> decorated)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(decorated, atLeastOnce()).process();
+            verify(processor, atLeastOnce()).process();
+        });
+        stateMachine.stop();
+    }
+
     @Test
     void shouldNotWaitForSomeTimeIfTheresAtLeastOneProcessedEntity() throws InterruptedException {
         var processor = mock(Processor.class);
@@ -135,4 +162,83 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunProcessorsConcurrently_whenMoreWorkersAreConfigured() {
+        var slowProcessorLatch = new CountDownLatch(1);
+        var slowProcessor = mock(Processor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            slowProcessorLatch.await();
+            return 1L;
+        });
+        var fastProcessor = mock(Processor.class);
+        when(fastProcessor.process()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor(fastProcessor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(slowProcessor).process();
+            verify(fastProcessor, atLeast(5)).process();
+        });
+        slowProcessorLatch.countDown();
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldUseOwnWaitStrategyForEveryLoop() {
+        var idleProcessor = mock(Processor.class);
+        when(idleProcessor.process()).thenReturn(0L);
+        var otherIdleProcessor = mock(Processor.class);
+        when(otherIdleProcessor.process()).thenReturn(0L);
+        var idleWaitStrategy = mock(WaitStrategy.class);
+        when(idleWaitStrategy.waitForMillis()).thenReturn(1L);
+        var otherIdleWaitStrategy = mock(WaitStrategy.class);
+        when(otherIdleWaitStrategy.waitForMillis()).thenReturn(1L);
+        var waitStrategies = List.of(idleWaitStrategy, otherIdleWaitStrategy).iterator();
+        Supplier<WaitStrategy> waitStrategyFactory = waitStrategies::next;
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategyFactory)
+                .processor(idleProcessor)
+                .processor(otherIdleProcessor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(idleWaitStrategy, atLeast(2)).waitForMillis();
+            verify(otherIdleWaitStrategy, atLeast(2)).waitForMillis();
+        });
+        assertThat(waitStrategies.hasNext()).isFalse();
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var waitStrategy = mock(WaitStrategy.class);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor).process());
+
+        stateMachine.wakeUp();
+
+        await().untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldThrowException_whenWorkersIsNotPositive() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy).workers(0);
+
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.statemachine.retry.TestEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WriteBehindBufferTest {
+
+    private final Consumer<List<TestEntity>> flush = mock();
+    private final WriteBehindBuffer<TestEntity> buffer = new WriteBehindBuffer<>(flush);
+
+    @Test
+    void offer_shouldNotBuffer_whenNoUnitOfWorkIsActive() {
+        var buffered = buffer.offer(TestEntity.Builder.newInstance().id("id").build());
+
+        assertThat(buffered).isFalse();
+        verifyNoInteractions(flush);
+    }
+
+    @Test
+    void run_shouldFlushEveryEntityOnce() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var another = TestEntity.Builder.newInstance().id("another").build();
+
+        var result = buffer.run(() -> {
+            buffer.offer(entity);
+            buffer.offer(another);
+            buffer.offer(entity);
+            verifyNoInteractions(flush);
+            return true;
+        });
+
+        assertThat(result).isTrue();
+        verify(flush).accept(List.of(entity, another));
+    }
+
+    @Test
+    void run_shouldNotFlush_whenNothingHasBeenBuffered() {
+        buffer.run(() -> true);
+
+        verifyNoInteractions(flush);
+    }
+
+    @Test
+    void run_shouldFlushWithOuterUnitOfWork_whenNested() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var another = TestEntity.Builder.newInstance().id("another").build();
+
+        buffer.run(() -> {
+            buffer.run(() -> buffer.offer(entity));
+            buffer.run(() -> buffer.offer(another));
+            verifyNoInteractions(flush);
+            return true;
+        });
+
+        verify(flush).accept(List.of(entity, another));
+    }
+
+    @Test
+    void run_shouldFlush_whenWorkFails() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+
+        assertThatThrownBy(() -> buffer.run(() -> {
+            buffer.offer(entity);
+            throw new RuntimeException("error");
+        })).isInstanceOf(RuntimeException.class);
+
+        verify(flush).accept(List.of(entity));
+    }
+
+    @Test
+    void run_shouldNotFlushEntity_whenItHasBeenSavedByAnotherThread() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+
+        buffer.run(() -> {
+            buffer.offer(entity);
+            return CompletableFuture.supplyAsync(() -> buffer.offer(entity)).join();
+        });
+
+        verify(flush, never()).accept(any());
+    }
+
+    @Test
+    void run_shouldFlushEntity_whenAnotherInstanceHasBeenSavedByAnotherThread() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var reloaded = TestEntity.Builder.newInstance().id("id").build();
+
+        buffer.run(() -> {
+            buffer.offer(entity);
+            return CompletableFuture.supplyAsync(() -> buffer.offer(reloaded)).join();
+        });
+
+        verify(flush).accept(List.of(entity));
+    }
+
+    @Test
+    void flush_shouldPersistEntityImmediately_andNotAgainAtTheEnd() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var another = TestEntity.Builder.newInstance().id("another").build();
+
+        buffer.run(() -> {
+            buffer.offer(entity);
+            buffer.offer(another);
+            buffer.flush(entity);
+            verify(flush).accept(List.of(entity));
+            return true;
+        });
+
+        verify(flush).accept(List.of(another));
+        verify(flush, times(2)).accept(any());
+    }
+
+    @Test
+    void flush_shouldDoNothing_whenEntityIsNotBuffered() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+
+        buffer.flush(entity);
+        buffer.run(() -> {
+            buffer.flush(entity);
+            return true;
+        });
+
+        verifyNoInteractions(flush);
+    }
+
+    @Test
+    void discard_shouldNotFlushEntity() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var another = TestEntity.Builder.newInstance().id("another").build();
+
+        buffer.run(() -> {
+            buffer.offer(entity);
+            buffer.offer(another);
+            buffer.discard(entity);
+            return true;
+        });
+
+        verify(flush).accept(List.of(another));
+    }
+}
@@ -23,37 +23,44 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
-import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
- * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
- * purposes only.
+ * An in-memory, threadsafe entity store for a {@link StatefulEntity}.
+ * <p>
+ * The entities are indexed by state, ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)}
+ * only visits the entities in the requested states, oldest first, instead of filtering and sorting the whole store.
+ * Leases are acquired atomically per entity, so concurrent callers never get the same entity and don't block each
+ * other. The store keeps its own copy of every saved entity and hands out copies.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
-    private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private static final String STATE = "state";
+    private final Map<String, Stored<T>> entitiesById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<IndexKey>> stateIndex = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final List<Runnable> stateChangeListeners = new CopyOnWriteArrayList<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry, StateResolver stateResolver) {
@@ -65,77 +72,143 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @Nullable T findById(String id) {
-        var t = entitiesById.get(id);
-        if (t == null) {
+        var stored = entitiesById.get(id);
+        if (stored == null) {
             return null;
         }
-        return t.copy();
+        return stored.entity().copy();
     }
 
     @Override
-    public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+    public @Nullable Integer findStateById(String id) {
+        var stored = entitiesById.get(id);
+        if (stored == null) {
+            return null;
+        }
+        return stored.key().state();
     }
 
     @Override
-    public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
+    public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
+        var states = new ArrayList<Collection<?>>();
+        var filters = new ArrayList<Criterion>();
+        for (var criterion : criteria) {
+            var criterionStates = indexedStates(criterion);
+            if (criterionStates != null) {
+                states.add(criterionStates);
+            } else {
+                filters.add(criterion);
             }
+        }
+        var filterPredicate = filters.stream().map(criterionOperatorRegistry::<T>toPredicate).reduce(x -> true, Predicate::and);
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        var result = new ArrayList<T>();
+        var candidates = candidates(states).iterator();
+        while (result.size() < max && candidates.hasNext()) {
+            var key = candidates.next();
+            var stored = entitiesById.get(key.id());
+            if (stored == null || !stored.key().equals(key) || isLeased(key.id()) || !filterPredicate.test(stored.entity())) {
+                continue;
             }
-        });
+            var lease = tryAcquireLease(key.id());
+            if (lease == null) {
+                continue;
+            }
+            // the entity could have been saved between reading the snapshot and acquiring the lease
+            var current = entitiesById.get(key.id());
+            if (current == null || !current.key().equals(key) || !filterPredicate.test(current.entity())) {
+                leases.remove(key.id(), lease);
+                continue;
+            }
+            result.add(current.entity().copy());
+        }
+        return result;
+    }
+
+    @Override
+    public StoreResult<T> findByIdAndLease(String id) {
+        var stored = entitiesById.get(id);
+        if (stored == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
+
+        Lease lease;
+        try {
+            lease = lease(id, lockId, DEFAULT_LEASE_TIME);
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
+
+        // the entity could have been saved between reading the snapshot and acquiring the lease
+        var current = entitiesById.get(id);
+        if (current == null || !current.key().equals(stored.key())) {
+            leases.remove(id, lease);
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: it changed while being leased", id));
+        }
+        return StoreResult.success(current.entity().copy());
     }
 
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var copy = entity.copy();
+        var key = new IndexKey(copy.getState(), copy.getStateTimestamp(), copy.getId());
+        entitiesById.compute(entity.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous.key());
+            }
+            stateIndex.computeIfAbsent(key.state(), s -> new ConcurrentSkipListSet<>()).add(key);
+            return new Stored<>(copy, key);
+        });
         freeLease(entity.getId());
+        stateChangeListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public void onStateChange(Runnable listener) {
+        stateChangeListeners.add(listener);
     }
 
     public void delete(String id) {
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            unindex(previous.key());
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
-        return queryResolver.query(findAll(), querySpec);
+        // the stored snapshots are never mutated, so only the entities that match the query need to be copied
+        return queryResolver.query(storedEntities(), querySpec).map(StatefulEntity::copy);
     }
 
     public Stream<T> findAll() {
-        return entitiesById.values().stream();
+        return storedEntities().map(StatefulEntity::copy);
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
-            throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
-        }
+        lease(id, lockId, leaseTime);
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
+    }
+
+    private Lease lease(String id, String lockId, Duration leaseTime) {
+        return leases.compute(id, (key, lease) -> {
+            var now = clock.millis();
+            if (lease == null || lease.isExpired(now) || lease.getLeasedBy().equals(lockId)) {
+                return new Lease(lockId, now, leaseTime.toMillis());
+            }
+            throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
+        });
+    }
+
+    private Stream<T> storedEntities() {
+        return entitiesById.values().stream().map(Stored::entity);
     }
 
     private void freeLease(String id) {
@@ -146,8 +219,78 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         acquireLease(id, lockId, DEFAULT_LEASE_TIME);
     }
 
+    /**
+     * Acquire the lease only if nobody, including this store, holds it.
+     *
+     * @return the acquired lease, or null if the entity is leased.
+     */
+    private @Nullable Lease tryAcquireLease(String id) {
+        var now = clock.millis();
+        var lease = new Lease(lockId, now, DEFAULT_LEASE_TIME.toMillis());
+        return leases.compute(id, (key, existing) -> existing == null || existing.isExpired(now) ? lease : existing) == lease ? lease : null;
+    }
+
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private void unindex(IndexKey key) {
+        var keys = stateIndex.get(key.state());
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * The states an entity must be in to match the criterion, or null if the criterion does not filter by state.
+     */
+    private @Nullable Collection<?> indexedStates(Criterion criterion) {
+        if (!STATE.equals(criterion.getOperandLeft())) {
+            return null;
+        }
+        var operator = criterion.getOperator().toLowerCase();
+        var right = criterion.getOperandRight();
+        if ("=".equals(operator) && right instanceof Integer) {
+            return List.of(right);
+        }
+        if ("in".equals(operator) && right instanceof Collection<?> collection && collection.stream().allMatch(Integer.class::isInstance)) {
+            return collection;
+        }
+        return null;
+    }
+
+    /**
+     * The index keys of the entities in all the given sets of states, oldest first.
+     */
+    private Stream<IndexKey> candidates(List<Collection<?>> states) {
+        if (states.isEmpty()) {
+            return stateIndex.values().stream().flatMap(NavigableSet::stream).sorted();
+        }
+
+        var matching = states.get(0).stream()
+                .filter(state -> states.stream().allMatch(it -> it.contains(state)))
+                .distinct()
+                .map(stateIndex::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (matching.size() == 1) {
+            return matching.get(0).stream();
+        }
+        return matching.stream().flatMap(NavigableSet::stream).sorted();
+    }
+
+    private record IndexKey(int state, long stateTimestamp, String id) implements Comparable<IndexKey> {
+        private static final Comparator<IndexKey> ORDER = Comparator.comparingLong(IndexKey::stateTimestamp).thenComparing(IndexKey::id);
+
+        @Override
+        public int compareTo(@NotNull IndexKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Stored<T>(T entity, IndexKey key) {
     }
 
 }
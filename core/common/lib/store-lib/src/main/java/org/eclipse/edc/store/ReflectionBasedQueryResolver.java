@@ -85,9 +85,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
+        var accessor = ReflectionUtil.fieldAccessor(property);
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = accessor.apply(obj1);
+            var o2 = accessor.apply(obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
@@ -20,19 +20,26 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer resolved for an input class and an output type is cached,
+ * since the same lookup happens for every nested object that gets transformed. Registering a transformer invalidates
+ * the cache of the registry and of its context registries, which fall back to it.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
-    private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<String, TypeTransformerRegistryImpl> contextRegistries = new ConcurrentHashMap<>();
+    private final Map<TransformerKey, TypeTransformer<?, ?>> resolvedTransformers = new ConcurrentHashMap<>();
     private TypeTransformerRegistry parent;
 
     public TypeTransformerRegistryImpl() {
@@ -45,6 +52,7 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        invalidate();
     }
 
     @Override
@@ -54,12 +62,13 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .or(() -> Optional.ofNullable(parent).map(p -> p.transformerFor(input, outputType)))
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var key = new TransformerKey(input.getClass(), outputType);
+        var transformer = resolvedTransformers.get(key);
+        if (transformer == null) {
+            transformer = resolve(input, outputType);
+            resolvedTransformers.put(key, transformer);
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -76,4 +85,20 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
     }
 
+    private <INPUT, OUTPUT> TypeTransformer<?, ?> resolve(INPUT input, Class<OUTPUT> outputType) {
+        return transformers.stream()
+                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
+                .findFirst()
+                .or(() -> Optional.ofNullable(parent).map(p -> p.transformerFor(input, outputType)))
+                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+    }
+
+    private void invalidate() {
+        resolvedTransformers.clear();
+        contextRegistries.values().forEach(TypeTransformerRegistryImpl::invalidate);
+    }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
+
 }
@@ -26,6 +26,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public class TypeTransformerRegistryImplTest {
 
@@ -54,6 +55,23 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldReturnSameTransformer_whenCalledMultipleTimes() {
+            var first = registry.transformerFor("a string", Integer.class);
+            var second = registry.transformerFor("another string", Integer.class);
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        void shouldFindTransformer_whenRegisteredAfterFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
     }
 
     @Nested
@@ -103,6 +121,29 @@ public class TypeTransformerRegistryImplTest {
             verifyNoInteractions(typeTransformer);
         }
 
+        @Test
+        void shouldUseContextTransformer_whenRegisteredAfterParentTransformerWasResolved() {
+            registry.register(new IntegerStringTypeTransformer());
+            assertThat(contextRegistry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+
+            TypeTransformer<Integer, String> contextTransformer = mock();
+            when(contextTransformer.getInputType()).thenReturn(Integer.class);
+            when(contextTransformer.getOutputType()).thenReturn(String.class);
+            contextRegistry.register(contextTransformer);
+
+            assertThat(contextRegistry.transformerFor(5, String.class)).isSameAs(contextTransformer);
+        }
+
+        @Test
+        void shouldUseParentTransformer_whenRegisteredAfterFailedContextLookup() {
+            var nestedContextRegistry = contextRegistry.forContext("nestedContext");
+            assertThatThrownBy(() -> nestedContextRegistry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(nestedContextRegistry.transform(5, String.class)).isSucceeded().isEqualTo("5");
+        }
+
     }
 
     @Nested
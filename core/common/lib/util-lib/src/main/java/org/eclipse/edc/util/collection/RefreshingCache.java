@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache that loads its entries through a function, without ever holding a lock shared between keys while loading:
+ * <ul>
+ *     <li>an entry that is not cached yet is loaded by the calling thread, other threads asking for the same key wait
+ *     for that load instead of starting their own;</li>
+ *     <li>an expired entry is still returned, while it gets reloaded on the passed {@link Executor};</li>
+ *     <li>when the cache is full, the least recently used entry is evicted.</li>
+ * </ul>
+ * An entry that fails to load is removed, so that the failure is reported to the caller that asks for it next.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+public class RefreshingCache<K, V> {
+
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong accessCounter = new AtomicLong();
+    private final Function<K, V> loader;
+    private final long validity;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    /**
+     * Create a cache.
+     *
+     * @param loader          the function that loads the value of a key.
+     * @param validity        the validity of the loaded values in milliseconds.
+     * @param maxEntries      the maximum number of cached entries.
+     * @param refreshExecutor the executor that reloads the expired entries.
+     * @param clock           the clock.
+     */
+    public RefreshingCache(Function<K, V> loader, long validity, int maxEntries, Executor refreshExecutor, Clock clock) {
+        this.loader = loader;
+        this.validity = validity;
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets an entry from the cache, loading it if it's not there. If the entry is expired, it is returned as it is
+     * and reloaded in the background.
+     *
+     * @param key The key of the value to get.
+     * @return the value
+     */
+    public V get(K key) {
+        var entry = entries.computeIfAbsent(key, Entry::new);
+        entry.lastAccess = accessCounter.incrementAndGet();
+        evictLeastRecentlyUsed();
+
+        var current = entry.value;
+        if (current == null) {
+            return await(entry.load(Runnable::run));
+        }
+
+        if (current.isExpired(clock)) {
+            entry.load(refreshExecutor);
+        }
+        return current.value();
+    }
+
+    /**
+     * Explicitly removes an entry from the cache
+     *
+     * @param key the key
+     * @return the value previously associated with "key", or null if no value was associated with the key
+     */
+    public V evict(K key) {
+        var entry = entries.remove(key);
+        if (entry == null || entry.value == null) {
+            return null;
+        }
+        return entry.value.value();
+    }
+
+    /**
+     * Number of cached entries.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(it -> it.getValue().lastAccess))
+                    .ifPresent(it -> entries.remove(it.getKey(), it.getValue()));
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private final class Entry {
+        private final K key;
+        private final AtomicReference<CompletableFuture<V>> loading = new AtomicReference<>();
+        private volatile TimestampedValue<V> value;
+        private volatile long lastAccess;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        /**
+         * Load the value on the executor, unless a load is already running: in that case its future is returned.
+         */
+        private CompletableFuture<V> load(Executor executor) {
+            while (true) {
+                var running = loading.get();
+                if (running != null) {
+                    return running;
+                }
+
+                var future = new CompletableFuture<V>();
+                if (loading.compareAndSet(null, future)) {
+                    try {
+                        executor.execute(() -> run(future));
+                    } catch (RejectedExecutionException e) {
+                        loading.set(null);
+                        future.completeExceptionally(e);
+                    }
+                    return future;
+                }
+            }
+        }
+
+        private void run(CompletableFuture<V> future) {
+            try {
+                var loaded = loader.apply(key);
+                value = new TimestampedValue<>(loaded, clock.instant(), validity);
+                loading.set(null);
+                future.complete(loaded);
+            } catch (Throwable throwable) {
+                entries.remove(key, this);
+                loading.set(null);
+                future.completeExceptionally(throwable);
+            }
+        }
+    }
+}
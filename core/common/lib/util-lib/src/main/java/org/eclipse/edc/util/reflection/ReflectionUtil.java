@@ -23,12 +23,21 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 public class ReflectionUtil {
 
-    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+    private static final Pattern ARRAY_INDEXER = Pattern.compile(".*\\[([0-9])+\\]");
     private static final String OPENING_BRACKET = "[";
     private static final String CLOSING_BRACKET = "]";
+    private static final ClassValue<Map<String, Field>> ACCESSIBLE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
      * Utility function to get value of a field from an object. For field names currently the dot notation and array
@@ -47,35 +56,51 @@ public class ReflectionUtil {
         Objects.requireNonNull(propertyName, "propertyName");
         Objects.requireNonNull(object, "object");
 
-        var path = PathItem.parse(propertyName);
-        return getFieldValue(path, object);
+        return (T) fieldAccessor(propertyName).apply(object);
     }
 
-    private static <T> T getFieldValue(List<PathItem> path, Object object) {
-        var first = path.get(0);
+    /**
+     * Parses a property path once into a function that gets its value from many objects, with the same notation and
+     * semantics as {@link #getFieldValue(String, Object)}. Fields are resolved once per class and property name.
+     *
+     * @param propertyName The name of the field
+     * @return a function that gets the field's value from an object, throwing {@link ReflectionException} if the
+     *         field does not exist or is not accessible.
+     */
+    public static Function<Object, Object> fieldAccessor(String propertyName) {
+        Objects.requireNonNull(propertyName, "propertyName");
 
-        if (path.size() > 1) {
-            var nested = getFieldValue(List.of(first), object);
-            if (nested == null) {
-                return null;
+        var segments = PathItem.parse(propertyName).stream().map(PathItem::toString).map(ReflectionUtil::segment).toList();
+        return object -> {
+            var value = object;
+            for (var segment : segments) {
+                if (value == null) {
+                    return null;
+                }
+                value = segment.apply(value);
             }
-            var rest = path.stream().skip(1).toList();
-            return getFieldValue(rest, nested);
-        } else if (first.toString().matches(ARRAY_INDEXER_REGEX)) { //array indexer
-            var openingBracketIx = first.toString().indexOf(OPENING_BRACKET);
-            var closingBracketIx = first.toString().indexOf(CLOSING_BRACKET);
-            var propName = first.toString().substring(0, openingBracketIx);
-            var arrayIndex = Integer.parseInt(first.toString().substring(openingBracketIx + 1, closingBracketIx));
-            var iterableObject = (List) getFieldValue("'%s'".formatted(propName), object);
-            return (T) iterableObject.get(arrayIndex);
+            return value;
+        };
+    }
+
+    private static Function<Object, Object> segment(String pathItem) {
+        if (ARRAY_INDEXER.matcher(pathItem).matches()) {
+            var openingBracketIx = pathItem.indexOf(OPENING_BRACKET);
+            var closingBracketIx = pathItem.indexOf(CLOSING_BRACKET);
+            var propName = pathItem.substring(0, openingBracketIx);
+            var arrayIndex = Integer.parseInt(pathItem.substring(openingBracketIx + 1, closingBracketIx));
+            return object -> ((List<?>) getSingleValue(propName, object)).get(arrayIndex);
+        }
+        return object -> getSingleValue(pathItem, object);
+    }
+
+    private static Object getSingleValue(String name, Object object) {
+        if (object instanceof Map<?, ?> map) {
+            return map.get(name);
+        } else if (object instanceof List<?> list) {
+            return list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(name, it)).toList();
         } else {
-            if (object instanceof Map<?, ?> map) {
-                return (T) map.get(first.toString());
-            } else if (object instanceof List<?> list) {
-                return (T) list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(first.toString(), it)).toList();
-            } else {
-                return getRecursiveValue(first.toString(), object);
-            }
+            return getRecursiveValue(name, object);
         }
     }
 
@@ -109,11 +134,16 @@ public class ReflectionUtil {
     }
 
     private static <T> T getRecursiveValue(String propertyName, Object object) {
-        var field = getFieldRecursive(object.getClass(), propertyName);
+        var field = ACCESSIBLE_FIELDS.get(object.getClass()).computeIfAbsent(propertyName, name -> {
+            var found = getFieldRecursive(object.getClass(), name);
+            if (found != null) {
+                found.setAccessible(true);
+            }
+            return found;
+        });
         if (field == null) {
             throw new ReflectionException(propertyName);
         }
-        field.setAccessible(true);
         try {
             return (T) field.get(object);
         } catch (IllegalAccessException e) {
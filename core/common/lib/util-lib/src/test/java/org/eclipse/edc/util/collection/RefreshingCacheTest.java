@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshingCacheTest {
+
+    private static final long VALIDITY = 1000;
+    private final Function<String, String> loader = mock();
+    private final Clock clock = mock();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private final RefreshingCache<String, String> cache = new RefreshingCache<>(loader, VALIDITY, 2, refreshTasks::add, clock);
+
+    @Test
+    void get_whenNotPresent() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply("foo")).thenReturn("bar");
+
+        var value = cache.get("foo");
+
+        assertThat(value).isEqualTo("bar");
+        verify(loader).apply("foo");
+    }
+
+    @Test
+    void get_whenPresent() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply("foo")).thenReturn("bar");
+
+        cache.get("foo");
+        var value = cache.get("foo");
+
+        assertThat(value).isEqualTo("bar");
+        verify(loader, times(1)).apply(anyString());
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    void get_whenExpired_shouldReturnStaleValueAndRefreshInBackground() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply("foo")).thenReturn("bar", "baz");
+        cache.get("foo");
+
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(VALIDITY + 1));
+        var stale = cache.get("foo");
+        cache.get("foo");
+
+        assertThat(stale).isEqualTo("bar");
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.get(0).run();
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(VALIDITY + 2));
+
+        assertThat(cache.get("foo")).isEqualTo("baz");
+        verify(loader, times(2)).apply("foo");
+    }
+
+    @Test
+    void get_whenRefreshFails_shouldLoadAgainOnNextGet() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply("foo")).thenReturn("bar").thenThrow(new IllegalStateException("refresh failed")).thenReturn("baz");
+        cache.get("foo");
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(VALIDITY + 1));
+        cache.get("foo");
+
+        refreshTasks.get(0).run();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("foo")).isEqualTo("baz");
+    }
+
+    @Test
+    void get_whenLoadFails_shouldThrowAndNotCache() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply("foo")).thenThrow(new IllegalStateException("load failed"));
+
+        assertThatThrownBy(() -> cache.get("foo")).isInstanceOf(IllegalStateException.class).hasMessage("load failed");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_whenFull_shouldEvictLeastRecentlyUsed() {
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(0));
+        when(loader.apply(anyString())).thenAnswer(i -> i.getArgument(0) + "-value");
+
+        cache.get("first");
+        cache.get("second");
+        cache.get("first");
+        cache.get("third");
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("first");
+        verify(loader, times(1)).apply("first");
+        cache.get("second");
+        verify(loader, times(2)).apply("second");
+    }
+
+    @Test
+    void get_whenConcurrent_shouldLoadOnceAndNotBlockOtherKeys() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blockingCache = new RefreshingCache<String, String>(key -> {
+            if (!key.equals("slow")) {
+                return key + "-value";
+            }
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow-value";
+        }, VALIDITY, 10, Runnable::run, Clock.systemUTC());
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var results = new ArrayList<Future<String>>();
+            results.add(executor.submit(() -> blockingCache.get("slow")));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (var i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> blockingCache.get("slow")));
+            }
+
+            assertThat(executor.submit(() -> blockingCache.get("fast"))).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("fast-value");
+
+            release.countDown();
+
+            assertThat(results).allSatisfy(result -> assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("slow-value"));
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -145,6 +145,41 @@ class ReflectionUtilTest {
         }
     }
 
+    @Nested
+    class FieldAccessor {
+
+        @Test
+        void shouldGetValueFromEveryObject() {
+            var accessor = ReflectionUtil.fieldAccessor("anotherObject.anotherDescription");
+            var first = new TestObjectSubSubclass("test-desc", 1, "foobar");
+            first.setAnotherObject(new AnotherObject("first-desc"));
+            var second = new TestObjectSubSubclass("test-desc", 2, "foobar");
+            second.setAnotherObject(new AnotherObject("second-desc"));
+            var third = new TestObjectSubSubclass("test-desc", 3, "foobar");
+            third.setAnotherObject(null);
+
+            assertThat(accessor.apply(first)).isEqualTo("first-desc");
+            assertThat(accessor.apply(second)).isEqualTo("second-desc");
+            assertThat(accessor.apply(third)).isNull();
+        }
+
+        @Test
+        void shouldGetValue_whenObjectsHaveDifferentTypes() {
+            var accessor = ReflectionUtil.fieldAccessor("description");
+
+            assertThat(accessor.apply(new TestObject("object", 1))).isEqualTo("object");
+            assertThat(accessor.apply(Map.of("description", "map"))).isEqualTo("map");
+        }
+
+        @Test
+        void shouldThrowException_whenFieldDoesNotExist() {
+            var accessor = ReflectionUtil.fieldAccessor("notExist");
+
+            assertThatThrownBy(() -> accessor.apply(new TestObject("test-desc", 1))).isInstanceOf(ReflectionException.class);
+            assertThatThrownBy(() -> accessor.apply(new TestObject("test-desc", 1))).isInstanceOf(ReflectionException.class);
+        }
+    }
+
     @Nested
     class GetFieldRecursive {
 
@@ -55,15 +55,15 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     public ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
         return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new, message)
                 .map(agent -> {
-                    try (var datasets = datasetResolver.query(agent, message.getQuerySpec(), message.getProtocol())) {
-                        var dataServices = dataServiceRegistry.getDataServices(message.getProtocol());
+                    var datasets = datasetResolver.queryPage(agent, message.getQuerySpec(), message.getProtocol());
+                    var dataServices = dataServiceRegistry.getDataServices(message.getProtocol());
 
-                        return Catalog.Builder.newInstance()
-                                .dataServices(dataServices)
-                                .datasets(datasets.toList())
-                                .participantId(participantId)
-                                .build();
-                    }
+                    return Catalog.Builder.newInstance()
+                            .dataServices(dataServices)
+                            .datasets(datasets.datasets())
+                            .nextOffset(datasets.nextOffset())
+                            .participantId(participantId)
+                            .build();
                 })
         );
     }
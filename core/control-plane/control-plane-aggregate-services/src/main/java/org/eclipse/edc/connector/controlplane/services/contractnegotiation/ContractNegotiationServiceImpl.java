@@ -30,6 +30,8 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -62,15 +64,23 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
         return queryValidator.validate(query)
                 .flatMap(validation -> validation.failed()
                         ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
-                        : ServiceResult.success(queryNegotiations(query))
+                        : ServiceResult.success(queryNegotiations(query, store::queryNegotiations))
+                );
+    }
+
+    @Override
+    public ServiceResult<List<ContractNegotiation>> searchSummaries(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(queryNegotiations(query, store::queryNegotiationSummaries))
                 );
     }
 
     @Override
     public String getState(String negotiationId) {
         return Optional.of(negotiationId)
-                .map(this::findbyId)
-                .map(ContractNegotiation::getState)
+                .map(id -> transactionContext.execute(() -> store.findStateById(id)))
                 .map(ContractNegotiationStates::from)
                 .map(Enum::name)
                 .orElse(null);
@@ -92,9 +102,9 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
         return transactionContext.execute(() -> commandHandlerRegistry.execute(command).flatMap(ServiceResult::from));
     }
 
-    private List<ContractNegotiation> queryNegotiations(QuerySpec query) {
+    private List<ContractNegotiation> queryNegotiations(QuerySpec query, Function<QuerySpec, Stream<ContractNegotiation>> finder) {
         return transactionContext.execute(() -> {
-            try (var stream = store.queryNegotiations(query)) {
+            try (var stream = finder.apply(query)) {
                 return stream.toList();
             }
         });
@@ -46,6 +46,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
@@ -83,15 +85,24 @@ public class TransferProcessServiceImpl implements TransferProcessService {
         return queryValidator.validate(query)
                 .flatMap(validation -> validation.failed()
                         ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
-                        : ServiceResult.success(queryTransferProcesses(query))
+                        : ServiceResult.success(queryTransferProcesses(query, transferProcessStore::findAll))
+                );
+    }
+
+    @Override
+    public ServiceResult<List<TransferProcess>> searchSummaries(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(queryTransferProcesses(query, transferProcessStore::findAllSummaries))
                 );
     }
 
     @Override
     public @Nullable String getState(String transferProcessId) {
         return transactionContext.execute(() -> {
-            var process = transferProcessStore.findById(transferProcessId);
-            return Optional.ofNullable(process).map(p -> TransferProcessStates.from(p.getState()).name()).orElse(null);
+            var state = transferProcessStore.findStateById(transferProcessId);
+            return Optional.ofNullable(state).map(it -> TransferProcessStates.from(it).name()).orElse(null);
         });
     }
 
@@ -165,9 +176,9 @@ public class TransferProcessServiceImpl implements TransferProcessService {
         return execute(new AddProvisionedResourceCommand(transferProcessId, response));
     }
 
-    private List<TransferProcess> queryTransferProcesses(QuerySpec query) {
+    private List<TransferProcess> queryTransferProcesses(QuerySpec query, Function<QuerySpec, Stream<TransferProcess>> finder) {
         return transactionContext.execute(() -> {
-            try (var stream = transferProcessStore.findAll(query)) {
+            try (var stream = finder.apply(query)) {
                 return stream.toList();
             }
         });
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetPage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolTokenValidator;
@@ -34,7 +35,6 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -88,7 +88,7 @@ class CatalogProtocolServiceImplTest {
 
             when(protocolTokenValidator.verify(eq(tokenRepresentation), any(), eq(message))).thenReturn(ServiceResult.success(participantAgent));
             when(dataServiceRegistry.getDataServices(any())).thenReturn(List.of(dataService));
-            when(datasetResolver.query(any(), any(), any())).thenReturn(Stream.of(createDataset()));
+            when(datasetResolver.queryPage(any(), any(), any())).thenReturn(new DatasetPage(List.of(createDataset()), 7));
 
             var result = service.getCatalog(message, tokenRepresentation);
 
@@ -96,8 +96,9 @@ class CatalogProtocolServiceImplTest {
                 assertThat(catalog.getDataServices()).hasSize(1).first().isSameAs(dataService);
                 assertThat(catalog.getDatasets()).hasSize(1);
                 assertThat(catalog.getParticipantId()).isEqualTo("participantId");
+                assertThat(catalog.getNextOffset()).isEqualTo(7);
             });
-            verify(datasetResolver).query(eq(participantAgent), eq(querySpec), eq("protocol"));
+            verify(datasetResolver).queryPage(eq(participantAgent), eq(querySpec), eq("protocol"));
             verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
         }
 
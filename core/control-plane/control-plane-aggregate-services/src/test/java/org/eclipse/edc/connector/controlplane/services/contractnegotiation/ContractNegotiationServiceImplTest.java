@@ -50,6 +50,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -106,12 +107,22 @@ class ContractNegotiationServiceImplTest {
         verifyNoInteractions(store);
     }
 
+    @Test
+    void searchSummaries_filtersBySpec() {
+        var negotiation = createContractNegotiation("negotiationId");
+        when(store.queryNegotiationSummaries(isA(QuerySpec.class))).thenReturn(Stream.of(negotiation));
+        when(queryValidator.validate(any())).thenReturn(Result.success());
+
+        var result = service.searchSummaries(QuerySpec.none());
+
+        assertThat(result).isSucceeded().asInstanceOf(list(ContractNegotiation.class))
+                .hasSize(1).first().matches(it -> it.getId().equals("negotiationId"));
+        verify(store, never()).queryNegotiations(any());
+    }
+
     @Test
     void getState_returnsStringRepresentation() {
-        var negotiation = createContractNegotiationBuilder("negotiationId")
-                .state(REQUESTED.code())
-                .build();
-        when(store.findById("negotiationId")).thenReturn(negotiation);
+        when(store.findStateById("negotiationId")).thenReturn(REQUESTED.code());
 
         var result = service.getState("negotiationId");
 
@@ -120,7 +131,7 @@ class ContractNegotiationServiceImplTest {
 
     @Test
     void getState_returnsNullIfNegotiationDoesNotExist() {
-        when(store.findById("negotiationId")).thenReturn(null);
+        when(store.findStateById("negotiationId")).thenReturn(null);
 
         var result = service.getState("negotiationId");
 
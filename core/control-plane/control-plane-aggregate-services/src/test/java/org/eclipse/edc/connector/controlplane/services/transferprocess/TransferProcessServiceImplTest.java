@@ -64,6 +64,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -121,9 +122,21 @@ class TransferProcessServiceImplTest {
         verifyNoInteractions(store);
     }
 
+    @Test
+    void searchSummaries() {
+        when(queryValidator.validate(any())).thenReturn(Result.success());
+        when(store.findAllSummaries(query)).thenReturn(Stream.of(process1, process2));
+
+        var result = service.searchSummaries(query);
+
+        assertThat(result).isSucceeded().asInstanceOf(list(TransferProcess.class)).containsExactly(process1, process2);
+        verify(store, never()).findAll(any());
+        verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
     @Test
     void getState_whenFound() {
-        when(store.findById(id)).thenReturn(process1);
+        when(store.findStateById(id)).thenReturn(process1.getState());
         assertThat(service.getState(id)).isEqualTo(TransferProcessStates.from(process1.getState()).name());
         verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
@@ -23,6 +23,8 @@ dependencies {
     api(project(":spi:control-plane:asset-spi"))
 
     implementation(project(":spi:common:data-address:data-address-http-data-spi"))
+    implementation(project(":spi:common:verifiable-credentials-spi"))
+    implementation(project(":core:common:lib:util-lib"))
     testImplementation(project(":tests:junit-base"))
 
     testImplementation(project(":core:common:connector-core"))
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.eclipse.edc.util.collection.TimestampedValue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the {@link ResolvedContractDefinitions} of a {@link ParticipantAgent}, so that a consumer that requests the
+ * catalog page by page doesn't get the access policies of all the contract definitions evaluated again for every page.
+ * <p>
+ * Entries are keyed by the agent identity, claims and attributes, so two agents share an entry only if they would
+ * get the same policy evaluation. Verifiable credentials in the claims are keyed by their id, types, issuer and
+ * validity, as they have no value equality. Agents whose claims contain other values without value equality, or
+ * credentials without id, are not cached. Entries expire after a time-to-live and the whole cache is dropped when a
+ * contract definition or a policy definition changes. The number of hits and misses is tracked so that it can be
+ * observed.
+ */
+public class CachingContractDefinitionResolver implements ContractDefinitionResolver, EventSubscriber {
+
+    private static final Object UNSTABLE = new Object();
+
+    private final ContractDefinitionResolver resolver;
+    private final ConcurrentLruCache<Key, TimestampedValue<ResolvedContractDefinitions>> cache;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingContractDefinitionResolver(ContractDefinitionResolver resolver, int maxEntries, long ttlMillis, Clock clock) {
+        this.resolver = resolver;
+        this.cache = new ConcurrentLruCache<>(maxEntries);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public ResolvedContractDefinitions resolveFor(ParticipantAgent agent) {
+        var claims = fingerprint(agent.getClaims());
+        if (claims == UNSTABLE) {
+            misses.incrementAndGet();
+            return resolver.resolveFor(agent);
+        }
+
+        var key = new Key(agent.getIdentity(), claims, agent.getAttributes());
+        var cached = cache.get(key);
+        if (cached != null && !cached.isExpired(clock)) {
+            hits.incrementAndGet();
+            return copy(cached.value());
+        }
+
+        misses.incrementAndGet();
+        var resolvedAtGeneration = generation.get();
+        var resolved = resolver.resolveFor(agent);
+        cache.put(key, new TimestampedValue<>(resolved, clock.instant(), ttlMillis));
+        // a definition or policy changed during the resolution, the result could be stale
+        if (resolvedAtGeneration != generation.get()) {
+            cache.remove(key);
+        }
+        return copy(resolved);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof ContractDefinitionEvent || event.getPayload() instanceof PolicyDefinitionEvent) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    /**
+     * Number of resolutions served from the cache.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of resolutions that had to evaluate the contract definitions.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // the policies map gets filled with the contract policies by the dataset resolution, so every caller needs its own
+    private ResolvedContractDefinitions copy(ResolvedContractDefinitions resolved) {
+        return new ResolvedContractDefinitions(resolved.contractDefinitions(), new HashMap<>(resolved.policies()));
+    }
+
+    /**
+     * Maps a claim value to a value with value equality, or to {@link #UNSTABLE} if that's not possible.
+     */
+    private static Object fingerprint(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            var fingerprints = new HashMap<Object, Object>();
+            for (var entry : map.entrySet()) {
+                var fingerprint = fingerprint(entry.getValue());
+                if (fingerprint == UNSTABLE) {
+                    return UNSTABLE;
+                }
+                fingerprints.put(entry.getKey(), fingerprint);
+            }
+            return fingerprints;
+        }
+        if (value instanceof Collection<?> collection) {
+            var fingerprints = new ArrayList<>(collection.size());
+            for (var element : collection) {
+                var fingerprint = fingerprint(element);
+                if (fingerprint == UNSTABLE) {
+                    return UNSTABLE;
+                }
+                fingerprints.add(fingerprint);
+            }
+            return fingerprints;
+        }
+        if (value instanceof VerifiableCredential credential) {
+            return credential.getId() == null ? UNSTABLE : new CredentialFingerprint(credential.getId(), List.copyOf(credential.getType()),
+                    credential.getIssuer() == null ? null : credential.getIssuer().id(), credential.getIssuanceDate(), credential.getExpirationDate());
+        }
+        return hasValueEquality(value) ? value : UNSTABLE;
+    }
+
+    private static boolean hasValueEquality(Object value) {
+        try {
+            return value.getClass().getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private record Key(String identity, Object claims, Map<String, String> attributes) {
+    }
+
+    private record CredentialFingerprint(String id, List<String> types, String issuer, Instant issuanceDate, Instant expirationDate) {
+    }
+}
@@ -15,19 +15,26 @@
 package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionAssetMatcher;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
-import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
 
 @Extension(CatalogCoreExtension.NAME)
@@ -35,6 +42,12 @@ public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    @Setting(description = "Time-to-live in milliseconds of the contract definitions resolved for a participant agent, that are cached to serve the following catalog requests of the same agent. 0 disables the cache", key = "edc.catalog.definition.cache.ttl-millis", defaultValue = "0")
+    private long definitionCacheTtlMillis;
+
+    @Setting(description = "Maximum number of participant agents whose resolved contract definitions are cached", key = "edc.catalog.definition.cache.max-entries", defaultValue = "1000")
+    private int definitionCacheMaxEntries;
+
     @Inject
     private AssetIndex assetIndex;
 
@@ -45,7 +58,7 @@ public class CatalogCoreExtension implements ServiceExtension {
     private DistributionResolver distributionResolver;
 
     @Inject
-    private CriterionOperatorRegistry criterionOperatorRegistry;
+    private ContractDefinitionAssetMatcher contractDefinitionAssetMatcher;
 
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
@@ -53,6 +66,14 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private PolicyEngine policyEngine;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    private ContractDefinitionResolver contractDefinitionResolver;
+
     @Override
     public String name() {
         return NAME;
@@ -63,11 +84,28 @@ public class CatalogCoreExtension implements ServiceExtension {
         policyEngine.registerScope(CATALOG_SCOPE, CatalogPolicyContext.class);
     }
 
+    /**
+     * Provides the resolver of the contract definitions offered to a participant agent. When the cache is enabled
+     * it's a {@link CachingContractDefinitionResolver}, whose hit and miss counters can then be observed.
+     */
+    @Provider
+    public ContractDefinitionResolver contractDefinitionResolver() {
+        if (contractDefinitionResolver == null) {
+            contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
+            if (definitionCacheTtlMillis > 0) {
+                var cachingResolver = new CachingContractDefinitionResolver(contractDefinitionResolver, definitionCacheMaxEntries, definitionCacheTtlMillis, clock);
+                eventRouter.registerSync(ContractDefinitionEvent.class, cachingResolver);
+                eventRouter.registerSync(PolicyDefinitionEvent.class, cachingResolver);
+                contractDefinitionResolver = cachingResolver;
+            }
+        }
+        return contractDefinitionResolver;
+    }
+
     @Provider
     public DatasetResolver datasetResolver() {
-        var contractDefinitionResolver = new ContractDefinitionResolverImpl(contractDefinitionStore, policyEngine, policyDefinitionStore);
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
-                distributionResolver, criterionOperatorRegistry);
+        return new DatasetResolverImpl(contractDefinitionResolver(), assetIndex, policyDefinitionStore,
+                distributionResolver, contractDefinitionAssetMatcher);
     }
 
 }
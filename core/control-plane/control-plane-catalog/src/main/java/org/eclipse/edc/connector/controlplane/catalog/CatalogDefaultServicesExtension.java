@@ -14,12 +14,19 @@
 
 package org.eclipse.edc.connector.controlplane.catalog;
 
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionAssetMatcher;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -28,9 +35,21 @@ public class CatalogDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Default Services";
 
+    @Setting(description = "Keep in memory the assets selected by every contract definition, updated by the asset and contract definition events, instead of evaluating the selectors on every catalog request. Enable it only if all the changes go through this runtime", key = "edc.catalog.definition.asset.index.enabled", defaultValue = "false")
+    private boolean definitionAssetIndexEnabled;
+
     @Inject
     private DataFlowManager dataFlowManager;
 
+    @Inject
+    private AssetIndex assetIndex;
+
+    @Inject
+    private CriterionOperatorRegistry criterionOperatorRegistry;
+
+    @Inject
+    private EventRouter eventRouter;
+
     private DataServiceRegistry dataServiceRegistry;
 
     @Override
@@ -53,4 +72,17 @@ public class CatalogDefaultServicesExtension implements ServiceExtension {
         return new DefaultDistributionResolver(dataServiceRegistry, dataFlowManager);
     }
 
+    @Provider(isDefault = true)
+    public ContractDefinitionAssetMatcher contractDefinitionAssetMatcher() {
+        var selectorMatcher = new SelectorContractDefinitionAssetMatcher(criterionOperatorRegistry);
+        if (!definitionAssetIndexEnabled) {
+            return selectorMatcher;
+        }
+
+        var indexedMatcher = new IndexedContractDefinitionAssetMatcher(assetIndex, selectorMatcher);
+        eventRouter.registerSync(AssetEvent.class, indexedMatcher);
+        eventRouter.registerSync(ContractDefinitionEvent.class, indexedMatcher);
+        return indexedMatcher;
+    }
+
 }
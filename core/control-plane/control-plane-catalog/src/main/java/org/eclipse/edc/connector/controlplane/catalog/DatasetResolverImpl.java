@@ -17,9 +17,11 @@ package org.eclipse.edc.connector.controlplane.catalog;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionAssetMatcher;
 import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetPage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.ContractOfferId;
@@ -30,52 +32,61 @@ import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.participant.spi.ParticipantAgent;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
-import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-
 public class DatasetResolverImpl implements DatasetResolver {
 
     private final ContractDefinitionResolver contractDefinitionResolver;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyDefinitionStore;
     private final DistributionResolver distributionResolver;
-    private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final ContractDefinitionAssetMatcher contractDefinitionAssetMatcher;
 
     public DatasetResolverImpl(ContractDefinitionResolver contractDefinitionResolver, AssetIndex assetIndex,
                                PolicyDefinitionStore policyDefinitionStore, DistributionResolver distributionResolver,
-                               CriterionOperatorRegistry criterionOperatorRegistry) {
+                               ContractDefinitionAssetMatcher contractDefinitionAssetMatcher) {
         this.contractDefinitionResolver = contractDefinitionResolver;
         this.assetIndex = assetIndex;
         this.policyDefinitionStore = policyDefinitionStore;
         this.distributionResolver = distributionResolver;
-        this.criterionOperatorRegistry = criterionOperatorRegistry;
+        this.contractDefinitionAssetMatcher = contractDefinitionAssetMatcher;
     }
 
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec, String protocol) {
+        return queryPage(agent, querySpec, protocol).datasets().stream();
+    }
+
+    @Override
+    @NotNull
+    public DatasetPage queryPage(ParticipantAgent agent, QuerySpec querySpec, String protocol) {
         var resolved = contractDefinitionResolver.resolveFor(agent);
-        var contractDefinitions = resolved.contractDefinitions();
+        var policies = resolved.policies();
+        var contractDefinitions = resolved.contractDefinitions().stream()
+                .filter(definition -> resolveContractPolicy(definition, policies) != null)
+                .toList();
         if (contractDefinitions.isEmpty()) {
-            return Stream.empty();
+            return new DatasetPage(List.of(), querySpec.getOffset());
         }
 
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies(), protocol))
-                .filter(Dataset::hasOffers)
-                .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+        // selection, sorting and paging are evaluated by the asset index, the sorting by id makes pages stable
+        var selectors = contractDefinitions.stream().map(ContractDefinition::getAssetsSelector).toList();
+        var assetsQuery = querySpec.getSortField() == null
+                ? querySpec.toBuilder().sortField(Asset.PROPERTY_ID).sortOrder(SortOrder.ASC).build()
+                : querySpec;
+        return fillPage(assetsQuery, selectors, asset -> toDataset(contractDefinitions, asset, policies, protocol));
     }
 
     @Override
@@ -93,6 +104,38 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .orElse(null);
     }
 
+    /**
+     * Collects the datasets with offers until the page is full. An asset selected by the index gets dropped if none of
+     * the definitions matches it anymore, in that case the following assets are fetched to fill the page, so that a
+     * short page still means that there are no more datasets. The next offset is the one of the first asset that has
+     * not been gone through, so that the next page doesn't return the same datasets again.
+     */
+    private DatasetPage fillPage(QuerySpec assetsQuery, List<List<Criterion>> selectors, Function<Asset, Dataset> toDataset) {
+        var limit = assetsQuery.getLimit();
+        var datasets = new ArrayList<Dataset>();
+        var offset = assetsQuery.getOffset();
+        while (datasets.size() < limit) {
+            List<Asset> assets;
+            try (var stream = assetIndex.queryAssets(assetsQuery.toBuilder().offset(offset).build(), selectors)) {
+                assets = stream.toList();
+            }
+            for (var asset : assets) {
+                if (datasets.size() == limit) {
+                    break;
+                }
+                offset++;
+                var dataset = toDataset.apply(asset);
+                if (dataset.hasOffers()) {
+                    datasets.add(dataset);
+                }
+            }
+            if (assets.size() < limit) {
+                break;
+            }
+        }
+        return new DatasetPage(datasets, offset);
+    }
+
     private Dataset.Builder<?, ?> buildDataset(Asset asset) {
         if (!asset.isCatalog()) {
             return Dataset.Builder.newInstance();
@@ -115,17 +158,9 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .properties(asset.getProperties());
 
         contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
+                .filter(definition -> contractDefinitionAssetMatcher.matches(definition, asset))
                 .forEach(contractDefinition -> {
-                    var policy = policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
-                            Optional.ofNullable(policyDefinitionStore.findById(policyId))
-                                    .map(PolicyDefinition::getPolicy)
-                                    .orElse(null)
-                    );
+                    var policy = resolveContractPolicy(contractDefinition, policies);
 
                     if (policy != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
@@ -137,4 +172,12 @@ public class DatasetResolverImpl implements DatasetResolver {
         return datasetBuilder.build();
     }
 
+    private Policy resolveContractPolicy(ContractDefinition contractDefinition, Map<String, Policy> policies) {
+        return policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
+                Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                        .map(PolicyDefinition::getPolicy)
+                        .orElse(null)
+        );
+    }
+
 }
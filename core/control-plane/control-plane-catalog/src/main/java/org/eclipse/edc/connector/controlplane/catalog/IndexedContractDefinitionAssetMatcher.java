@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionAssetMatcher;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps in memory the ids of the assets selected by every contract definition, so that catalog requests don't need
+ * to evaluate the selector criteria against every asset.
+ * <p>
+ * The selection of a contract definition is loaded from the {@link AssetIndex} the first time it's needed, then it's
+ * kept up to date by the asset events, and it's dropped by the contract definition events or when the selector of
+ * the definition changed. The events are the ones published by this runtime, so changes made directly to the stores
+ * or by other runtimes are not seen.
+ * <p>
+ * Selections are loaded without holding any lock. The events received while a selection is loading are recorded, the
+ * assets they refer to are evaluated again once the selection has been loaded, and a selection whose contract
+ * definition changed in the meantime is not kept.
+ */
+public class IndexedContractDefinitionAssetMatcher implements ContractDefinitionAssetMatcher, EventSubscriber {
+
+    private final AssetIndex assetIndex;
+    private final ContractDefinitionAssetMatcher selectorMatcher;
+    private final Map<String, Selection> selections = new ConcurrentHashMap<>();
+    private final Set<Loading> loadings = ConcurrentHashMap.newKeySet();
+
+    public IndexedContractDefinitionAssetMatcher(AssetIndex assetIndex, ContractDefinitionAssetMatcher selectorMatcher) {
+        this.assetIndex = assetIndex;
+        this.selectorMatcher = selectorMatcher;
+    }
+
+    @Override
+    public boolean matches(ContractDefinition contractDefinition, Asset asset) {
+        var current = selections.get(contractDefinition.getId());
+        var selection = current != null && current.selects(contractDefinition) ? current : load(contractDefinition);
+
+        return selection.assetIds().contains(asset.getId());
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (payload instanceof ContractDefinitionEvent definitionEvent) {
+            var definitionId = definitionEvent.getContractDefinitionId();
+            loadings.stream()
+                    .filter(loading -> loading.definition().getId().equals(definitionId))
+                    .forEach(loading -> loading.invalidated().set(true));
+            selections.remove(definitionId);
+        } else if (payload instanceof AssetEvent assetEvent) {
+            var assetId = assetEvent.getAssetId();
+            loadings.forEach(loading -> loading.touchedAssetIds().add(assetId));
+            var asset = payload instanceof AssetDeleted ? null : assetIndex.findById(assetId);
+            selections.values().forEach(selection -> refresh(selection, assetId, asset));
+        }
+    }
+
+    private Selection load(ContractDefinition contractDefinition) {
+        var loading = new Loading(contractDefinition);
+        loadings.add(loading);
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(contractDefinition.getAssetsSelector())
+                .limit(Integer.MAX_VALUE)
+                .build();
+
+        Selection selection;
+        try (var assets = assetIndex.queryAssets(query)) {
+            var assetIds = assets.map(Asset::getId).collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+            selection = new Selection(contractDefinition, assetIds);
+        } catch (RuntimeException e) {
+            loadings.remove(loading);
+            throw e;
+        }
+
+        // publish the selection before stopping recording events, so that no event gets lost in between
+        if (!loading.invalidated().get()) {
+            selections.merge(contractDefinition.getId(), selection, (current, loaded) -> current.selects(contractDefinition) ? current : loaded);
+        }
+        loadings.remove(loading);
+        if (loading.invalidated().get()) {
+            selections.remove(contractDefinition.getId(), selection);
+        }
+
+        loading.touchedAssetIds().forEach(assetId -> refresh(selection, assetId, assetIndex.findById(assetId)));
+        return selection;
+    }
+
+    private void refresh(Selection selection, String assetId, Asset asset) {
+        if (asset != null && selectorMatcher.matches(selection.definition(), asset)) {
+            selection.assetIds().add(assetId);
+        } else {
+            selection.assetIds().remove(assetId);
+        }
+    }
+
+    private record Selection(ContractDefinition definition, Set<String> assetIds) {
+
+        boolean selects(ContractDefinition contractDefinition) {
+            return definition.getAssetsSelector().equals(contractDefinition.getAssetsSelector());
+        }
+    }
+
+    /**
+     * Records the events received while a selection is loading.
+     */
+    private static final class Loading {
+
+        private final ContractDefinition definition;
+        private final Set<String> touchedAssetIds = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean invalidated = new AtomicBoolean();
+
+        Loading(ContractDefinition definition) {
+            this.definition = definition;
+        }
+
+        ContractDefinition definition() {
+            return definition;
+        }
+
+        Set<String> touchedAssetIds() {
+            return touchedAssetIds;
+        }
+
+        AtomicBoolean invalidated() {
+            return invalidated;
+        }
+    }
+}
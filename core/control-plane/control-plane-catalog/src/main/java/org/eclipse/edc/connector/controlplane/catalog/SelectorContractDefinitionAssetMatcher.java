@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionAssetMatcher;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+
+import java.util.function.Predicate;
+
+/**
+ * Evaluates the assets selector criteria of the contract definition against the asset every time.
+ */
+public class SelectorContractDefinitionAssetMatcher implements ContractDefinitionAssetMatcher {
+
+    private final CriterionOperatorRegistry criterionOperatorRegistry;
+
+    public SelectorContractDefinitionAssetMatcher(CriterionOperatorRegistry criterionOperatorRegistry) {
+        this.criterionOperatorRegistry = criterionOperatorRegistry;
+    }
+
+    @Override
+    public boolean matches(ContractDefinition contractDefinition, Asset asset) {
+        return contractDefinition.getAssetsSelector().stream()
+                .map(criterionOperatorRegistry::<Asset>toPredicate)
+                .reduce(x -> true, Predicate::and)
+                .test(asset);
+    }
+}
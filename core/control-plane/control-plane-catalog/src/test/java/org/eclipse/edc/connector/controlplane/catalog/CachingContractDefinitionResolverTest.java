@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingContractDefinitionResolverTest {
+
+    private final ContractDefinitionResolver delegate = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void shouldServeSameAgentFromCache() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(agent("participant", "gold"));
+        resolver.resolveFor(agent("participant", "gold"));
+
+        verify(delegate, times(1)).resolveFor(any());
+        assertThat(resolver.getHits()).isEqualTo(1);
+        assertThat(resolver.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotShareEntry_whenClaimsDiffer() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(agent("participant", "gold"));
+        resolver.resolveFor(agent("participant", "silver"));
+
+        verify(delegate, times(2)).resolveFor(any());
+    }
+
+    @Test
+    void shouldShareEntry_whenClaimsHoldSameCredentials() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(credentialAgent(credential("credential-id")));
+        resolver.resolveFor(credentialAgent(credential("credential-id")));
+        resolver.resolveFor(credentialAgent(credential("other-credential-id")));
+
+        verify(delegate, times(2)).resolveFor(any());
+        assertThat(resolver.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCache_whenCredentialHasNoId() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(credentialAgent(credential(null)));
+        resolver.resolveFor(credentialAgent(credential(null)));
+
+        verify(delegate, times(2)).resolveFor(any());
+        assertThat(resolver.getHits()).isZero();
+    }
+
+    @Test
+    void shouldResolveAgain_whenEntryExpired() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(agent("participant", "gold"));
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(2)));
+        resolver.resolveFor(agent("participant", "gold"));
+
+        verify(delegate, times(2)).resolveFor(any());
+    }
+
+    @Test
+    void shouldDropCache_whenContractDefinitionOrPolicyChanges() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = createResolver();
+
+        resolver.resolveFor(agent("participant", "gold"));
+        resolver.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definition").build()));
+        resolver.resolveFor(agent("participant", "gold"));
+        resolver.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()));
+        resolver.resolveFor(agent("participant", "gold"));
+
+        verify(delegate, times(3)).resolveFor(any());
+    }
+
+    @Test
+    void shouldReturnOwnPoliciesToEveryCaller() {
+        var policies = new HashMap<String, Policy>(Map.of("access", Policy.Builder.newInstance().build()));
+        when(delegate.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(), policies));
+        var resolver = createResolver();
+
+        resolver.resolveFor(agent("participant", "gold")).policies().put("contract", Policy.Builder.newInstance().build());
+        var resolved = resolver.resolveFor(agent("participant", "gold"));
+
+        assertThat(resolved.policies()).containsOnlyKeys("access");
+    }
+
+    private CachingContractDefinitionResolver createResolver() {
+        return new CachingContractDefinitionResolver(delegate, 10, 60_000, clock);
+    }
+
+    private ParticipantAgent agent(String identity, String tier) {
+        return new ParticipantAgent(Map.of("tier", tier), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+
+    private ParticipantAgent credentialAgent(VerifiableCredential credential) {
+        return new ParticipantAgent(Map.of("vc", List.of(credential)), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant"));
+    }
+
+    private VerifiableCredential credential(String id) {
+        return VerifiableCredential.Builder.newInstance()
+                .id(id)
+                .type("MembershipCredential")
+                .credentialSubject(CredentialSubject.Builder.newInstance().id("subject").claim("tier", "gold").build())
+                .issuer(new Issuer("issuer"))
+                .issuanceDate(now)
+                .build();
+    }
+
+    private EventEnvelope<Event> envelope(Event event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+}
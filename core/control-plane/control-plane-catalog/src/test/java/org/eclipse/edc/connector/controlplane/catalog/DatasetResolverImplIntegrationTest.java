@@ -77,7 +77,7 @@ class DatasetResolverImplIntegrationTest {
                 assetIndex,
                 policyStore,
                 mock(),
-                criterionOperatorRegistry);
+                new SelectorContractDefinitionAssetMatcher(criterionOperatorRegistry));
         var policyDefinition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
         when(policyStore.findById(any())).thenReturn(policyDefinition);
     }
@@ -37,6 +37,7 @@ import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.message.Range;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,9 +57,10 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.policy.model.PolicyType.OFFER;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
-import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -77,7 +79,7 @@ class DatasetResolverImplTest {
     @BeforeEach
     void setUp() {
         datasetResolver = new DatasetResolverImpl(definitionResolver, assetIndex, policyStore, distributionResolver,
-                CriterionOperatorRegistryImpl.ofDefaults());
+                new SelectorContractDefinitionAssetMatcher(CriterionOperatorRegistryImpl.ofDefaults()));
     }
 
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
@@ -113,7 +115,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var distribution = Distribution.Builder.newInstance().dataService(dataService).format("format").build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             when(distributionResolver.getDistributions(any(), isA(Asset.class))).thenReturn(List.of(distribution));
 
@@ -138,19 +140,19 @@ class DatasetResolverImplTest {
             var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
 
             assertThat(datasets).isNotNull().isEmpty();
-            verify(assetIndex, never()).queryAssets(any());
+            verify(assetIndex, never()).queryAssets(any(), any());
         }
 
         @Test
-        void shouldReturnNoDataset_whenPolicyNotFound() {
+        void shouldNotQueryAssets_whenPolicyNotFound() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(null);
 
             var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
 
             assertThat(datasets).isNotNull().isEmpty();
+            verify(assetIndex, never()).queryAssets(any(), any());
         }
 
         @Test
@@ -161,7 +163,7 @@ class DatasetResolverImplTest {
                     contractDefinitionBuilder("definition1").contractPolicyId("policy1").build(),
                     contractDefinitionBuilder("definition2").contractPolicyId("policy2").build()
             )));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
             when(policyStore.findById("policy1")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy1).build());
             when(policyStore.findById("policy2")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy2).build());
 
@@ -189,71 +191,121 @@ class DatasetResolverImplTest {
                     .contractPolicyId("contractPolicyId")
                     .build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("id").property("key", "value").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
             var additionalCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
             var querySpec = QuerySpec.Builder.newInstance().filter(additionalCriterion).build();
 
             datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
 
-            verify(assetIndex).queryAssets(and(
-                    isA(QuerySpec.class),
-                    argThat(q -> q.getFilterExpression().contains(additionalCriterion))
-            ));
+            verify(assetIndex).queryAssets(
+                    argThat(q -> q.getFilterExpression().contains(additionalCriterion)),
+                    eq(List.of(List.of(definitionCriterion)))
+            );
         }
 
         @Test
-        void shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
-            var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
-            var contractPolicy = Policy.Builder.newInstance().build();
-            var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
-            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-            when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
-            var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
+        void shouldPassPagingAndSelectorsToAssetIndex() {
+            var selector1 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "1"));
+            var selector2 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "2"));
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").assetsSelector(selector1).build(),
+                    contractDefinitionBuilder("definition2").assetsSelector(selector2).build()
+            );
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> Stream.of(createAsset("1").build(), createAsset("2").build()));
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
+
+            var datasets = datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
+
+            assertThat(datasets).map(getId()).containsExactly("1", "2");
+            verify(assetIndex).queryAssets(
+                    argThat(q -> q.getOffset() == 6 && q.getLimit() == 8 && Asset.PROPERTY_ID.equals(q.getSortField()) && q.getSortOrder() == SortOrder.ASC),
+                    eq(List.of(selector1, selector2))
+            );
+        }
+
+        @Test
+        void shouldFetchFollowingAssets_whenSelectedAssetHasNoOffer() {
+            var selector2 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "2"));
+            var selector3 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "3"));
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition2").assetsSelector(selector2).build(),
+                    contractDefinitionBuilder("definition3").assetsSelector(selector3).build()
+            );
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList()))
+                    .thenReturn(Stream.of(createAsset("1").build(), createAsset("2").build()))
+                    .thenReturn(Stream.of(createAsset("3").build()));
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 2)).build();
 
             var datasets = datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
 
-            assertThat(datasets).hasSize(3).map(getId()).containsExactly("2", "3", "4");
+            assertThat(datasets).map(getId()).containsExactly("2", "3");
+            verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 0 && q.getLimit() == 2), anyList());
+            verify(assetIndex).queryAssets(argThat(q -> q.getOffset() == 2 && q.getLimit() == 2), anyList());
+        }
+
+        @Test
+        void shouldReturnOffsetOfFirstAssetNotGoneThrough_whenSelectedAssetHasNoOffer() {
+            var selector2 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "2"));
+            var selector3 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "3"));
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition2").assetsSelector(selector2).build(),
+                    contractDefinitionBuilder("definition3").assetsSelector(selector3).build()
+            );
+            when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList()))
+                    .thenReturn(Stream.of(createAsset("1").build(), createAsset("2").build()))
+                    .thenReturn(Stream.of(createAsset("3").build(), createAsset("4").build()));
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 2)).build();
+
+            var page = datasetResolver.queryPage(createParticipantAgent(), querySpec, "protocol");
+
+            assertThat(page.datasets()).map(getId()).containsExactly("2", "3");
+            assertThat(page.nextOffset()).isEqualTo(3);
         }
 
         @Test
-        void shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_overflowing() {
+        void shouldKeepRequestedSorting() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
-            var contractPolicy = Policy.Builder.newInstance().build();
-            var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
-            var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> Stream.empty());
+            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+            var querySpec = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).build();
 
-            var datasets = datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
+            datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
 
-            assertThat(datasets).hasSize(3).map(getId()).containsExactly("7", "8", "9");
+            verify(assetIndex).queryAssets(eq(querySpec), anyList());
         }
 
         @Test
-        void shouldLimitDataset_whenMultipleDefinitionAndMultipleAssets_across() {
-            var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).build()).toList();
-            var contractPolicy = Policy.Builder.newInstance().build();
-            var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        void shouldNotPassSelector_whenDefinitionPolicyNotFound() {
+            var selector1 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "1"));
+            var selector2 = List.of(new Criterion(EDC_NAMESPACE + "id", "=", "2"));
+            var contractDefinitions = List.of(
+                    contractDefinitionBuilder("definition1").assetsSelector(selector1).contractPolicyId("policy1").build(),
+                    contractDefinitionBuilder("definition2").assetsSelector(selector2).contractPolicyId("policy2").build()
+            );
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
-            when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
-            var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> Stream.empty());
+            when(policyStore.findById("policy1")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
 
-            var datasets = datasetResolver.query(createParticipantAgent(), querySpec, "protocol");
+            datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
 
-            assertThat(datasets).hasSize(8).map(getId()).containsExactly("6", "7", "8", "9", "10", "11", "12", "13");
+            verify(assetIndex).queryAssets(any(), eq(List.of(selector1)));
         }
 
         @Test
-        void shouldLimitDataset_whenMultipleDefinitionsWithSameAssets() {
+        void shouldReturnOneOfferPerDefinition_whenMultipleDefinitionsWithSameAssets() {
             var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).build()).toList();
             var contractPolicy = Policy.Builder.newInstance().build();
-            var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+            var assets = range(6, 8).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> assets.stream());
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -275,7 +327,7 @@ class DatasetResolverImplTest {
                     .format(HttpDataAddressSchema.HTTP_DATA_TYPE).build();
 
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId")
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId")
                     .property(Asset.PROPERTY_IS_CATALOG, true)
                     .dataAddress(DataAddress.Builder.newInstance().type(HttpDataAddressSchema.HTTP_DATA_TYPE).build())
                     .build()));
@@ -302,7 +354,7 @@ class DatasetResolverImplTest {
             var distribution = Distribution.Builder.newInstance().dataService(dataService).format("format").build();
             var cachedPolicies = new HashMap<>(Map.of("samePolicy", Policy.Builder.newInstance().build()));
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition), cachedPolicies));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
             when(distributionResolver.getDistributions(any(), isA(Asset.class))).thenReturn(List.of(distribution));
 
             var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetCreated;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetDeleted;
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class IndexedContractDefinitionAssetMatcherTest {
+
+    private AssetIndex assetIndex;
+    private IndexedContractDefinitionAssetMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        criterionOperatorRegistry.registerPropertyLookup(new AssetPropertyLookup());
+        assetIndex = spy(new InMemoryAssetIndex(criterionOperatorRegistry));
+        matcher = new IndexedContractDefinitionAssetMatcher(assetIndex, new SelectorContractDefinitionAssetMatcher(criterionOperatorRegistry));
+    }
+
+    @Test
+    void shouldLoadSelectionOnce() {
+        var asset = createAsset("asset", "gold");
+        assetIndex.create(asset);
+        var definition = createDefinition("definition", "gold");
+
+        assertThat(matcher.matches(definition, asset)).isTrue();
+        assertThat(matcher.matches(definition, createAsset("other", "gold"))).isFalse();
+
+        verify(assetIndex, times(1)).queryAssets(any(QuerySpec.class));
+    }
+
+    @Test
+    void shouldUpdateSelection_whenAssetIsCreatedUpdatedAndDeleted() {
+        var definition = createDefinition("definition", "gold");
+        var asset = createAsset("asset", "gold");
+        assertThat(matcher.matches(definition, asset)).isFalse();
+
+        assetIndex.create(asset);
+        matcher.on(envelope(AssetCreated.Builder.newInstance().assetId("asset").build()));
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        var updated = createAsset("asset", "silver");
+        assetIndex.updateAsset(updated);
+        matcher.on(envelope(AssetUpdated.Builder.newInstance().assetId("asset").build()));
+        assertThat(matcher.matches(definition, updated)).isFalse();
+
+        assetIndex.updateAsset(asset);
+        matcher.on(envelope(AssetUpdated.Builder.newInstance().assetId("asset").build()));
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        assetIndex.deleteById("asset");
+        matcher.on(envelope(AssetDeleted.Builder.newInstance().assetId("asset").build()));
+        assertThat(matcher.matches(definition, asset)).isFalse();
+
+        verify(assetIndex, times(1)).queryAssets(any(QuerySpec.class));
+    }
+
+    @Test
+    void shouldReloadSelection_whenContractDefinitionIsUpdated() {
+        var asset = createAsset("asset", "gold");
+        assetIndex.create(asset);
+        var definition = createDefinition("definition", "gold");
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        matcher.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definition").build()));
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        verify(assetIndex, times(2)).queryAssets(any(QuerySpec.class));
+    }
+
+    @Test
+    void shouldReloadSelection_whenSelectorChanged() {
+        var asset = createAsset("asset", "gold");
+        assetIndex.create(asset);
+        assertThat(matcher.matches(createDefinition("definition", "gold"), asset)).isTrue();
+
+        assertThat(matcher.matches(createDefinition("definition", "silver"), asset)).isFalse();
+    }
+
+    @Test
+    void shouldApplyEvent_whenItIsReceivedWhileSelectionIsLoading() {
+        var definition = createDefinition("definition", "gold");
+        var asset = createAsset("asset", "gold");
+        doAnswer(invocation -> {
+            var loaded = ((Stream<?>) invocation.callRealMethod()).toList();
+            assetIndex.create(asset);
+            matcher.on(envelope(AssetCreated.Builder.newInstance().assetId("asset").build()));
+            return loaded.stream();
+        }).doCallRealMethod().when(assetIndex).queryAssets(any(QuerySpec.class));
+
+        assertThat(matcher.matches(definition, asset)).isTrue();
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        verify(assetIndex, times(1)).queryAssets(any(QuerySpec.class));
+    }
+
+    @Test
+    void shouldNotKeepSelection_whenContractDefinitionIsUpdatedWhileSelectionIsLoading() {
+        var asset = createAsset("asset", "gold");
+        assetIndex.create(asset);
+        var definition = createDefinition("definition", "gold");
+        doAnswer(invocation -> {
+            matcher.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definition").build()));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(assetIndex).queryAssets(any(QuerySpec.class));
+
+        assertThat(matcher.matches(definition, asset)).isTrue();
+        assertThat(matcher.matches(definition, asset)).isTrue();
+
+        verify(assetIndex, times(2)).queryAssets(any(QuerySpec.class));
+    }
+
+    private ContractDefinition createDefinition(String id, String tier) {
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicyId("access")
+                .contractPolicyId("contract")
+                .assetsSelector(List.of(new Criterion("tier", "=", tier)))
+                .build();
+    }
+
+    private Asset createAsset(String id, String tier) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property("tier", tier)
+                .dataAddress(DataAddress.Builder.newInstance().type("test-type").build())
+                .build();
+    }
+
+    private EventEnvelope<Event> envelope(Event event) {
+        return EventEnvelope.Builder.newInstance()
+                .at(System.currentTimeMillis())
+                .payload(event)
+                .build();
+    }
+}
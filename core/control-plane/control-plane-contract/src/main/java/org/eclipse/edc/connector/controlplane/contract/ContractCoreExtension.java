@@ -48,15 +48,19 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.WriteBehindMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.controlplane.catalog.spi.policy.CatalogPolicyContext.CATALOG_SCOPE;
 import static org.eclipse.edc.connector.controlplane.contract.spi.policy.ContractNegotiationPolicyContext.NEGOTIATION_SCOPE;
@@ -67,6 +71,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 @Provides({
         ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -86,6 +91,18 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(description = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, key = "edc.negotiation.provider.state-machine.batch-size", defaultValue = DEFAULT_BATCH_SIZE + "")
     private int providerStateMachineBatchSize;
 
+    @Setting(description = "the number of workers that run the consumer negotiation state machine processors, with more than one the processors run concurrently. Default value " + DEFAULT_WORKERS, key = "edc.negotiation.consumer.state-machine.workers", defaultValue = DEFAULT_WORKERS + "")
+    private int consumerStateMachineWorkers;
+
+    @Setting(description = "the number of workers that run the provider negotiation state machine processors, with more than one the processors run concurrently. Default value " + DEFAULT_WORKERS, key = "edc.negotiation.provider.state-machine.workers", defaultValue = DEFAULT_WORKERS + "")
+    private int providerStateMachineWorkers;
+
+    @Setting(description = "how the consumer negotiation state machine persists the updates: DISABLED saves every update, ENTITY saves every negotiation once after it has been processed, BATCH saves all the negotiations once after every processor run", key = "edc.negotiation.consumer.state-machine.write-behind", defaultValue = "DISABLED")
+    private String consumerStateMachineWriteBehind;
+
+    @Setting(description = "how the provider negotiation state machine persists the updates: DISABLED saves every update, ENTITY saves every negotiation once after it has been processed, BATCH saves all the negotiations once after every processor run", key = "edc.negotiation.provider.state-machine.write-behind", defaultValue = "DISABLED")
+    private String providerStateMachineWriteBehind;
+
     @Setting(description = "how many times a specific operation must be tried before terminating the consumer negotiation with error", key = "edc.negotiation.consumer.send.retry.limit", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private int consumerSendRetryLimit;
 
@@ -147,6 +164,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -192,22 +212,28 @@ public class ContractCoreExtension implements ServiceExtension {
         policyEngine.registerFunction(TransferProcessPolicyContext.class, Permission.class, CONTRACT_EXPIRY_EVALUATION_KEY,
                 new ContractExpiryCheckFunction<>());
 
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(stateMachineIterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategyFactory = context.hasService(NegotiationWaitStrategy.class)
+                ? () -> context.getService(NegotiationWaitStrategy.class)
+                : () -> new ExponentialWaitStrategy(stateMachineIterationWaitMillis);
 
         observable.registerListener(new ContractNegotiationEventListener(eventRouter, clock));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategyFactory)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .transactionContext(transactionContext)
+                .eventRouter(eventRouter)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(consumerStateMachineBatchSize)
+                .workers(consumerStateMachineWorkers)
+                .writeBehindMode(WriteBehindMode.from(consumerStateMachineWriteBehind))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration())
                 .protocolWebhookRegistry(protocolWebhookRegistry)
                 .pendingGuard(pendingGuard)
@@ -215,16 +241,20 @@ public class ContractCoreExtension implements ServiceExtension {
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategyFactory)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .transactionContext(transactionContext)
+                .eventRouter(eventRouter)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(providerStateMachineBatchSize)
+                .workers(providerStateMachineWorkers)
+                .writeBehindMode(WriteBehindMode.from(providerStateMachineWriteBehind))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration())
                 .protocolWebhookRegistry(protocolWebhookRegistry)
                 .pendingGuard(pendingGuard)
@@ -56,8 +56,8 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name()) };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
-                .guard(pendingGuard, this::setPending)
+                .process(telemetry.contextPropagationMiddleware(writeBehind(function)))
+                .guard(pendingGuard, writeBehind(this::setPending))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
@@ -109,8 +109,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToInitial(ContractNegotiation negotiation) {
         negotiation.transitionInitial();
-        update(negotiation);
-        observable.invokeForEach(l -> l.initiated(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.initiated(negotiation)));
     }
 
     protected void transitionToRequesting(ContractNegotiation negotiation) {
@@ -121,8 +120,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
     protected void transitionToRequested(ContractNegotiation negotiation, ContractNegotiationAck ack) {
         negotiation.transitionRequested();
         negotiation.setCorrelationId(ack.getProviderPid());
-        update(negotiation);
-        observable.invokeForEach(l -> l.requested(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.requested(negotiation)));
     }
 
     protected void transitionToAccepting(ContractNegotiation negotiation) {
@@ -132,8 +130,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToAccepted(ContractNegotiation negotiation) {
         negotiation.transitionAccepted();
-        update(negotiation);
-        observable.invokeForEach(l -> l.accepted(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.accepted(negotiation)));
     }
 
     protected void transitionToOffering(ContractNegotiation negotiation) {
@@ -144,8 +141,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
     protected void transitionToOffered(ContractNegotiation negotiation, ContractNegotiationAck ack) {
         negotiation.transitionOffered();
         negotiation.setCorrelationId(ack.getConsumerPid());
-        update(negotiation);
-        observable.invokeForEach(l -> l.offered(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.offered(negotiation)));
     }
 
     protected void transitionToAgreeing(ContractNegotiation negotiation) {
@@ -156,8 +152,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
     protected void transitionToAgreed(ContractNegotiation negotiation, ContractAgreement agreement) {
         negotiation.setContractAgreement(agreement);
         negotiation.transitionAgreed();
-        update(negotiation);
-        observable.invokeForEach(l -> l.agreed(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.agreed(negotiation)));
     }
 
     protected void transitionToVerifying(ContractNegotiation negotiation) {
@@ -167,8 +162,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToVerified(ContractNegotiation negotiation) {
         negotiation.transitionVerified();
-        update(negotiation);
-        observable.invokeForEach(l -> l.verified(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.verified(negotiation)));
     }
 
     protected void transitionToFinalizing(ContractNegotiation negotiation) {
@@ -178,8 +172,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToFinalized(ContractNegotiation negotiation) {
         negotiation.transitionFinalized();
-        update(negotiation);
-        observable.invokeForEach(l -> l.finalized(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.finalized(negotiation)));
     }
 
     protected void transitionToTerminating(ContractNegotiation negotiation, String message) {
@@ -199,8 +192,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     protected void transitionToTerminated(ContractNegotiation negotiation) {
         negotiation.transitionTerminated();
-        update(negotiation);
-        observable.invokeForEach(l -> l.terminated(negotiation));
+        update(negotiation, () -> observable.invokeForEach(l -> l.terminated(negotiation)));
     }
 
     private boolean setPending(ContractNegotiation contractNegotiation) {
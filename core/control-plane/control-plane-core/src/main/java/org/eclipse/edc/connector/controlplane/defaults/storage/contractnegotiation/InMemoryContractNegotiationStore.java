@@ -35,7 +35,7 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 
 /**
- * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
+ * An in-memory, threadsafe process store. The entities are not persisted, they are lost when the runtime stops.
  */
 public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStore<ContractNegotiation> implements ContractNegotiationStore {
 
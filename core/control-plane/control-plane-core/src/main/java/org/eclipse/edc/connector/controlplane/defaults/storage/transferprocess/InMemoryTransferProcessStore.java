@@ -28,7 +28,7 @@ import java.util.UUID;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
- * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
+ * An in-memory, threadsafe process store. The entities are not persisted, they are lost when the runtime stops.
  */
 public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<TransferProcess> implements TransferProcessStore {
 
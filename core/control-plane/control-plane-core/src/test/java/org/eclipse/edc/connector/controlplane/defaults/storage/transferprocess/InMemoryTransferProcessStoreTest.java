@@ -16,9 +16,27 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess;
 
 import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.REQUESTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
@@ -39,4 +57,82 @@ class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
         return store.isLeasedBy(entityId, owner);
     }
 
+    @Test
+    void nextNotLeased_shouldNotReturnSameEntity_whenCalledConcurrently() throws Exception {
+        range(0, 100).mapToObj(i -> createTransferProcess("id" + i, STARTED)).forEach(store::save);
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var tasks = range(0, 4).<Callable<List<TransferProcess>>>mapToObj(i -> () -> store.nextNotLeased(50, hasState(STARTED.code()))).toList();
+            var leased = new ArrayList<String>();
+            for (var future : executor.invokeAll(tasks, 5, TimeUnit.SECONDS)) {
+                future.get().forEach(transferProcess -> leased.add(transferProcess.getId()));
+            }
+
+            assertThat(leased).hasSize(100).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nextNotLeased_shouldReturnOldestFirst_whenMultipleStatesRequested() {
+        store.save(createTransferProcessBuilder("started").state(STARTED.code()).stateTimestamp(3).build());
+        store.save(createTransferProcessBuilder("requested").state(REQUESTED.code()).stateTimestamp(1).build());
+        store.save(createTransferProcessBuilder("terminated").state(TERMINATED.code()).stateTimestamp(2).build());
+
+        var result = store.nextNotLeased(10, criterion("state", "in", List.of(STARTED.code(), REQUESTED.code())));
+
+        assertThat(result).extracting(TransferProcess::getId).containsExactly("requested", "started");
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnEntity_whenStateChanged() {
+        var transferProcess = createTransferProcess("id", STARTED);
+        store.save(transferProcess);
+        transferProcess.transitionTerminating();
+        store.save(transferProcess);
+
+        assertThat(store.nextNotLeased(10, hasState(STARTED.code()))).isEmpty();
+        assertThat(store.findStateById("id")).isEqualTo(transferProcess.getState());
+    }
+
+    @Test
+    void nextNotLeased_shouldNotKeepLease_whenEntityIsSavedConcurrently() throws Exception {
+        var ids = range(0, 500).mapToObj(i -> "id" + i).toList();
+        ids.forEach(id -> store.save(createTransferProcess(id, STARTED)));
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var saving = executor.submit(() -> ids.forEach(id -> {
+                var transferProcess = createTransferProcess(id, STARTED);
+                transferProcess.transitionTerminating();
+                store.save(transferProcess);
+            }));
+            var leasing = executor.submit(() -> {
+                while (!saving.isDone()) {
+                    store.nextNotLeased(10, hasState(STARTED.code()));
+                }
+            });
+            saving.get(5, TimeUnit.SECONDS);
+            leasing.get(5, TimeUnit.SECONDS);
+
+            // a lease acquired on a stale snapshot would outlive the save that changed the entity
+            assertThat(ids).noneMatch(id -> store.isLeasedBy(id, CONNECTOR_NAME));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void findAll_shouldReturnCopies() {
+        store.save(createTransferProcess("id", STARTED));
+
+        try (var stream = store.findAll(QuerySpec.max())) {
+            stream.forEach(TransferProcess::transitionTerminating);
+        }
+
+        assertThat(store.findById("id")).extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+    }
+
 }
@@ -43,22 +43,27 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.WriteBehindMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -75,6 +80,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(description = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, key = "edc.transfer.state-machine.batch-size", defaultValue = DEFAULT_BATCH_SIZE + "")
     private int stateMachineBatchSize;
 
+    @Setting(description = "the number of workers that run the transfer process state machine processors, with more than one the processors run concurrently. Default value " + DEFAULT_WORKERS, key = "edc.transfer.state-machine.workers", defaultValue = DEFAULT_WORKERS + "")
+    private int stateMachineWorkers;
+
+    @Setting(description = "how the transfer process state machine persists the updates: DISABLED saves every update, ENTITY saves every transfer process once after it has been processed, BATCH saves all the transfer processes once after every processor run", key = "edc.transfer.state-machine.write-behind", defaultValue = "DISABLED")
+    private String stateMachineWriteBehind;
+
     @Setting(description = "how many times a specific operation must be tried before terminating the transfer with error", key = "edc.transfer.send.retry.limit", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private int sendRetryLimit;
 
@@ -135,6 +146,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -148,7 +162,9 @@ public class TransferCoreExtension implements ServiceExtension {
 
         registerTypes(typeManager);
 
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(stateMachineIterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategyFactory = context.hasService(TransferWaitStrategy.class)
+                ? () -> context.getService(TransferWaitStrategy.class)
+                : () -> new ExponentialWaitStrategy(stateMachineIterationWaitMillis);
 
         typeTransformerRegistry.register(new DataAddressToEndpointDataReferenceTransformer());
 
@@ -159,7 +175,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var deprovisionResponsesHandler = new DeprovisionResponsesHandler(observable, monitor, vault);
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(waitStrategyFactory)
                 .manifestGenerator(resourceManifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -167,12 +183,16 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .transactionContext(transactionContext)
+                .eventRouter(eventRouter)
                 .vault(vault)
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(stateMachineBatchSize)
+                .workers(stateMachineWorkers)
+                .writeBehindMode(WriteBehindMode.from(stateMachineWriteBehind))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhookRegistry(protocolWebhookRegistry)
@@ -162,8 +162,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .build();
 
         observable.invokeForEach(l -> l.preCreated(process));
-        update(process);
-        observable.invokeForEach(l -> l.initiated(process));
+        update(process, () -> observable.invokeForEach(l -> l.initiated(process)));
 
         return StatusResult.success(process);
     }
@@ -556,8 +555,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private <T> void handleResult(TransferProcess transferProcess, List<StatusResult<T>> responses, ResponsesHandler<StatusResult<T>> handler) {
         if (handler.handle(transferProcess, responses)) {
-            update(transferProcess);
-            handler.postActions(transferProcess);
+            update(transferProcess, () -> handler.postActions(transferProcess));
         } else {
             breakLease(transferProcess);
         }
@@ -580,8 +578,8 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, Boolean> function, Criterion[] filter) {
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
-                .process(telemetry.contextPropagationMiddleware(function))
-                .guard(pendingGuard, this::setPending)
+                .process(telemetry.contextPropagationMiddleware(writeBehind(function)))
+                .guard(pendingGuard, writeBehind(this::setPending))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
@@ -608,8 +606,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         transferProcess.transitionRequested();
         transferProcess.setCorrelationId(ack.getProviderPid());
         observable.invokeForEach(l -> l.preRequested(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.requested(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.requested(transferProcess)));
     }
 
     private void transitionToStarting(TransferProcess transferProcess) {
@@ -620,8 +617,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToStarted(TransferProcess process, String dataPlaneId) {
         process.transitionStarted(dataPlaneId);
         observable.invokeForEach(l -> l.preStarted(process));
-        update(process);
-        observable.invokeForEach(l -> l.started(process, TransferProcessStartedData.Builder.newInstance().build()));
+        update(process, () -> observable.invokeForEach(l -> l.started(process, TransferProcessStartedData.Builder.newInstance().build())));
     }
 
     private void transitionToResuming(TransferProcess process) {
@@ -642,8 +638,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToCompleted(TransferProcess transferProcess) {
         transferProcess.transitionCompleted();
         observable.invokeForEach(l -> l.preCompleted(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.completed(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.completed(transferProcess)));
     }
 
     private void transitionToSuspending(TransferProcess process, String message) {
@@ -659,8 +654,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private void transitionToSuspended(TransferProcess process) {
         process.transitionSuspended();
-        update(process);
-        observable.invokeForEach(l -> l.suspended(process));
+        update(process, () -> observable.invokeForEach(l -> l.suspended(process)));
     }
 
     private void transitionToTerminating(TransferProcess process, String message, Throwable... errors) {
@@ -688,8 +682,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private void transitionToTerminated(TransferProcess process) {
         process.transitionTerminated();
         observable.invokeForEach(l -> l.preTerminated(process));
-        update(process);
-        observable.invokeForEach(l -> l.terminated(process));
+        update(process, () -> observable.invokeForEach(l -> l.terminated(process)));
     }
 
     private void transitionToDeprovisioning(TransferProcess process) {
@@ -701,8 +694,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         monitor.severe(message);
         transferProcess.transitionDeprovisioned(message);
         observable.invokeForEach(l -> l.preDeprovisioned(transferProcess));
-        update(transferProcess);
-        observable.invokeForEach(l -> l.deprovisioned(transferProcess));
+        update(transferProcess, () -> observable.invokeForEach(l -> l.deprovisioned(transferProcess)));
     }
 
     public static class Builder
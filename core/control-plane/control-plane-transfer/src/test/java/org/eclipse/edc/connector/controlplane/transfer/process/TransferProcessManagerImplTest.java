@@ -47,6 +47,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.Transf
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhookRegistry;
 import org.eclipse.edc.spi.query.Criterion;
@@ -57,6 +58,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -68,10 +70,12 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -116,6 +120,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
@@ -299,6 +304,57 @@ class TransferProcessManagerImplTest {
         });
     }
 
+    @Test
+    void completing_shouldNotifyNonTransactionalSubscribers_afterTheUpdateIsCommitted() {
+        var inTransaction = new AtomicBoolean();
+        var notifiedInTransaction = new ArrayList<Boolean>();
+        TransactionContext transactionContext = mock();
+        when(transactionContext.execute(any(TransactionContext.ResultTransactionBlock.class))).thenAnswer(i -> {
+            inTransaction.set(true);
+            try {
+                return i.getArgument(0, TransactionContext.ResultTransactionBlock.class).execute();
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+        EventRouter eventRouter = mock();
+        when(eventRouter.deferring(any())).thenAnswer(i -> {
+            i.getArgument(0, Runnable.class).run();
+            return (Runnable) () -> notifiedInTransaction.add(inTransaction.get());
+        });
+        doAnswer(i -> {
+            assertThat(inTransaction).isTrue();
+            return null;
+        }).when(listener).completed(any());
+        var observable = new TransferProcessObservableImpl();
+        observable.registerListener(listener);
+        manager = TransferProcessManagerImpl.Builder.newInstance()
+                .dataFlowManager(dataFlowManager)
+                .waitStrategy(() -> 50L)
+                .dispatcherRegistry(dispatcherRegistry)
+                .monitor(mock())
+                .clock(clock)
+                .observable(observable)
+                .store(transferProcessStore)
+                .policyArchive(policyArchive)
+                .protocolWebhookRegistry(protocolWebhookRegistry)
+                .pendingGuard(pendingGuard)
+                .transactionContext(transactionContext)
+                .eventRouter(eventRouter)
+                .build();
+        var process = createTransferProcessBuilder(COMPLETING).type(CONSUMER).correlationId("correlationId").build();
+        when(transferProcessStore.nextNotLeased(anyInt(), stateIs(COMPLETING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
+        when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(COMPLETING.code()).build());
+        when(dispatcherRegistry.dispatch(any(), isA(TransferCompletionMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(listener).completed(process);
+            assertThat(notifiedInTransaction).containsExactly(false);
+        });
+    }
+
     @Test
     void completing_provider_shouldTransitionToDeprovisioning_whenSendingMessageSucceed() {
         var process = createTransferProcessBuilder(COMPLETING).type(PROVIDER).correlationId("correlationId").build();
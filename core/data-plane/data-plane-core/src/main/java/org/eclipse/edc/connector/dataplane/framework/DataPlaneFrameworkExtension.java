@@ -20,10 +20,14 @@ import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceReg
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.executor.TransferExecutors;
+import org.eclipse.edc.connector.dataplane.util.executor.TransferThreadMode;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -36,11 +40,11 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.WriteBehindMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
-import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_FACTOR;
 import static org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager.DEFAULT_FLOW_LEASE_TIME;
@@ -48,6 +52,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -72,6 +77,20 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     )
     private int batchSize;
 
+    @Setting(
+            description = "the number of workers that run the data plane state machine processors, with more than one the processors run concurrently.",
+            defaultValue = DEFAULT_WORKERS + "",
+            key = "edc.dataplane.state-machine.workers"
+    )
+    private int workers;
+
+    @Setting(
+            description = "how the data plane state machine persists the updates: DISABLED saves every update, ENTITY saves every data flow once after it has been processed, BATCH saves all the data flows once after every processor run.",
+            defaultValue = "DISABLED",
+            key = "edc.dataplane.state-machine.write-behind"
+    )
+    private String writeBehind;
+
     @Setting(
             description = "how many times a specific operation must be tried before terminating the dataplane with error",
             defaultValue = DEFAULT_SEND_RETRY_LIMIT + "",
@@ -87,12 +106,48 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private long sendRetryBaseDelay;
 
     @Setting(
-            description = "Size of the transfer thread pool. It is advisable to set it bigger than the state machine batch size",
+            description = "Size of the transfer thread pool. It is advisable to set it bigger than the state machine batch size. " +
+                    "With virtual threads it's the maximum number of transfer tasks that run concurrently, the exceeding ones are queued",
             defaultValue = DEFAULT_TRANSFER_THREADS + "",
             key = "edc.dataplane.transfer.threads"
     )
     private int numThreads;
 
+    @Setting(
+            description = "The kind of threads that run the transfers: PLATFORM uses a fixed thread pool, VIRTUAL runs every transfer task on its own virtual thread (requires Java 21, falls back to PLATFORM otherwise).",
+            defaultValue = "PLATFORM",
+            key = "edc.dataplane.transfer.thread.mode"
+    )
+    private String threadMode;
+
+    @Setting(
+            description = "Maximum number of transfer requests that run concurrently against the same destination host, 0 means unlimited.",
+            defaultValue = "0",
+            key = "edc.dataplane.transfer.host.max-concurrency"
+    )
+    private int hostMaxConcurrency;
+
+    @Setting(
+            description = "Size in bytes of the buffers used to stream the data from sources to sinks.",
+            defaultValue = ByteBufferPool.DEFAULT_BUFFER_SIZE + "",
+            key = "edc.dataplane.transfer.buffer.size"
+    )
+    private int bufferSize;
+
+    @Setting(
+            description = "Whether the buffers used to stream the data from sources to sinks are allocated off-heap.",
+            defaultValue = "false",
+            key = "edc.dataplane.transfer.buffer.direct"
+    )
+    private boolean directBuffers;
+
+    @Setting(
+            description = "Maximum number of idle streaming buffers kept in the shared pool.",
+            defaultValue = ByteBufferPool.DEFAULT_MAX_POOLED_BUFFERS + "",
+            key = "edc.dataplane.transfer.buffer.pool.size"
+    )
+    private int bufferPoolSize;
+
     @Configuration
     private FlowLeaseConfiguration flowLeaseConfiguration;
 
@@ -128,11 +183,11 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         transferServiceRegistry.registerTransferService(pipelineService);
         context.registerService(TransferServiceRegistry.class, transferServiceRegistry);
 
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
-
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategyFactory(() -> new ExponentialWaitStrategy(iterationWaitMillis))
                 .batchSize(batchSize)
+                .workers(workers)
+                .writeBehindMode(WriteBehindMode.from(writeBehind))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration())
                 .executorInstrumentation(executorInstrumentation)
@@ -165,9 +220,16 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @Provider
     public DataTransferExecutorServiceContainer dataTransferExecutorServiceContainer(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(numThreads);
+        var executorService = TransferExecutors.newTransferExecutor(TransferThreadMode.from(threadMode), numThreads,
+                "data-plane-transfer", context.getMonitor());
         return new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+                executorInstrumentation.instrument(executorService, "Data plane transfers"),
+                new HostConcurrencyLimiter(hostMaxConcurrency));
+    }
+
+    @Provider
+    public ByteBufferPool byteBufferPool() {
+        return new ByteBufferPool(bufferSize, directBuffers, bufferPoolSize);
     }
 
     @NotNull
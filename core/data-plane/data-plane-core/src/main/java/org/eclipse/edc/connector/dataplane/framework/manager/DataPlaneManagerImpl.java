@@ -22,9 +22,9 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
-import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
@@ -41,8 +41,10 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -52,6 +54,7 @@ import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.FAILED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.TERMINATED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.eclipse.edc.spi.result.Result.success;
@@ -68,6 +71,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     private TransferProcessApiClient transferProcessClient;
     private String runtimeId;
     private FlowLeaseConfiguration flowLeaseConfiguration = new FlowLeaseConfiguration();
+    private final Map<String, TransferCheckpoint> checkpoints = new ConcurrentHashMap<>();
 
     private DataPlaneManagerImpl() {
 
@@ -110,7 +114,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     @Override
     public DataFlowStates getTransferState(String processId) {
-        return Optional.ofNullable(store.findById(processId)).map(StatefulEntity::getState)
+        return Optional.ofNullable(store.findStateById(processId))
                 .map(DataFlowStates::from).orElse(null);
     }
 
@@ -126,6 +130,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     @Override
     public StatusResult<Void> terminate(String dataFlowId, @Nullable String reason) {
+        // an already terminated flow does not need to be leased and loaded to be terminated again
+        if (Objects.equals(store.findStateById(dataFlowId), TERMINATED.code())) {
+            return StatusResult.success();
+        }
+
         return stop(dataFlowId, reason)
                 .map(dataFlow -> {
                     dataFlow.transitToTerminated(reason);
@@ -167,6 +176,9 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     }
 
     private boolean updateFlowLease(DataFlow dataFlow) {
+        // the progress of the running transfer gets persisted together with the lease, so a restart can resume from it
+        Optional.ofNullable(checkpoints.get(dataFlow.getId()))
+                .ifPresent(checkpoint -> dataFlow.updateCheckpoint(checkpoint.getPositions()));
         dataFlow.transitToReceived();
         dataFlow.transitionToStarted(runtimeId);
         store.save(dataFlow);
@@ -255,11 +267,17 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
         dataFlow.transitionToStarted(runtimeId);
         update(dataFlow);
+        // the transfer completion reloads and leases the flow, that could happen before the end of the processing
+        flush(dataFlow);
+
+        var checkpoint = new TransferCheckpoint(dataFlow.getCheckpoint());
+        checkpoints.put(dataFlow.getId(), checkpoint);
 
         return entityRetryProcessFactory.retryProcessor(dataFlow)
-                .doProcess(Process.<DataFlow, Object, StreamResult<Object>>future("Start data flow", (d, v) -> transferService.transfer(request))
+                .doProcess(Process.<DataFlow, Object, StreamResult<Object>>future("Start data flow", (d, v) -> transferService.transferFromCheckpoint(request, checkpoint))
                         .entityReload(store::findByIdAndLease))
                 .onSuccess((f, r) -> {
+                    checkpoints.remove(f.getId());
                     if (f.getState() != STARTED.code()) {
                         return;
                     }
@@ -273,10 +291,13 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                     update(f);
                 })
                 .onFailure((f, t) -> {
+                    checkpoints.remove(f.getId());
+                    f.updateCheckpoint(checkpoint.getPositions());
                     f.transitToReceived();
                     update(f);
                 })
                 .onFinalFailure((f, t) -> {
+                    checkpoints.remove(f.getId());
                     f.transitToFailed(t.getMessage());
                     update(f);
                 })
@@ -317,7 +338,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         };
 
         return ProcessorImpl.Builder.newInstance(entitiesSupplier)
-                .process(telemetry.contextPropagationMiddleware(function))
+                .process(telemetry.contextPropagationMiddleware(writeBehind(function)))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
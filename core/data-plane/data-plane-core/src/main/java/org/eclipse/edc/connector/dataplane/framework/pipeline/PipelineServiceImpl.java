@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
@@ -100,16 +101,34 @@ public class PipelineServiceImpl implements PipelineService {
 
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink) {
+        return transfer(request, sink, null);
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transferFromCheckpoint(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
+        var sinkFactory = getSinkFactory(request);
+        if (sinkFactory == null) {
+            return noSinkFactory(request);
+        }
+
+        var sink = sinkFactory.createSink(request);
+
+        return transfer(request, sink, checkpoint);
+    }
+
+    private CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink, @Nullable TransferCheckpoint checkpoint) {
         var sourceFactory = getSourceFactory(request);
         if (sourceFactory == null) {
             return noSourceFactory(request);
         }
 
-        var source = sourceFactory.createSource(request);
+        var source = checkpoint == null ? sourceFactory.createSource(request) : sourceFactory.createSource(request, checkpoint);
         sources.put(request.getProcessId(), source);
         monitor.debug(() -> format("Transferring from %s to %s for flow id: %s.",
                 request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType(), request.getProcessId()));
-        return sink.transfer(source)
+        var transfer = checkpoint == null ? sink.transfer(source) : sink.transfer(source, checkpoint);
+        return transfer
                 .thenApply(result -> {
                     terminate(request.getProcessId());
                     return result;
@@ -15,13 +15,16 @@
 package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.result.Result;
@@ -32,12 +35,16 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.spi.types.domain.transfer.TransferType;
+import org.eclipse.edc.statemachine.WriteBehindMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -247,6 +254,18 @@ class DataPlaneManagerImplTest {
         verifyNoInteractions(transferService);
     }
 
+    @Test
+    void terminate_shouldNotLeaseDataFlow_whenAlreadyTerminated() {
+        when(store.findStateById("dataFlowId")).thenReturn(TERMINATED.code());
+
+        var result = manager.terminate("dataFlowId");
+
+        assertThat(result).isSucceeded();
+        verify(store, never()).findByIdAndLease(any());
+        verify(store, never()).save(any());
+        verifyNoInteractions(transferService, authorizationService);
+    }
+
     @Test
     void terminate_shouldReturnRetryError_whenEntityCannotBeLeased() {
         when(store.findByIdAndLease("dataFlowId")).thenReturn(StoreResult.alreadyLeased("already leased"));
@@ -366,12 +385,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(new CompletableFuture<>());
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 var captor = ArgumentCaptor.forClass(DataFlow.class);
                 verify(store).save(captor.capture());
                 var storedDataFlow = captor.getValue();
@@ -387,12 +406,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -405,12 +424,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(terminatedDataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -423,12 +442,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(terminatedDataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(completedFuture(StreamResult.success()));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, never()).save(argThat(it -> it.getState() == COMPLETED.code()));
             });
         }
@@ -440,16 +459,51 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.error("an error")));
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(completedFuture(StreamResult.error("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == FAILED.code() && it.getErrorDetail().equals(GENERAL_ERROR + ": an error")));
             });
         }
 
+        @Test
+        void shouldResumeTransferFromDataFlowCheckpoint() {
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).checkpoint(Map.of("part", TransferCheckpoint.COMPLETED)).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.canHandle(any())).thenReturn(true);
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(new CompletableFuture<>());
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), argThat(checkpoint -> checkpoint.isCompleted("part")));
+            });
+        }
+
+        @Test
+        void shouldStoreCheckpoint_whenTransferFutureIsFailed() {
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.canHandle(any())).thenReturn(true);
+            when(transferService.transferFromCheckpoint(any(), any())).thenAnswer(i -> {
+                i.getArgument(1, TransferCheckpoint.class).complete("part");
+                return failedFuture(new RuntimeException("an error"));
+            });
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == RECEIVED.code() && it.getCheckpoint().containsKey("part")));
+            });
+        }
+
         @Test
         void shouldStartTransferAndTransitionToReceivedForRetrying_whenTransferFutureIsFailed() {
             var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
@@ -457,12 +511,12 @@ class DataPlaneManagerImplTest {
             when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(dataFlow));
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(failedFuture(new RuntimeException("an error")));
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(failedFuture(new RuntimeException("an error")));
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, atLeastOnce()).save(argThat(it -> it.getState() == RECEIVED.code()));
             });
         }
@@ -587,13 +641,13 @@ class DataPlaneManagerImplTest {
                     .thenReturn(List.of(dataFlow)).thenReturn(List.of(anotherDataFlow)).thenReturn(emptyList());
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(new CompletableFuture<>());
 
             var result = manager.restartFlows();
 
             assertThat(result).isSucceeded();
             await().untilAsserted(() -> {
-                verify(transferService, times(2)).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService, times(2)).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 verify(store, times(2)).save(argThat(it -> it.getState() == STARTED.code()));
                 var captor = ArgumentCaptor.forClass(Criterion[].class);
                 verify(store, atLeast(1)).nextNotLeased(anyInt(), captor.capture());
@@ -633,12 +687,12 @@ class DataPlaneManagerImplTest {
                     .thenReturn(List.of(dataFlow)).thenReturn(emptyList());
             when(registry.resolveTransferService(any())).thenReturn(transferService);
             when(transferService.canHandle(any())).thenReturn(true);
-            when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(new CompletableFuture<>());
 
             manager.start();
 
             await().untilAsserted(() -> {
-                verify(transferService).transfer(isA(DataFlowStartMessage.class));
+                verify(transferService).transferFromCheckpoint(isA(DataFlowStartMessage.class), any());
                 var captor = ArgumentCaptor.forClass(DataFlow.class);
                 verify(store).save(captor.capture());
                 var storedDataFlow = captor.getValue();
@@ -648,6 +702,56 @@ class DataPlaneManagerImplTest {
         }
     }
 
+    @Nested
+    class WriteBehind {
+
+        private final InMemoryDataPlaneStore inMemoryStore = new InMemoryDataPlaneStore(Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults());
+
+        @ParameterizedTest
+        @EnumSource(value = WriteBehindMode.class, names = { "ENTITY", "BATCH" })
+        void shouldCompletePushFlow_whenTransferCompletesImmediately(WriteBehindMode writeBehindMode) {
+            when(transferService.transferFromCheckpoint(any(), any())).thenReturn(completedFuture(StreamResult.success()));
+
+            assertPushFlowGetsNotified(writeBehindMode);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = WriteBehindMode.class, names = { "ENTITY", "BATCH" })
+        void shouldCompletePushFlow_whenTransferCompletesAsynchronously(WriteBehindMode writeBehindMode) {
+            when(transferService.transferFromCheckpoint(any(), any()))
+                    .thenReturn(CompletableFuture.supplyAsync(() -> StreamResult.success()));
+
+            assertPushFlowGetsNotified(writeBehindMode);
+        }
+
+        private void assertPushFlowGetsNotified(WriteBehindMode writeBehindMode) {
+            var dataFlow = dataFlowBuilder().id("flowId").state(RECEIVED.code()).build();
+            inMemoryStore.save(dataFlow);
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferProcessApiClient.completed(any())).thenReturn(Result.success());
+            var bufferedManager = DataPlaneManagerImpl.Builder.newInstance()
+                    .executorInstrumentation(ExecutorInstrumentation.noop())
+                    .transferServiceRegistry(registry)
+                    .store(inMemoryStore)
+                    .transferProcessClient(transferProcessApiClient)
+                    .authorizationService(authorizationService)
+                    .writeBehindMode(writeBehindMode)
+                    .monitor(mock())
+                    .runtimeId(runtimeId)
+                    .build();
+
+            bufferedManager.start();
+            try {
+                await().untilAsserted(() -> {
+                    assertThat(inMemoryStore.findById("flowId").getState()).isEqualTo(NOTIFIED.code());
+                    verify(transferProcessApiClient).completed(any());
+                });
+            } finally {
+                bufferedManager.stop();
+            }
+        }
+    }
+
     private DataFlow.Builder dataFlowBuilder() {
         return DataFlow.Builder.newInstance()
                 .source(DataAddress.Builder.newInstance().type("source").build())
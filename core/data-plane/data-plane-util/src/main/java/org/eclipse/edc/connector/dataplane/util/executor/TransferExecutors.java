@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.executor;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the {@link ExecutorService}s that run the data transfers.
+ */
+public final class TransferExecutors {
+
+    private static final long VIRTUAL_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private TransferExecutors() {
+    }
+
+    /**
+     * Create an executor that runs at most the given number of transfers concurrently, the exceeding ones are queued.
+     * <p>
+     * With {@link TransferThreadMode#VIRTUAL} every transfer gets a new virtual thread, so the limit can be set way
+     * higher than the number of platform threads. The executor is still a {@link ThreadPoolExecutor}, so the number of
+     * running and queued transfers is reported by the executor instrumentation. Virtual threads are available from
+     * Java 21, on older runtimes the executor falls back to platform threads.
+     *
+     * @param mode    the thread mode.
+     * @param threads the maximum number of transfers that run concurrently.
+     * @param name    the name given to the threads.
+     * @param monitor the monitor.
+     * @return the executor.
+     */
+    public static ExecutorService newTransferExecutor(TransferThreadMode mode, int threads, String name, Monitor monitor) {
+        if (mode == TransferThreadMode.VIRTUAL) {
+            var threadFactory = virtualThreadFactory(name);
+            if (threadFactory.isPresent()) {
+                var executor = new ThreadPoolExecutor(threads, threads, VIRTUAL_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), threadFactory.get());
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
+            }
+            monitor.warning("Virtual threads are not supported by the current Java runtime, %s will run on platform threads".formatted(name));
+        }
+        return Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * Resolves the virtual thread factory reflectively, as the code base targets a Java version that does not
+     * provide virtual threads.
+     */
+    static Optional<ThreadFactory> virtualThreadFactory(String name) {
+        try {
+            var builderType = Class.forName("java.lang.Thread$Builder");
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.executor;
+
+/**
+ * Defines which kind of threads run the data transfers.
+ */
+public enum TransferThreadMode {
+
+    /**
+     * Transfers run on a fixed pool of platform threads.
+     */
+    PLATFORM,
+
+    /**
+     * Every transfer runs on its own virtual thread, blocking I/O doesn't hold a platform thread.
+     */
+    VIRTUAL;
+
+    /**
+     * Parses the thread mode, case-insensitive.
+     *
+     * @param value the value.
+     * @return the thread mode.
+     * @throws IllegalArgumentException if the value is not a valid thread mode.
+     */
+    public static TransferThreadMode from(String value) {
+        return valueOf(value.toUpperCase());
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.util.sink;
 
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
@@ -21,6 +22,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -47,10 +49,24 @@ public class AsyncStreamingDataSink implements DataSink {
 
     private final AsyncResponseContext asyncContext;
     private final ExecutorService executorService;
+    private final ByteBufferPool bufferPool;
 
     public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService) {
+        this(asyncContext, executorService, null);
+    }
+
+    /**
+     * Create a sink that reads the parts content through their channel into buffers taken from the pool, instead of
+     * allocating new ones for every part.
+     *
+     * @param asyncContext    the response context.
+     * @param executorService the executor that runs the transfers.
+     * @param bufferPool      the buffer pool, if null the parts content is copied with {@link java.io.InputStream#transferTo(OutputStream)}.
+     */
+    public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService, @Nullable ByteBufferPool bufferPool) {
         this.asyncContext = asyncContext;
         this.executorService = executorService;
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -80,7 +96,13 @@ public class AsyncStreamingDataSink implements DataSink {
     private StatusResult<?> transferPart(DataSource.Part part) {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
             try {
-                part.openStream().transferTo(outputStream);
+                if (bufferPool != null) {
+                    try (var channel = part.openChannel()) {
+                        bufferPool.transfer(channel, outputStream);
+                    }
+                } else {
+                    part.openStream().transferTo(outputStream);
+                }
             } catch (IOException e) {
                 throw new EdcException(e);
             }
@@ -17,18 +17,24 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
@@ -41,17 +47,35 @@ public abstract class ParallelSink implements DataSink {
     protected String requestId;
     protected int partitionSize = 5;
     protected ExecutorService executorService;
+    protected HostConcurrencyLimiter hostConcurrencyLimiter = HostConcurrencyLimiter.unlimited();
     protected Monitor monitor;
     protected Telemetry telemetry;
 
     @WithSpan
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return transferPartitions(source, null);
+    }
+
+    /**
+     * Transfers the parts that the checkpoint doesn't mark as transferred. Once a partition and all the ones before it
+     * have been transferred, their parts get committed into the checkpoint, so that a resumed transfer never skips a
+     * part that didn't reach the destination.
+     */
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source, TransferCheckpoint checkpoint) {
+        return transferPartitions(source, new PartitionCommit(checkpoint));
+    }
+
+    private CompletableFuture<StreamResult<Object>> transferPartitions(DataSource source, @Nullable PartitionCommit commit) {
         return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), executorService)
                 .thenCompose(parts -> {
                     try (parts) {
-                        return PartitionIterator.streamOf(parts, partitionSize)
-                                .map(this::processPartsAsync)
+                        var pending = commit == null ? parts : parts.filter(part -> !part.isCommitted(commit.checkpoint));
+                        var index = new AtomicInteger();
+                        return PartitionIterator.streamOf(pending, partitionSize)
+                                .map(partition -> processPartsAsync(partition, index.getAndIncrement(), commit))
                                 .collect(asyncAllOf())
                                 .thenApply(results -> results.stream()
                                         .filter(StreamResult::failed)
@@ -70,8 +94,17 @@ public abstract class ParallelSink implements DataSink {
     }
 
     @NotNull
-    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
+    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts, int index, @Nullable PartitionCommit commit) {
+        var future = transferPartsAsync(parts);
+        if (commit == null) {
+            return future;
+        }
+        return future.thenApply(result -> {
+            if (result.succeeded()) {
+                commit.completed(index, parts);
+            }
+            return result;
+        });
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
@@ -80,6 +113,17 @@ public abstract class ParallelSink implements DataSink {
 
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
 
+    /**
+     * Transfers a partition asynchronously. By default {@link #transferParts(List)} runs on the executor service,
+     * implementations that can transfer parts without blocking a thread may override this method.
+     *
+     * @param parts the partition parts.
+     * @return the transfer result.
+     */
+    protected CompletableFuture<StreamResult<Object>> transferPartsAsync(List<DataSource.Part> parts) {
+        return supplyAsync(transfer(parts), executorService);
+    }
+
     /**
      * Called after all parallel parts are transferred, only if all parts were successfully transferred.
      * <p>
@@ -91,6 +135,30 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Commits the parts of the transferred partitions into the checkpoint in the order they have been read from the
+     * source, as partitions can complete out of order.
+     */
+    private static class PartitionCommit {
+
+        private final TransferCheckpoint checkpoint;
+        private final Map<Integer, List<DataSource.Part>> completed = new HashMap<>();
+        private int next;
+
+        PartitionCommit(TransferCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized void completed(int index, List<DataSource.Part> parts) {
+            completed.put(index, parts);
+            List<DataSource.Part> ready;
+            while ((ready = completed.remove(next)) != null) {
+                ready.forEach(part -> part.commit(checkpoint));
+                next++;
+            }
+        }
+    }
+
     private static class StreamException extends EdcException {
 
         private final StreamFailure failure;
@@ -124,6 +192,11 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        public B hostConcurrencyLimiter(HostConcurrencyLimiter hostConcurrencyLimiter) {
+            sink.hostConcurrencyLimiter = hostConcurrencyLimiter;
+            return self();
+        }
+
         public B monitor(Monitor monitor) {
             sink.monitor = monitor;
             return self();
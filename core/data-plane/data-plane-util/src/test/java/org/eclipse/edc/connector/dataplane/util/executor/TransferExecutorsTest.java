@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.executor;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TransferExecutorsTest {
+
+    private final Monitor monitor = mock();
+
+    @ParameterizedTest
+    @EnumSource(TransferThreadMode.class)
+    void shouldRunTasks(TransferThreadMode mode) throws Exception {
+        var executor = TransferExecutors.newTransferExecutor(mode, 2, "test", monitor);
+
+        try {
+            assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+            assertThat(executor.submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void virtual_shouldWarn_whenNotSupported() {
+        var executor = TransferExecutors.newTransferExecutor(TransferThreadMode.VIRTUAL, 2, "test", monitor);
+
+        try {
+            if (TransferExecutors.virtualThreadFactory("test").isPresent()) {
+                verifyNoInteractions(monitor);
+            } else {
+                verify(monitor).warning(anyString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void threadMode_shouldParseCaseInsensitive() {
+        assertThat(TransferThreadMode.from("virtual")).isEqualTo(TransferThreadMode.VIRTUAL);
+        assertThatThrownBy(() -> TransferThreadMode.from("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
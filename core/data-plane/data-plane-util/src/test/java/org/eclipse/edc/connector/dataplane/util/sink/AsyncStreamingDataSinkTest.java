@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.util.sink;
 
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseContext;
@@ -24,6 +25,7 @@ import org.mockito.stubbing.Answer;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
@@ -72,6 +74,32 @@ class AsyncStreamingDataSinkTest {
         });
     }
 
+    @Test
+    void verify_streaming_withBufferPool() {
+        var part = mock(DataSource.Part.class);
+        when(part.openChannel()).thenReturn(Channels.newChannel(new ByteArrayInputStream(TEST_CONTENT)));
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        var outputStream = new ByteArrayOutputStream();
+
+        //noinspection unchecked
+        when(asyncContext.register(isA(AsyncStreamingDataSink.AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            @SuppressWarnings("rawtypes") var callback = (AsyncStreamingDataSink.AsyncResponseCallback) invocation.getArgument(0);
+            callback.outputStreamConsumer().accept(outputStream);
+            return true;
+        });
+
+        var pooledSink = new AsyncStreamingDataSink(asyncContext, executorService, new ByteBufferPool(2, false, 1));
+        var future = pooledSink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(2, SECONDS).satisfies(result -> {
+            assertThat(result).isSucceeded();
+            assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
+        });
+    }
+
     @Test
     void verify_exceptionThrown() throws Exception {
         var part = mock(DataSource.Part.class);
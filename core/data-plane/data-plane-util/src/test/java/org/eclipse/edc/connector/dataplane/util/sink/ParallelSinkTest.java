@@ -18,14 +18,18 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.UUID.randomUUID;
@@ -125,12 +129,58 @@ class ParallelSinkTest {
         assertThat(future).isNotNull();
     }
 
+    @Test
+    void transfer_withCheckpoint_shouldSkipCommittedPartsAndCommitTransferredOnes() {
+        var checkpoint = new TransferCheckpoint(Map.of("a", TransferCheckpoint.COMPLETED));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(new CheckpointedPart("a"), new CheckpointedPart("b"), new CheckpointedPart("c"))));
+
+        var future = fakeSink.transfer(dataSource, checkpoint);
+
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        assertThat(fakeSink.parts).extracting(DataSource.Part::name).containsExactly("b", "c");
+        assertThat(checkpoint.getPositions()).containsOnlyKeys("a", "b", "c");
+    }
+
+    @Test
+    void transfer_withCheckpoint_shouldNotCommitParts_whenTransferFails() {
+        var checkpoint = new TransferCheckpoint();
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(new CheckpointedPart("a"))));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        var future = fakeSink.transfer(dataSource, checkpoint);
+
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        assertThat(checkpoint.isEmpty()).isTrue();
+    }
+
     private InputStreamDataSource dataSource() {
         return new InputStreamDataSource(
                 "test-datasource-name",
                 new ByteArrayInputStream("test-content".getBytes()));
     }
 
+    private record CheckpointedPart(String name) implements DataSource.Part {
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public void commit(TransferCheckpoint checkpoint) {
+            checkpoint.complete(name);
+        }
+
+        @Override
+        public boolean isCommitted(TransferCheckpoint checkpoint) {
+            return checkpoint.isCompleted(name);
+        }
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
@@ -20,15 +20,34 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ResponseDecorator;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 
 import java.net.URI;
 import java.util.function.IntBinaryOperator;
 
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.GREATER_THAN;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LESS_THAN;
+
+/**
+ * Adds the links to the next and the previous catalog pages to the response.
+ * <p>
+ * When the datasets are sorted by id, that's the default, the links carry keyset continuation tokens: the next page
+ * selects the datasets with an id greater than the last one returned, instead of skipping the ones already returned, so
+ * that the dataset resolution doesn't need to go through them again. The previous page selects the datasets with an id
+ * lower than the first one returned, sorted by descending id, so its datasets are returned in descending order.
+ * <p>
+ * Otherwise the next page starts at the {@link Catalog#getNextOffset()} given by the dataset resolution, that accounts
+ * for the assets that have been gone through without resulting in a dataset.
+ */
 public class CatalogPaginationResponseDecorator implements ResponseDecorator<CatalogRequestMessage, Catalog> {
 
     private static final String NEXT = "next";
     private static final String PREV = "prev";
+    private static final String DATASET_ID = EDC_NAMESPACE + "id";
 
     private final String requestUrl;
     private final ContinuationTokenSerDes continuationTokenSerDes;
@@ -43,20 +62,82 @@ public class CatalogPaginationResponseDecorator implements ResponseDecorator<Cat
     @Override
     public Response.ResponseBuilder decorate(Response.ResponseBuilder responseBuilder, CatalogRequestMessage requestBody, Catalog responseBody) {
         var currentQuerySpec = requestBody.getQuerySpec();
-        if (responseBody.getDatasets().size() == currentQuerySpec.getLimit()) {
-            addLink(NEXT, responseBuilder, currentQuerySpec, (offset, limit) -> offset + limit);
+        var datasets = responseBody.getDatasets();
+        var isFullPage = datasets.size() == currentQuerySpec.getLimit();
+        var firstId = datasets.isEmpty() ? null : datasets.get(0).getId();
+        var lastId = datasets.isEmpty() ? null : datasets.get(datasets.size() - 1).getId();
+
+        if (isReverseKeysetPage(currentQuerySpec)) {
+            // datasets are sorted by descending id, the first one has the highest id
+            if (firstId != null) {
+                addLink(NEXT, responseBuilder, keysetPage(currentQuerySpec, GREATER_THAN, firstId, SortOrder.ASC));
+            }
+            if (isFullPage && lastId != null) {
+                addLink(PREV, responseBuilder, keysetPage(currentQuerySpec, LESS_THAN, lastId, SortOrder.DESC));
+            }
+            return responseBuilder;
+        }
+
+        var isSortedById = isSortedById(currentQuerySpec);
+        if (isFullPage) {
+            if (isSortedById && lastId != null) {
+                addLink(NEXT, responseBuilder, keysetPage(currentQuerySpec, GREATER_THAN, lastId, SortOrder.ASC));
+            } else {
+                var nextOffset = responseBody.getNextOffset();
+                addLink(NEXT, responseBuilder, currentQuerySpec, (offset, limit) -> nextOffset != null ? nextOffset : offset + limit);
+            }
         }
 
-        if (currentQuerySpec.getOffset() >= currentQuerySpec.getLimit()) {
+        if (isSortedById && hasKeysetCriterion(currentQuerySpec, GREATER_THAN) && firstId != null) {
+            addLink(PREV, responseBuilder, keysetPage(currentQuerySpec, LESS_THAN, firstId, SortOrder.DESC));
+        } else if (currentQuerySpec.getOffset() >= currentQuerySpec.getLimit()) {
             addLink(PREV, responseBuilder, currentQuerySpec, (offset, limit) -> offset - limit);
         }
 
         return responseBuilder;
     }
 
+    private boolean isSortedById(QuerySpec querySpec) {
+        return querySpec.getSortField() == null || (DATASET_ID.equals(querySpec.getSortField()) && querySpec.getSortOrder() == SortOrder.ASC);
+    }
+
+    private boolean isReverseKeysetPage(QuerySpec querySpec) {
+        return DATASET_ID.equals(querySpec.getSortField()) && querySpec.getSortOrder() == SortOrder.DESC &&
+                hasKeysetCriterion(querySpec, LESS_THAN);
+    }
+
+    private boolean hasKeysetCriterion(QuerySpec querySpec, String operator) {
+        return querySpec.getFilterExpression().stream()
+                .anyMatch(criterion -> DATASET_ID.equals(criterion.getOperandLeft()) && operator.equals(criterion.getOperator()));
+    }
+
+    private QuerySpec keysetPage(QuerySpec currentQuerySpec, String operator, String id, SortOrder sortOrder) {
+        var filter = currentQuerySpec.getFilterExpression().stream()
+                .filter(criterion -> !isKeysetCriterion(criterion))
+                .toList();
+
+        return QuerySpec.Builder.newInstance()
+                .filter(filter)
+                .filter(criterion(DATASET_ID, operator, id))
+                .sortField(DATASET_ID)
+                .sortOrder(sortOrder)
+                .offset(0)
+                .limit(currentQuerySpec.getLimit())
+                .build();
+    }
+
+    private boolean isKeysetCriterion(Criterion criterion) {
+        return DATASET_ID.equals(criterion.getOperandLeft()) &&
+                (GREATER_THAN.equals(criterion.getOperator()) || LESS_THAN.equals(criterion.getOperator()));
+    }
+
     private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec currentQuerySpec, IntBinaryOperator newOffsetOperator) {
         var newOffset = newOffsetOperator.applyAsInt(currentQuerySpec.getOffset(), currentQuerySpec.getLimit());
-        continuationTokenSerDes.serialize(currentQuerySpec.toBuilder().offset(newOffset).build())
+        addLink(rel, responseBuilder, currentQuerySpec.toBuilder().offset(newOffset).build());
+    }
+
+    private void addLink(String rel, Response.ResponseBuilder responseBuilder, QuerySpec querySpec) {
+        continuationTokenSerDes.serialize(querySpec)
                 .onSuccess(token -> responseBuilder.link(URI.create(requestUrl + "?continuationToken=" + token), rel))
                 .onFailure(failure -> monitor.warning("Cannot serialize continuationToken for catalog pagination: " + failure.getFailureDetail()));
     }
@@ -21,11 +21,16 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenSerDes;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -53,7 +58,56 @@ class CatalogPaginationResponseDecoratorTest {
 
             assertThat(response.hasLink("next")).isTrue();
             assertThat(response.getLink("next").getUri().toString()).isEqualTo(requestUrl + "?continuationToken=serializedToken");
-            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 1));
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 0 && q.getFilterExpression().size() == 1));
+        }
+
+        @Test
+        void shouldSetKeysetLink_whenDatasetsAreSortedById() {
+            var responseBuilder = Response.ok();
+            var filter = criterion("key", "=", "value");
+            var previousKeyset = criterion(EDC_NAMESPACE + "id", ">", "previous");
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(2).filter(filter).filter(previousKeyset).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance()
+                    .dataset(Dataset.Builder.newInstance().id("first").build())
+                    .dataset(Dataset.Builder.newInstance().id("last").build())
+                    .build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isTrue();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 0 && q.getLimit() == 2 &&
+                    (EDC_NAMESPACE + "id").equals(q.getSortField()) &&
+                    q.getFilterExpression().equals(List.of(filter, criterion(EDC_NAMESPACE + "id", ">", "last")))));
+        }
+
+        @Test
+        void shouldSetOffsetLink_whenDatasetsAreSortedByAnotherField() {
+            var responseBuilder = Response.ok();
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(1).sortField("name").build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().id("id").build()).build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isTrue();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 1 && "name".equals(q.getSortField())));
+        }
+
+        @Test
+        void shouldSetOffsetLinkToNextOffset_whenDatasetResolutionWentThroughMoreAssets() {
+            var responseBuilder = Response.ok();
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(1).sortField("name").build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance().dataset(Dataset.Builder.newInstance().id("id").build()).nextOffset(3).build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("next")).isTrue();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 3 && "name".equals(q.getSortField())));
         }
 
         @Test
@@ -85,6 +139,50 @@ class CatalogPaginationResponseDecoratorTest {
 
     @Nested
     class Prev {
+        @Test
+        void shouldSetReverseKeysetLink_whenPageFollowsKeysetToken() {
+            var responseBuilder = Response.ok();
+            var filter = criterion("key", "=", "value");
+            var previousKeyset = criterion(EDC_NAMESPACE + "id", ">", "previous");
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(2).filter(filter).filter(previousKeyset).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance()
+                    .dataset(Dataset.Builder.newInstance().id("first").build())
+                    .build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("prev")).isTrue();
+            assertThat(response.hasLink("next")).isFalse();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getOffset() == 0 && q.getLimit() == 2 &&
+                    (EDC_NAMESPACE + "id").equals(q.getSortField()) && q.getSortOrder() == SortOrder.DESC &&
+                    q.getFilterExpression().equals(List.of(filter, criterion(EDC_NAMESPACE + "id", "<", "first")))));
+        }
+
+        @Test
+        void shouldSetKeysetLinksInBothDirections_whenPageIsReverseKeysetPage() {
+            var responseBuilder = Response.ok();
+            var reverseKeyset = criterion(EDC_NAMESPACE + "id", "<", "next");
+            var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(2).filter(reverseKeyset)
+                    .sortField(EDC_NAMESPACE + "id").sortOrder(SortOrder.DESC).build();
+            var message = CatalogRequestMessage.Builder.newInstance().querySpec(querySpec).build();
+            var catalog = Catalog.Builder.newInstance()
+                    .dataset(Dataset.Builder.newInstance().id("highest").build())
+                    .dataset(Dataset.Builder.newInstance().id("lowest").build())
+                    .build();
+            when(continuationTokenSerDes.serialize(any())).thenReturn(Result.success("serializedToken"));
+
+            var response = decorator.decorate(responseBuilder, message, catalog).build();
+
+            assertThat(response.hasLink("prev")).isTrue();
+            assertThat(response.hasLink("next")).isTrue();
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getSortOrder() == SortOrder.DESC &&
+                    q.getFilterExpression().equals(List.of(criterion(EDC_NAMESPACE + "id", "<", "lowest")))));
+            verify(continuationTokenSerDes).serialize(argThat(q -> q.getSortOrder() == SortOrder.ASC &&
+                    q.getFilterExpression().equals(List.of(criterion(EDC_NAMESPACE + "id", ">", "highest")))));
+        }
+
         @Test
         void shouldSetLink_whenOffsetGreaterOrEqualLimit() {
             var responseBuilder = Response.ok();
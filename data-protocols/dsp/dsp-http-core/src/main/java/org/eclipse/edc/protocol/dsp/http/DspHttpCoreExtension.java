@@ -37,6 +37,7 @@ import org.eclipse.edc.policy.context.request.spi.RequestContractNegotiationPoli
 import org.eclipse.edc.policy.context.request.spi.RequestTransferProcessPolicyContext;
 import org.eclipse.edc.policy.context.request.spi.RequestVersionPolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsCache;
 import org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.http.protocol.DspProtocolParserImpl;
@@ -50,6 +51,7 @@ import org.eclipse.edc.protocol.dsp.spi.transform.DspProtocolTypeTransformerRegi
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -61,6 +63,8 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.policy.context.request.spi.RequestCatalogPolicyContext.CATALOGING_REQUEST_SCOPE;
 import static org.eclipse.edc.policy.context.request.spi.RequestContractNegotiationPolicyContext.CONTRACT_NEGOTIATION_REQUEST_SCOPE;
 import static org.eclipse.edc.policy.context.request.spi.RequestTransferProcessPolicyContext.TRANSFER_PROCESS_REQUEST_SCOPE;
@@ -109,8 +113,18 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private ProtocolVersionRegistry versionRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Setting(description = "Time in milliseconds during which the token obtained for an outgoing message is reused for other messages with the same audience and scopes. 0 disables the reuse.", defaultValue = "0", key = "edc.dsp.client.token.cache.ttl-millis")
+    private long tokenCacheTtl;
+
+    @Setting(description = "Maximum number of tokens for outgoing messages kept for reuse.", defaultValue = "1000", key = "edc.dsp.client.token.cache.max-entries")
+    private int tokenCacheSize;
+
     private DspProtocolTypeTransformerRegistry dspTransformerRegistry;
     private DspProtocolParser dspProtocolParser;
+    private ClientCredentialsCache clientCredentialsCache;
 
 
     @Override
@@ -133,7 +147,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, clientCredentialsCache(), td, policyEngine, audienceResolver);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -143,6 +157,14 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    @Provider
+    public ClientCredentialsCache clientCredentialsCache() {
+        if (clientCredentialsCache == null) {
+            clientCredentialsCache = new ClientCredentialsCache(identityService::obtainClientCredentials, tokenCacheTtl, tokenCacheSize, clock);
+        }
+        return clientCredentialsCache;
+    }
+
     @Provider
     public DspRequestHandler dspRequestHandler() {
         return new DspRequestHandlerImpl(monitor, validatorRegistry, dspTransformerRegistry());
@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Reuses the tokens obtained for outgoing messages, so that the messages sent to the same audience with the same
+ * scopes don't need a new token every time.
+ * <p>
+ * A token is reused until the earliest of the cache time-to-live and its {@link TokenRepresentation#getExpiresIn()}
+ * (in seconds), or the {@code exp} claim of the token if it's a JWT and the expiration is not given. Tokens whose
+ * expiration is not known are not reused. After 80% of that lifetime the token gets renewed by the next caller, while
+ * the concurrent callers keep using the still valid one. Callers that need a token that is not available wait for the
+ * same fetch instead of starting their own.
+ * <p>
+ * The number of reused and fetched tokens and the total time spent fetching are counted, so that they can be published
+ * as metrics.
+ */
+public class ClientCredentialsCache {
+
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String EXPIRATION_CLAIM = "exp";
+    private static final double RENEWAL_RATIO = 0.8;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Function<TokenParameters, Result<TokenRepresentation>> tokenSource;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder fetched = new LongAdder();
+    private final LongAdder fetchNanos = new LongAdder();
+
+    /**
+     * Create a cache.
+     *
+     * @param tokenSource obtains the tokens, e.g. the {@code IdentityService}.
+     * @param ttlMillis   maximum time a token gets reused in milliseconds, 0 or less disables the cache.
+     * @param maxEntries  maximum number of cached tokens.
+     * @param clock       the clock.
+     */
+    public ClientCredentialsCache(Function<TokenParameters, Result<TokenRepresentation>> tokenSource, long ttlMillis, int maxEntries, Clock clock) {
+        this.tokenSource = tokenSource;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Cache that always obtains a new token.
+     *
+     * @param tokenSource obtains the tokens.
+     * @return the cache.
+     */
+    public static ClientCredentialsCache disabled(Function<TokenParameters, Result<TokenRepresentation>> tokenSource) {
+        return new ClientCredentialsCache(tokenSource, 0, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Get a token for the parameters, reusing a cached one if it's still valid.
+     *
+     * @param parameters the token parameters.
+     * @return the token, or a failure if it could not be obtained.
+     */
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            return fetch(parameters);
+        }
+
+        var key = Key.of(parameters);
+        var entry = entries.get(key);
+        if (entry == null) {
+            evictIfFull();
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+
+        var now = clock.instant();
+        var cached = entry.token;
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (!now.isBefore(cached.renewAt()) && entry.loading.get() == null) {
+                var renewed = load(entry, parameters);
+                if (renewed.succeeded()) {
+                    return renewed;
+                }
+            }
+            reused.increment();
+            return success(cached.representation());
+        }
+
+        return load(entry, parameters);
+    }
+
+    /**
+     * Number of requests that have been served with an already available token, or with a token fetched by another
+     * caller.
+     *
+     * @return the number of reused tokens.
+     */
+    public long getReused() {
+        return reused.sum();
+    }
+
+    /**
+     * Number of tokens obtained from the token source, whether they succeeded or not.
+     *
+     * @return the number of fetched tokens.
+     */
+    public long getFetched() {
+        return fetched.sum();
+    }
+
+    /**
+     * Total time spent obtaining tokens from the token source.
+     *
+     * @param unit the time unit.
+     * @return the total fetch time.
+     */
+    public double getFetchTime(TimeUnit unit) {
+        return (double) fetchNanos.sum() / unit.toNanos(1);
+    }
+
+    private Result<TokenRepresentation> load(Entry entry, TokenParameters parameters) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var running = entry.loading.compareAndExchange(null, future);
+        if (running != null) {
+            reused.increment();
+            return running.join();
+        }
+
+        try {
+            // another caller may have stored a fresh token in the meantime
+            var cached = entry.token;
+            if (cached != null && clock.instant().isBefore(cached.renewAt())) {
+                reused.increment();
+                var result = Result.success(cached.representation());
+                future.complete(result);
+                return result;
+            }
+
+            var result = fetch(parameters);
+            if (result.succeeded()) {
+                entry.token = cachedToken(result.getContent());
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            entry.loading.set(null);
+        }
+    }
+
+    private Result<TokenRepresentation> fetch(TokenParameters parameters) {
+        var start = System.nanoTime();
+        try {
+            return tokenSource.apply(parameters);
+        } finally {
+            fetched.increment();
+            fetchNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Nullable
+    private CachedToken cachedToken(TokenRepresentation representation) {
+        var now = clock.instant();
+        var lifetime = ttlMillis;
+        var expiresIn = representation.getExpiresIn();
+        if (expiresIn != null) {
+            lifetime = Math.min(lifetime, expiresIn * 1000);
+        } else {
+            var expiration = jwtExpiration(representation.getToken());
+            if (expiration == null) {
+                return null;
+            }
+            lifetime = Math.min(lifetime, expiration.toEpochMilli() - now.toEpochMilli());
+        }
+        if (lifetime <= 0) {
+            return null;
+        }
+        return new CachedToken(representation, now.plusMillis((long) (lifetime * RENEWAL_RATIO)), now.plusMillis(lifetime));
+    }
+
+    /**
+     * Read the {@code exp} claim of a JWT without verifying it, the token has been issued for this runtime.
+     */
+    @Nullable
+    private static Instant jwtExpiration(@Nullable String token) {
+        if (token == null) {
+            return null;
+        }
+        var parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            var expiration = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get(EXPIRATION_CLAIM);
+            return expiration != null && expiration.canConvertToLong() ? Instant.ofEpochSecond(expiration.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        var now = clock.instant();
+        entries.values().removeIf(entry -> entry.token != null && !now.isBefore(entry.token.expiresAt()));
+        while (entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(it -> it.getValue().token == null ? Instant.MIN : it.getValue().token.expiresAt()))
+                    .ifPresent(it -> entries.remove(it.getKey(), it.getValue()));
+        }
+    }
+
+    /**
+     * Identifies the tokens that can be used in place of each other: same headers and claims, with the scopes compared
+     * regardless of their order.
+     */
+    private record Key(Map<String, Object> headers, Map<String, Object> claims) {
+
+        static Key of(TokenParameters parameters) {
+            var claims = new HashMap<>(parameters.getClaims());
+            if (claims.get(SCOPE_CLAIM) instanceof String scope) {
+                claims.put(SCOPE_CLAIM, new TreeSet<>(Arrays.asList(scope.split(" "))));
+            }
+            return new Key(new HashMap<>(parameters.getHeaders()), claims);
+        }
+    }
+
+    private record CachedToken(TokenRepresentation representation, Instant renewAt, Instant expiresAt) {
+    }
+
+    private static class Entry {
+        private final AtomicReference<CompletableFuture<Result<TokenRepresentation>>> loading = new AtomicReference<>();
+        private volatile CachedToken token;
+    }
+}
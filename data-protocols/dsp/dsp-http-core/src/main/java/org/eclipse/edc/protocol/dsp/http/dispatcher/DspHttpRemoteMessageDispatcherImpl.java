@@ -59,7 +59,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final Map<Class<? extends RemoteMessage>, MessageHandler<?, ?>> handlers = new HashMap<>();
     private final Map<Class<? extends RemoteMessage>, PolicyScope<? extends RemoteMessage>> policyScopes = new HashMap<>();
     private final EdcHttpClient httpClient;
-    private final IdentityService identityService;
+    private final ClientCredentialsCache clientCredentials;
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
@@ -70,8 +70,16 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, ClientCredentialsCache.disabled(identityService::obtainClientCredentials), decorator, policyEngine, audienceResolver);
+    }
+
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              ClientCredentialsCache clientCredentials,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver) {
         this.httpClient = httpClient;
-        this.identityService = identityService;
+        this.clientCredentials = clientCredentials;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
@@ -115,7 +123,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
 
         return audienceResolver.resolve(message)
                 .map(audience -> tokenDecorator.decorate(tokenParametersBuilder).claims(AUDIENCE_CLAIM, audience).build()) // enforce the audience, ignore anything a decorator might have set
-                .compose(identityService::obtainClientCredentials)
+                .compose(clientCredentials::obtainClientCredentials)
                 .map(token -> {
                     var requestWithAuth = request.newBuilder()
                             .header("Authorization", token.getToken())
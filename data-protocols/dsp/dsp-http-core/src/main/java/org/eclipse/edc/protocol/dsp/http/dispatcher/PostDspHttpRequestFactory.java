@@ -18,6 +18,7 @@ import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okio.BufferedSink;
 import org.eclipse.edc.connector.controlplane.services.spi.protocol.ProtocolVersion;
 import org.eclipse.edc.protocol.dsp.http.spi.DspProtocolParser;
 import org.eclipse.edc.protocol.dsp.http.spi.dispatcher.DspHttpRequestFactory;
@@ -25,6 +26,9 @@ import org.eclipse.edc.protocol.dsp.http.spi.dispatcher.RequestPathProvider;
 import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSerializer;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
 
 /**
  * Creates a POST request through the Dataspace Protocol
@@ -34,6 +38,7 @@ import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 public class PostDspHttpRequestFactory<M extends RemoteMessage> implements DspHttpRequestFactory<M> {
 
     public static final String APPLICATION_JSON = "application/json";
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get(APPLICATION_JSON + "; charset=utf-8");
     private final RequestPathProvider<M> pathProvider;
     private final JsonLdRemoteMessageSerializer serializer;
     private final DspProtocolParser protocolParser;
@@ -47,8 +52,7 @@ public class PostDspHttpRequestFactory<M extends RemoteMessage> implements DspHt
 
     @Override
     public Request createRequest(M message) {
-        var body = serializer.serialize(message);
-        var requestBody = RequestBody.create(body, MediaType.get(APPLICATION_JSON));
+        var requestBody = new MessageRequestBody(serializer.writer(message));
 
         var protocolPath = protocolParser.parse(message.getProtocol())
                 .map(ProtocolVersion::path)
@@ -64,4 +68,26 @@ public class PostDspHttpRequestFactory<M extends RemoteMessage> implements DspHt
                 .build();
     }
 
+    /**
+     * Streams the serialized message to the connection, the message is written again if the request gets retried.
+     */
+    private static class MessageRequestBody extends RequestBody {
+
+        private final JsonLdRemoteMessageSerializer.MessageWriter writer;
+
+        MessageRequestBody(JsonLdRemoteMessageSerializer.MessageWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public @Nullable MediaType contentType() {
+            return JSON_MEDIA_TYPE;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            writer.writeTo(sink.outputStream());
+        }
+    }
+
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.protocol.dsp.http.serialization;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.jsonld.spi.JsonLd;
@@ -61,28 +62,46 @@ public class JsonLdRemoteMessageSerializerImpl implements JsonLdRemoteMessageSer
      */
     @Override
     public String serialize(RemoteMessage message) {
+        var compacted = compact(message);
         try {
-            var transformerRegistryResult = dspTransformerRegistry.forProtocol(message.getProtocol());
-            if (transformerRegistryResult.failed()) {
-                throw new EdcException(format("Failed to serialize %s: %s", message.getClass().getSimpleName(), join(", ", transformerRegistryResult.getFailureMessages())));
+            return typeManager.getMapper(typeContext).writeValueAsString(compacted);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(format("Failed to serialize %s", message.getClass().getSimpleName()), e);
+        }
+    }
 
-            }
+    /**
+     * Serializes a {@link RemoteMessage} to JSON-LD like {@link #serialize(RemoteMessage)}, but the compacted
+     * structure is streamed by the returned writer instead of being built as a string.
+     *
+     * @param message the message to serialize
+     * @return the writer of the serialized message
+     */
+    @Override
+    public MessageWriter writer(RemoteMessage message) {
+        var compacted = compact(message);
+        var objectWriter = typeManager.getMapper(typeContext).writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return outputStream -> objectWriter.writeValue(outputStream, compacted);
+    }
 
-            var transformerRegistry = transformerRegistryResult.getContent();
-            var transformResult = transformerRegistry.transform(message, JsonObject.class);
+    private JsonObject compact(RemoteMessage message) {
+        var transformerRegistryResult = dspTransformerRegistry.forProtocol(message.getProtocol());
+        if (transformerRegistryResult.failed()) {
+            throw new EdcException(format("Failed to serialize %s: %s", message.getClass().getSimpleName(), join(", ", transformerRegistryResult.getFailureMessages())));
+        }
 
-            if (transformResult.succeeded()) {
-                var compacted = protocolParser.parse(message.getProtocol())
-                        .compose(protocol -> jsonLdService.compact(transformResult.getContent(), scopePrefix + DSP_CONTEXT_SEPARATOR + protocol.version()));
-                if (compacted.succeeded()) {
-                    return typeManager.getMapper(typeContext).writeValueAsString(compacted.getContent());
-                }
-                throw new EdcException("Failed to compact JSON-LD: " + compacted.getFailureDetail());
+        var transformerRegistry = transformerRegistryResult.getContent();
+        var transformResult = transformerRegistry.transform(message, JsonObject.class);
+
+        if (transformResult.succeeded()) {
+            var compacted = protocolParser.parse(message.getProtocol())
+                    .compose(protocol -> jsonLdService.compact(transformResult.getContent(), scopePrefix + DSP_CONTEXT_SEPARATOR + protocol.version()));
+            if (compacted.succeeded()) {
+                return compacted.getContent();
             }
-            throw new EdcException(format("Failed to transform %s: %s", message.getClass().getSimpleName(), join(", ", transformResult.getFailureMessages())));
-        } catch (JsonProcessingException e) {
-            throw new EdcException(format("Failed to serialize %s", message.getClass().getSimpleName()), e);
+            throw new EdcException("Failed to compact JSON-LD: " + compacted.getFailureDetail());
         }
+        throw new EdcException(format("Failed to transform %s: %s", message.getClass().getSimpleName(), join(", ", transformResult.getFailureMessages())));
     }
 
 }
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientCredentialsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private final Function<TokenParameters, Result<TokenRepresentation>> tokenSource = mock();
+    private final Clock clock = mock();
+    private final ClientCredentialsCache cache = new ClientCredentialsCache(tokenSource, 10_000, 10, clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void shouldReuseToken_whenSameAudienceAndScopes() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("token")));
+
+        var first = cache.obtainClientCredentials(parameters("audience", "scope1 scope2"));
+        var second = cache.obtainClientCredentials(parameters("audience", "scope2 scope1"));
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        verify(tokenSource, times(1)).apply(any());
+    }
+
+    @Test
+    void shouldObtainNewToken_whenDifferentAudienceOrScopes() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("token")));
+
+        cache.obtainClientCredentials(parameters("audience", "scope1"));
+        cache.obtainClientCredentials(parameters("other-audience", "scope1"));
+        cache.obtainClientCredentials(parameters("audience", "scope2"));
+
+        verify(tokenSource, times(3)).apply(any());
+    }
+
+    @Test
+    void shouldRenewToken_whenCloseToExpiration() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("first")), Result.success(token("second")));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(7_999));
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo("first");
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(8_000));
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo("second");
+    }
+
+    @Test
+    void shouldUseValidToken_whenRenewalFails() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("first")), Result.failure("error"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(9_000));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo("first");
+    }
+
+    @Test
+    void shouldRespectTokenExpiresIn() {
+        var shortLived = TokenRepresentation.Builder.newInstance().token("first").expiresIn(2L).build();
+        when(tokenSource.apply(any())).thenReturn(Result.success(shortLived), Result.success(token("second")));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(2));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo("second");
+    }
+
+    @Test
+    void shouldRespectJwtExpiration_whenExpiresInIsMissing() {
+        var jwt = jwt(NOW.plusSeconds(2));
+        when(tokenSource.apply(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token(jwt).build()), Result.success(token("second")));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(1_000));
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo(jwt);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(2));
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded()
+                .extracting(TokenRepresentation::getToken).isEqualTo("second");
+    }
+
+    @Test
+    void shouldNotReuse_whenExpirationIsUnknown() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("opaque").build()));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(tokenSource, times(2)).apply(any());
+    }
+
+    @Test
+    void shouldNotCacheFailure() {
+        when(tokenSource.apply(any())).thenReturn(Result.failure("error"), Result.success(token("token")));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isFailed();
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isSucceeded();
+    }
+
+    @Test
+    void shouldNotReuse_whenDisabled() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("token")));
+        var disabled = ClientCredentialsCache.disabled(tokenSource);
+
+        disabled.obtainClientCredentials(parameters("audience", "scope"));
+        disabled.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(tokenSource, times(2)).apply(any());
+    }
+
+    @Test
+    void shouldFetchOnce_whenConcurrentRequests() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        when(tokenSource.apply(any())).thenAnswer(i -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(token("token"));
+        });
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var results = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> cache.obtainClientCredentials(parameters("audience", "scope"))))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS)).isSucceeded());
+            verify(tokenSource, times(1)).apply(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCountReusedAndFetchedTokens() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("token")));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("other-audience", "scope"));
+
+        assertThat(cache.getReused()).isEqualTo(2);
+        assertThat(cache.getFetched()).isEqualTo(2);
+        assertThat(cache.getFetchTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void shouldCountFetchedTokens_whenDisabled() {
+        when(tokenSource.apply(any())).thenReturn(Result.success(token("token")));
+        var disabled = ClientCredentialsCache.disabled(tokenSource);
+
+        disabled.obtainClientCredentials(parameters("audience", "scope"));
+        disabled.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(disabled.getReused()).isZero();
+        assertThat(disabled.getFetched()).isEqualTo(2);
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", scope).build();
+    }
+
+    private TokenRepresentation token(String token) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(3600L).build();
+    }
+
+    private String jwt(Instant expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes()) + "." +
+                encoder.encodeToString(("{\"exp\":" + expiration.getEpochSecond() + "}").getBytes()) + ".signature";
+    }
+}
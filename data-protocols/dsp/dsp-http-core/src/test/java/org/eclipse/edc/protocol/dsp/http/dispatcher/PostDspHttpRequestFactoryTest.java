@@ -21,10 +21,14 @@ import org.eclipse.edc.protocol.dsp.http.spi.DspProtocolParser;
 import org.eclipse.edc.protocol.dsp.http.spi.dispatcher.RequestPathProvider;
 import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSerializer;
 import org.eclipse.edc.protocol.dsp.spi.version.DspVersions;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -38,7 +42,7 @@ class PostDspHttpRequestFactoryTest {
 
     @Test
     void shouldCreateProperHttpRequest() {
-        when(serializer.serialize(any())).thenReturn("serializedMessage");
+        when(serializer.writer(any())).thenReturn(outputStream -> outputStream.write("serializedMessage".getBytes()));
         when(dspProtocolParser.parse("protocol")).thenReturn(Result.success(DspVersions.V_08));
         when(pathProvider.providePath(any())).thenReturn("/message/request/path");
 
@@ -58,5 +62,27 @@ class PostDspHttpRequestFactoryTest {
         });
     }
 
+    @Test
+    void shouldWriteBodyAgain_whenRequestIsRetried() throws IOException {
+        when(serializer.writer(any())).thenReturn(outputStream -> outputStream.write("serializedMessage".getBytes()));
+        when(dspProtocolParser.parse("protocol")).thenReturn(Result.success(DspVersions.V_08));
+        when(pathProvider.providePath(any())).thenReturn("/message/request/path");
+
+        var request = factory.createRequest(new TestMessage("protocol", "http://counter-party", "counterPartyId"));
+
+        try (var first = new Buffer(); var second = new Buffer()) {
+            request.body().writeTo(first);
+            request.body().writeTo(second);
+            assertThat(second.readUtf8()).isEqualTo(first.readUtf8()).isEqualTo("serializedMessage");
+        }
+    }
+
+    @Test
+    void shouldThrowException_whenSerializationFails() {
+        when(serializer.writer(any())).thenThrow(new EdcException("error"));
+
+        assertThatThrownBy(() -> factory.createRequest(new TestMessage("protocol", "http://counter-party", "counterPartyId")))
+                .isInstanceOf(EdcException.class);
+    }
 
 }
@@ -18,7 +18,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.protocol.dsp.http.spi.DspProtocolParser;
 import org.eclipse.edc.protocol.dsp.spi.transform.DspProtocolTypeTransformerRegistry;
 import org.eclipse.edc.spi.EdcException;
@@ -30,6 +32,10 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.protocol.dsp.http.spi.types.HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP;
@@ -38,6 +44,8 @@ import static org.eclipse.edc.protocol.dsp.spi.version.DspVersions.V_08;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -120,6 +128,47 @@ class JsonLdRemoteMessageSerializerImplTest {
                 .isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void writer_shouldWriteSameJsonAsSerialize() throws IOException {
+        var objectMapper = JacksonJsonLd.createObjectMapper();
+        when(typeManager.getMapper("test")).thenReturn(objectMapper);
+        when(dspTransformerRegistry.forProtocol(DATASPACE_PROTOCOL_HTTP)).thenReturn(Result.success(registry));
+        when(protocolParser.parse(DATASPACE_PROTOCOL_HTTP)).thenReturn(Result.success(V_08));
+        when(registry.transform(message, JsonObject.class)).thenReturn(Result.success(Json.createObjectBuilder()
+                .add("@type", "http://schema/Message")
+                .add("http://schema/key", "value")
+                .add("http://schema/list", Json.createArrayBuilder().add(1).add(true).add("ü€"))
+                .add("http://schema/nested", Json.createObjectBuilder().add("http://schema/key", JsonValue.NULL))
+                .build()));
+
+        var outputStream = new ByteArrayOutputStream();
+        serializer.writer(message).writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(serializer.serialize(message));
+        assertThat(objectMapper.readTree(outputStream.toByteArray()).get("schema:key").asText()).isEqualTo("value");
+    }
+
+    @Test
+    void writer_shouldNotCloseOutputStream() throws IOException {
+        when(typeManager.getMapper("test")).thenReturn(JacksonJsonLd.createObjectMapper());
+        when(dspTransformerRegistry.forProtocol(DATASPACE_PROTOCOL_HTTP)).thenReturn(Result.success(registry));
+        when(protocolParser.parse(DATASPACE_PROTOCOL_HTTP)).thenReturn(Result.success(V_08));
+        when(registry.transform(message, JsonObject.class)).thenReturn(Result.success(messageJson()));
+        var outputStream = spy(new ByteArrayOutputStream());
+
+        serializer.writer(message).writeTo(outputStream);
+
+        verify(outputStream, never()).close();
+    }
+
+    @Test
+    void writer_shouldThrowException_whenTransformationFails() {
+        when(dspTransformerRegistry.forProtocol(DATASPACE_PROTOCOL_HTTP)).thenReturn(Result.success(registry));
+        when(registry.transform(message, JsonObject.class)).thenReturn(Result.failure("error"));
+
+        assertThatThrownBy(() -> serializer.writer(message)).isInstanceOf(EdcException.class);
+    }
+
     private JsonObject messageJson() {
         return Json.createObjectBuilder()
                 .add("http://schema/key", "value")
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.http.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the reused and fetched tokens of a {@link ClientCredentialsCache} as counter, timer and reuse rate gauge.
+ */
+public class ClientCredentialsCacheMetrics implements MeterBinder {
+
+    public static final String REUSED = "edc.dsp.client.token.cache.reused";
+    public static final String FETCH = "edc.dsp.client.token.cache.fetch";
+    public static final String REUSE_RATE = "edc.dsp.client.token.cache.reuse.rate";
+
+    private final ClientCredentialsCache cache;
+
+    public ClientCredentialsCacheMetrics(ClientCredentialsCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FunctionCounter.builder(REUSED, cache, ClientCredentialsCache::getReused)
+                .description("Number of outgoing messages sent with an already obtained token")
+                .register(registry);
+        FunctionTimer.builder(FETCH, cache, ClientCredentialsCache::getFetched, c -> c.getFetchTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .description("Tokens obtained from the identity service for outgoing messages")
+                .register(registry);
+        Gauge.builder(REUSE_RATE, cache, ClientCredentialsCacheMetrics::reuseRate)
+                .description("Ratio of outgoing messages sent with an already obtained token")
+                .register(registry);
+    }
+
+    private static double reuseRate(ClientCredentialsCache cache) {
+        var reused = cache.getReused();
+        var total = reused + cache.getFetched();
+        return total == 0 ? 0 : (double) reused / total;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.http.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsCache;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that publishes the usage of the cache of the tokens for outgoing DSP messages as Micrometer metrics.
+ */
+@Extension(value = DspHttpMicrometerExtension.NAME)
+public class DspHttpMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_DSP_METRICS = "edc.metrics.dsp.enabled";
+    public static final String NAME = "DSP HTTP Micrometer Metrics";
+
+    @Inject
+    private ClientCredentialsCache clientCredentialsCache;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableDspMetrics = context.getSetting(ENABLE_DSP_METRICS, true);
+
+        if (enableMetrics && enableDspMetrics) {
+            new ClientCredentialsCacheMetrics(clientCredentialsCache).bindTo(meterRegistry);
+        }
+    }
+}
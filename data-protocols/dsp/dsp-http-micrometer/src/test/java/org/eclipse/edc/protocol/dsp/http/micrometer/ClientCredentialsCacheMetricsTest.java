@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.protocol.dsp.http.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsCache;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.protocol.dsp.http.micrometer.ClientCredentialsCacheMetrics.FETCH;
+import static org.eclipse.edc.protocol.dsp.http.micrometer.ClientCredentialsCacheMetrics.REUSED;
+import static org.eclipse.edc.protocol.dsp.http.micrometer.ClientCredentialsCacheMetrics.REUSE_RATE;
+
+class ClientCredentialsCacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldPublishReusedAndFetchedTokens() {
+        var token = TokenRepresentation.Builder.newInstance().token("token").expiresIn(3600L).build();
+        var cache = new ClientCredentialsCache(parameters -> Result.success(token), 60_000, 10, Clock.systemUTC());
+        new ClientCredentialsCacheMetrics(cache).bindTo(registry);
+        var parameters = TokenParameters.Builder.newInstance().claims("aud", "audience").claims("scope", "scope").build();
+
+        cache.obtainClientCredentials(parameters);
+        cache.obtainClientCredentials(parameters);
+        cache.obtainClientCredentials(parameters);
+        cache.obtainClientCredentials(parameters);
+
+        assertThat(registry.get(REUSED).functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get(FETCH).functionTimer().count()).isEqualTo(1);
+        assertThat(registry.get(FETCH).functionTimer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(registry.get(REUSE_RATE).gauge().value()).isEqualTo(0.75);
+    }
+}
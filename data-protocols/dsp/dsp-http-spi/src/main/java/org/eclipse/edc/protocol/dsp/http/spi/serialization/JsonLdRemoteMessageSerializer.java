@@ -16,6 +16,10 @@ package org.eclipse.edc.protocol.dsp.http.spi.serialization;
 
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Serializes {@link RemoteMessage}s to JSON-LD.
  */
@@ -29,4 +33,32 @@ public interface JsonLdRemoteMessageSerializer {
      */
     String serialize(RemoteMessage message);
 
+    /**
+     * Serializes a {@link RemoteMessage} to JSON-LD without building it as a string. The message is transformed and
+     * compacted immediately, so that failures are reported to the caller, while the JSON is generated every time the
+     * returned {@link MessageWriter} is invoked.
+     *
+     * @param message the message to serialize
+     * @return the writer of the serialized message
+     */
+    default MessageWriter writer(RemoteMessage message) {
+        var serialized = serialize(message).getBytes(StandardCharsets.UTF_8);
+        return outputStream -> outputStream.write(serialized);
+    }
+
+    /**
+     * Writes a serialized message.
+     */
+    @FunctionalInterface
+    interface MessageWriter {
+
+        /**
+         * Writes the serialized message to the output stream, without closing it.
+         *
+         * @param outputStream the output stream
+         * @throws IOException if the message cannot be written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
 }
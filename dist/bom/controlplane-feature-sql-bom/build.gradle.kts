@@ -26,6 +26,7 @@ dependencies {
     api(project(":extensions:control-plane:store:sql:transfer-process-store-sql"))
     api(project(":extensions:common:store:sql:edr-index-sql"))
     api(project(":extensions:common:store:sql:jti-validation-store-sql"))
+    api(project(":extensions:common:store:sql:outbox-store-sql"))
     api(project(":extensions:data-plane-selector:store:sql:data-plane-instance-store-sql"))
     api(project(":extensions:policy-monitor:store:sql:policy-monitor-store-sql"))
 
@@ -21,6 +21,7 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.service.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.service.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.service.VerifiedPresentationCache;
 import org.eclipse.edc.iam.identitytrust.service.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
@@ -30,6 +31,7 @@ import org.eclipse.edc.iam.identitytrust.spi.validation.TokenValidationAction;
 import org.eclipse.edc.iam.identitytrust.spi.verification.SignatureSuiteRegistry;
 import org.eclipse.edc.iam.identitytrust.transform.to.JsonObjectToPresentationResponseMessageTransformer;
 import org.eclipse.edc.iam.verifiablecredentials.VerifiableCredentialValidationServiceImpl;
+import org.eclipse.edc.iam.verifiablecredentials.revocation.BaseRevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.bitstring.BitstringStatusListRevocationService;
 import org.eclipse.edc.iam.verifiablecredentials.revocation.statuslist2021.StatusList2021RevocationService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.RevocationServiceRegistry;
@@ -68,6 +70,7 @@ import org.jetbrains.annotations.NotNull;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -84,12 +87,19 @@ import static org.eclipse.edc.verifiablecredentials.jwt.JwtPresentationVerifier.
 public class IdentityAndTrustExtension implements ServiceExtension {
 
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
     public static final String DCP_CLIENT_CONTEXT = "dcp-client";
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
     public static final long DEFAULT_CLEANUP_PERIOD_SECONDS = 60;
     @Setting(description = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", key = "edc.iam.credential.revocation.cache.validity")
     private long revocationCacheValidity;
+    @Setting(description = "Maximum number of status list credentials kept in the revocation cache.", defaultValue = BaseRevocationListService.DEFAULT_CACHE_MAX_ENTRIES + "", key = "edc.iam.credential.revocation.cache.size")
+    private int revocationCacheSize;
+    @Setting(description = "Validity period of the cached claims obtained from verified presentations in milliseconds. 0 disables the cache.", defaultValue = "0", key = "edc.iam.presentation.cache.validity")
+    private long presentationCacheValidity;
+    @Setting(description = "Maximum number of verified presentation claims kept in the cache.", defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "", key = "edc.iam.presentation.cache.size")
+    private int presentationCacheSize;
     @Setting(description = "DID of this connector", key = "edc.iam.issuer.id")
     private String issuerId;
     @Setting(description = "The period of the JTI entry reaper thread in seconds", defaultValue = DEFAULT_CLEANUP_PERIOD_SECONDS + "", key = "edc.sql.store.jti.cleanup.period")
@@ -150,7 +160,9 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     private ExecutorInstrumentation executorInstrumentation;
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
+    private VerifiedPresentationCache verifiedPresentationCache;
     private ScheduledFuture<?> jtiEntryReaperThread;
+    private ExecutorService revocationListRefreshExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -175,8 +187,9 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         participantAgentService.register(participantAgentServiceExtension);
 
         // register revocation services
-        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity));
-        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity));
+        revocationListRefreshExecutor = executorInstrumentation.instrument(Executors.newCachedThreadPool(), "Revocation List Refresh");
+        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity, revocationCacheSize, revocationListRefreshExecutor));
+        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity, revocationCacheSize, revocationListRefreshExecutor));
     }
 
     @Override
@@ -188,6 +201,7 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         jtiEntryReaperThread.cancel(true);
+        revocationListRefreshExecutor.shutdownNow();
     }
 
     @Override
@@ -206,7 +220,15 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
         return new IdentityAndTrustService(secureTokenService, issuerId,
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
-                credentialValidationService);
+                credentialValidationService, verifiedPresentationCache());
+    }
+
+    @Provider
+    public VerifiedPresentationCache verifiedPresentationCache() {
+        if (verifiedPresentationCache == null) {
+            verifiedPresentationCache = new VerifiedPresentationCache(presentationCacheValidity, presentationCacheSize, clock);
+        }
+        return verifiedPresentationCache;
     }
 
     @Provider
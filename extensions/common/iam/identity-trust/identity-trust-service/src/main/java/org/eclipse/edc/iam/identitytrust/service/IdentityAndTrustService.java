@@ -14,12 +14,14 @@
 
 package org.eclipse.edc.iam.identitytrust.service;
 
+import com.nimbusds.jwt.JWTParser;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.spi.SecureTokenService;
 import org.eclipse.edc.iam.identitytrust.spi.validation.TokenValidationAction;
 import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentation;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.CredentialValidationRule;
@@ -30,13 +32,16 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
+import java.text.ParseException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -71,6 +76,7 @@ public class IdentityAndTrustService implements IdentityService {
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final VerifiedPresentationCache verifiedPresentationCache;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -84,6 +90,24 @@ public class IdentityAndTrustService implements IdentityService {
                                    CredentialServiceUrlResolver csUrlResolver,
                                    ClaimTokenCreatorFunction claimTokenCreatorFunction,
                                    VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, myOwnDid, credentialServiceClient, tokenValidationAction, csUrlResolver, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, VerifiedPresentationCache.disabled());
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService}, that caches the outcome of the presentation verification.
+     *
+     * @param secureTokenService        Instance of an STS, which can create SI tokens
+     * @param myOwnDid                  The DID which belongs to "this connector"
+     * @param verifiedPresentationCache The cache of the claims obtained from verified presentations
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   CredentialServiceUrlResolver csUrlResolver,
+                                   ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiableCredentialValidationService verifiableCredentialValidationService,
+                                   VerifiedPresentationCache verifiedPresentationCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.credentialServiceClient = credentialServiceClient;
@@ -91,6 +115,7 @@ public class IdentityAndTrustService implements IdentityService {
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.verifiedPresentationCache = verifiedPresentationCache;
     }
 
     @Override
@@ -134,6 +159,15 @@ public class IdentityAndTrustService implements IdentityService {
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
+        // presentations have already been verified for the same access token and scopes
+        var cacheable = accessToken != null && issuer != null;
+        if (cacheable) {
+            var cachedClaims = verifiedPresentationCache.get(issuer, accessToken, context.getScopes());
+            if (cachedClaims != null) {
+                return success(cachedClaims);
+            }
+        }
+
         var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
                 AUDIENCE, issuer,
@@ -158,11 +192,35 @@ public class IdentityAndTrustService implements IdentityService {
 
         var result = verifiableCredentialValidationService.validate(presentations, getAdditionalValidations());
 
-        return result
+        var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
+                .reduce(Stream.empty(), Stream::concat)
+                .toList();
+
+        var claims = result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                        .reduce(Stream.empty(), Stream::concat)
-                        .toList()));
+                .compose(u -> claimTokenCreatorFunction.apply(credentials));
+
+        if (cacheable && claims.succeeded()) {
+            verifiedPresentationCache.put(issuer, accessToken, context.getScopes(), claims.getContent(), expiration(accessToken, credentials));
+        }
+
+        return claims;
+    }
+
+    /**
+     * Earliest expiration between the access token and the credentials, null if none of them expires.
+     */
+    private @Nullable Instant expiration(String accessToken, List<VerifiableCredential> credentials) {
+        var expirations = credentials.stream().map(VerifiableCredential::getExpirationDate);
+        try {
+            var tokenExpiration = JWTParser.parse(accessToken).getJWTClaimsSet().getExpirationTime();
+            if (tokenExpiration != null) {
+                expirations = Stream.concat(expirations, Stream.of(tokenExpiration.toInstant()));
+            }
+        } catch (ParseException e) {
+            // the access token is opaque, only the credentials expiration and the cache time-to-live apply
+        }
+        return expirations.filter(Objects::nonNull).min(Instant::compareTo).orElse(null);
     }
 
     /**
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the claims obtained by verifying the presentations of a counterparty, so that the messages that the
+ * counterparty sends with the same access token and scopes don't need to request and verify the presentations again.
+ * <p>
+ * An entry is valid until the earliest of the cache time-to-live, the expiration of the access token and the
+ * expiration of the verified credentials. Entries can be invalidated explicitly, e.g. when a counterparty is known to
+ * have had a credential revoked. Access tokens are not kept in memory, only their hash.
+ */
+public class VerifiedPresentationCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    /**
+     * Create a cache.
+     *
+     * @param ttlMillis  maximum time an entry is kept in milliseconds, 0 or less disables the cache.
+     * @param maxEntries maximum number of entries.
+     * @param clock      the clock.
+     */
+    public VerifiedPresentationCache(long ttlMillis, int maxEntries, Clock clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Cache that never stores anything.
+     *
+     * @return the cache.
+     */
+    public static VerifiedPresentationCache disabled() {
+        return new VerifiedPresentationCache(0, 0, Clock.systemUTC());
+    }
+
+    public boolean isEnabled() {
+        return ttlMillis > 0 && maxEntries > 0;
+    }
+
+    /**
+     * Get the cached claims.
+     *
+     * @param issuer      the counterparty.
+     * @param accessToken the access token that grants access to the presentations of the counterparty.
+     * @param scopes      the requested scopes.
+     * @return the claims, null if they are not cached or expired.
+     */
+    public @Nullable ClaimToken get(String issuer, String accessToken, Collection<String> scopes) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        var key = new Key(issuer, hash(accessToken), Set.copyOf(scopes));
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.claimToken();
+    }
+
+    /**
+     * Store the claims obtained from verified presentations.
+     *
+     * @param issuer      the counterparty.
+     * @param accessToken the access token that grants access to the presentations of the counterparty.
+     * @param scopes      the requested scopes.
+     * @param claimToken  the claims.
+     * @param expiresAt   the earliest expiration of the access token and the credentials, null if they don't expire.
+     */
+    public void put(String issuer, String accessToken, Collection<String> scopes, ClaimToken claimToken, @Nullable Instant expiresAt) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        var now = clock.instant();
+        var ttlExpiration = now.plusMillis(ttlMillis);
+        var expiration = expiresAt != null && expiresAt.isBefore(ttlExpiration) ? expiresAt : ttlExpiration;
+        if (!expiration.isAfter(now)) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+
+        entries.put(new Key(issuer, hash(accessToken), Set.copyOf(scopes)), new Entry(claimToken, expiration));
+    }
+
+    /**
+     * Remove all the entries of a counterparty.
+     *
+     * @param issuer the counterparty.
+     */
+    public void invalidate(String issuer) {
+        entries.keySet().removeIf(key -> key.issuer().equals(issuer));
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict(Instant now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        while (entries.size() >= maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(it -> it.getValue().expiresAt()))
+                    .ifPresent(it -> entries.remove(it.getKey(), it.getValue()));
+        }
+    }
+
+    private String hash(String accessToken) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(String issuer, String accessTokenHash, Set<String> scopes) {
+    }
+
+    private record Entry(ClaimToken claimToken, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
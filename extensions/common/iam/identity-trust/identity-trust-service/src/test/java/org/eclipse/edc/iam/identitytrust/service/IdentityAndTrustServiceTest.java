@@ -41,6 +41,7 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
 import java.util.List;
 
 import static org.eclipse.edc.iam.identitytrust.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
@@ -59,6 +60,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -338,4 +340,57 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final VerifiedPresentationCache cache = new VerifiedPresentationCache(60_000, 10, Clock.systemUTC());
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
+                actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                credentialValidationServiceMock, cache);
+
+        @BeforeEach
+        void setup() {
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder().build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.VC1_0_LD, presentation);
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+        }
+
+        @Test
+        void shouldNotRequestPresentations_whenAlreadyVerified() {
+            var first = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            var second = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded().isSameAs(first.getContent());
+            verify(actionMock, times(2)).apply(any());
+            verify(mockedClient, times(1)).requestPresentation(any(), any(), any());
+            verify(credentialValidationServiceMock, times(1)).validate(anyList(), anyCollection());
+        }
+
+        @Test
+        void shouldRequestPresentationsAgain_whenInvalidated() {
+            cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            cache.invalidate(CONSUMER_DID);
+            cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+
+        @Test
+        void shouldNotCache_whenVerificationFails() {
+            when(credentialValidationServiceMock.validate(anyList(), anyCollection())).thenReturn(failure("invalid"), success());
+
+            var first = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            var second = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(first).isFailed();
+            assertThat(second).isSucceeded();
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedPresentationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private final Clock clock = mock();
+    private final VerifiedPresentationCache cache = new VerifiedPresentationCache(1000, 2, clock);
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("foo", "bar").build();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void get_whenCached() {
+        cache.put("issuer", "token", List.of("scope1", "scope2"), claimToken, null);
+
+        assertThat(cache.get("issuer", "token", Set.of("scope2", "scope1"))).isSameAs(claimToken);
+        assertThat(cache.get("issuer", "other-token", Set.of("scope1", "scope2"))).isNull();
+        assertThat(cache.get("issuer", "token", Set.of("scope1"))).isNull();
+        assertThat(cache.get("other-issuer", "token", Set.of("scope1", "scope2"))).isNull();
+    }
+
+    @Test
+    void get_whenTtlExpired() {
+        cache.put("issuer", "token", List.of("scope"), claimToken, null);
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(1000));
+
+        assertThat(cache.get("issuer", "token", List.of("scope"))).isNull();
+    }
+
+    @Test
+    void get_whenTokenOrCredentialExpired() {
+        cache.put("issuer", "token", List.of("scope"), claimToken, NOW.plusMillis(100));
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(99));
+        assertThat(cache.get("issuer", "token", List.of("scope"))).isSameAs(claimToken);
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(100));
+        assertThat(cache.get("issuer", "token", List.of("scope"))).isNull();
+    }
+
+    @Test
+    void put_whenAlreadyExpired_shouldNotCache() {
+        cache.put("issuer", "token", List.of("scope"), claimToken, NOW.minusMillis(1));
+
+        assertThat(cache.get("issuer", "token", List.of("scope"))).isNull();
+    }
+
+    @Test
+    void put_whenFull_shouldEvictEntryThatExpiresFirst() {
+        cache.put("issuer", "token1", List.of("scope"), claimToken, NOW.plusMillis(500));
+        cache.put("issuer", "token2", List.of("scope"), claimToken, NOW.plusMillis(100));
+        cache.put("issuer", "token3", List.of("scope"), claimToken, null);
+
+        assertThat(cache.get("issuer", "token1", List.of("scope"))).isSameAs(claimToken);
+        assertThat(cache.get("issuer", "token2", List.of("scope"))).isNull();
+        assertThat(cache.get("issuer", "token3", List.of("scope"))).isSameAs(claimToken);
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntriesOfIssuer() {
+        cache.put("issuer", "token1", List.of("scope"), claimToken, null);
+        cache.put("other-issuer", "token2", List.of("scope"), claimToken, null);
+
+        cache.invalidate("issuer");
+
+        assertThat(cache.get("issuer", "token1", List.of("scope"))).isNull();
+        assertThat(cache.get("other-issuer", "token2", List.of("scope"))).isSameAs(claimToken);
+    }
+
+    @Test
+    void disabled_shouldNeverCache() {
+        var disabled = VerifiedPresentationCache.disabled();
+
+        disabled.put("issuer", "token", List.of("scope"), claimToken, null);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get("issuer", "token", List.of("scope"))).isNull();
+    }
+}
@@ -19,15 +19,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.Cache;
+import org.eclipse.edc.util.collection.RefreshingCache;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Clock;
 import java.time.Instant;
-import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -38,20 +40,37 @@ import static org.eclipse.edc.spi.result.Result.success;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached together with its parsed {@link BitString} in a {@link RefreshingCache}:
+ * a credential is downloaded once even if several threads need it at the same time, an expired one keeps being used while it gets
+ * re-downloaded in the background, and a slow issuer only delays the checks of the credentials that reference its status lists.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    public static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+
+    private final RefreshingCache<String, StatusList<C>> statusListCache;
     private final Class<C> credentialClass;
     private final ObjectMapper objectMapper;
 
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass) {
+        this(mapper, cacheValidity, DEFAULT_CACHE_MAX_ENTRIES, Runnable::run, credentialClass);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param mapper          the object mapper used to read the status list credentials.
+     * @param cacheValidity   validity of the cached status list credentials in milliseconds.
+     * @param cacheMaxEntries maximum number of cached status list credentials.
+     * @param refreshExecutor executor that re-downloads the expired status list credentials.
+     * @param credentialClass type of the status list credential.
+     */
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, int cacheMaxEntries, Executor refreshExecutor, Class<C> credentialClass) {
         this.objectMapper = mapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        statusListCache = new RefreshingCache<>(this::downloadStatusList, cacheValidity, cacheMaxEntries, refreshExecutor, Clock.systemUTC());
         this.credentialClass = credentialClass;
     }
 
@@ -108,14 +127,28 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * @throws EdcException if it could not be downloaded
      */
     protected C getCredential(String credentialUrl) {
-        var credential = statusListCredentialCache.get(credentialUrl);
-        // credential is cached, but expired -> download again
-        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-            statusListCredentialCache.evict(credentialUrl);
-        }
-        return statusListCredentialCache.get(credentialUrl);
+        return getStatusList(credentialUrl).credential();
     }
 
+    /**
+     * Gets the parsed bitstring of a statuslist credential from the cache, or if it's not there yet, downloads the credential.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the result of the parsing of the bitstring
+     * @throws EdcException if it could not be downloaded
+     */
+    protected Result<BitString> getBitString(String credentialUrl) {
+        return getStatusList(credentialUrl).bitString();
+    }
+
+    /**
+     * Parses the encoded list of a statuslist credential. Called once every time the credential is downloaded.
+     *
+     * @param credential the statuslist credential
+     * @return the result of the parsing
+     */
+    protected abstract Result<BitString> parseBitString(C credential);
+
     /**
      * Obtains the status purpose for a particular credentialStatus entry if it is set, otherwise returns a successful result with a {@code null} content.
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
@@ -149,11 +182,26 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
-    private C downloadStatusListCredential(String credentialUrl) {
+    private StatusList<C> getStatusList(String credentialUrl) {
+        var statusList = statusListCache.get(credentialUrl);
+        // credential is cached, but expired -> download again
+        var credential = statusList.credential();
+        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
+            statusListCache.evict(credentialUrl);
+            statusList = statusListCache.get(credentialUrl);
+        }
+        return statusList;
+    }
+
+    private StatusList<C> downloadStatusList(String credentialUrl) {
         try {
-            return objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
+            var credential = objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
+            return new StatusList<>(credential, credential != null ? parseBitString(credential) : Result.failure("Status list credential %s is empty".formatted(credentialUrl)));
         } catch (IOException e) {
             throw new EdcException(e);
         }
     }
+
+    private record StatusList<C>(C credential, Result<BitString> bitString) {
+    }
 }
@@ -22,6 +22,8 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.concurrent.Executor;
+
 import static org.eclipse.edc.spi.result.Result.success;
 
 
@@ -35,6 +37,10 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, int cacheMaxEntries, Executor refreshExecutor) {
+        super(objectMapper, cacheValidity, cacheMaxEntries, refreshExecutor, StatusList2021Credential.class);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
@@ -44,10 +50,8 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
     protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
         var index = credentialStatus.getStatusListIndex();
         var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-
 
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.encodedList());
+        var bitStringResult = getBitString(slCredUrl);
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -61,6 +65,11 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         return success(null);
     }
 
+    @Override
+    protected Result<BitString> parseBitString(StatusList2021Credential credential) {
+        return BitString.Parser.newInstance().parse(credential.encodedList());
+    }
+
     @Override
     protected Result<Void> validateStatusPurpose(StatusList2021Status credentialStatus) {
         var slCred = getCredential(credentialStatus.getStatusListCredential());
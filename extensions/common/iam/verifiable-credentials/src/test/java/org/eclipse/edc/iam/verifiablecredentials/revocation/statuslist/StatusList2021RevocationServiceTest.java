@@ -33,6 +33,7 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -115,6 +116,23 @@ class StatusList2021RevocationServiceTest {
         clientAndServer.verify(request(), VerificationTimes.exactly(1));
     }
 
+    @Test
+    void checkRevocation_whenCachedAndExpired_shouldUseCachedAndRefreshInBackground() {
+        var refreshTasks = new ArrayList<Runnable>();
+        var service = new StatusList2021RevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), -1, 10, refreshTasks::add);
+        var credential = new CredentialStatus("test-id", "StatusList2021Entry",
+                Map.of(STATUS_LIST_PURPOSE, "revocation",
+                        STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                        STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort())));
+
+        assertThat(service.checkValidity(credential)).isSucceeded();
+        assertThat(service.checkValidity(credential)).isSucceeded();
+        clientAndServer.verify(request(), VerificationTimes.exactly(1));
+
+        refreshTasks.forEach(Runnable::run);
+        clientAndServer.verify(request(), VerificationTimes.exactly(2));
+    }
+
     @ParameterizedTest
     @ArgumentsSource(SingleSubjectProvider.class)
     void getStatusPurposes_whenSingleCredentialStatusRevoked(String testData) {
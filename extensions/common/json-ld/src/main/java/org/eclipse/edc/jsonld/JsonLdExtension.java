@@ -62,6 +62,10 @@ public class JsonLdExtension implements ServiceExtension {
     @Setting(description = "If set enable https json-ld document resolution", type = "boolean", defaultValue = DEFAULT_HTTP_HTTPS_RESOLUTION + "", key = "edc.jsonld.https.enabled")
     private boolean httpsResolutionEnabled;
 
+    private static final long DEFAULT_HTTP_CACHE_VALIDITY = 0;
+    @Setting(description = "Time in milliseconds a json-ld document resolved through http or https is reused, 0 disables the caching", defaultValue = DEFAULT_HTTP_CACHE_VALIDITY + "", key = "edc.jsonld.http.cache.validity")
+    private long httpCacheValidity;
+
     private static final boolean DEFAULT_AVOID_VOCAB_CONTEXT = false;
     @Setting(description = "If true disable the @vocab context definition. This could be used to avoid api breaking changes", defaultValue = DEFAULT_AVOID_VOCAB_CONTEXT + "", key = "edc.jsonld.vocab.disable")
     private boolean avoidVocab;
@@ -88,6 +92,7 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(httpResolutionEnabled)
                 .httpsEnabled(httpsResolutionEnabled)
+                .httpCacheValidity(httpCacheValidity)
                 .avoidVocab(avoidVocab)
                 .checkPrefixes(checkPrefixes)
                 .build();
@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_BATCH_SIZE;
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_FETCH_SIZE;
 
 @Extension(value = SqlCoreExtension.NAME)
@@ -34,6 +35,9 @@ public class SqlCoreExtension implements ServiceExtension {
     @Setting(description = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE, key = "edc.sql.fetch.size")
     private int fetchSize;
 
+    @Setting(description = "Maximum number of rows sent to the database in a single batch", defaultValue = DEFAULT_EDC_SQL_BATCH_SIZE, key = "edc.sql.batch.size")
+    private int batchSize;
+
     @Inject
     private TransactionContext transactionContext;
 
@@ -51,7 +55,7 @@ public class SqlCoreExtension implements ServiceExtension {
 
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, batchSize);
         return new SqlQueryExecutor(configuration);
     }
 
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SQL-based implementation of the LeaseContext that stores the lease directly on the entities table (see {@link LeaseMode#INLINE}).
+ * Acquiring a lease is implemented by a conditional update of the leased by and leased until columns, that succeeds
+ * only if the entity is not leased or its lease is expired.
+ * Breaking a lease is implemented by clearing those columns.
+ */
+class InlineSqlLeaseContext extends SqlLeaseContext {
+
+    InlineSqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
+        super(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
+    }
+
+    @Override
+    public void breakLease(String entityId) {
+        trxContext.execute(() -> {
+            var updated = queryExecutor.execute(connection, statements.getInlineBreakLeaseTemplate(), entityId, leaseHolder);
+            if (updated == 0) {
+                var lease = getLease(entityId);
+                if (lease != null && !Objects.equals(leaseHolder, lease.getLeasedBy())) {
+                    throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
+                }
+            }
+        });
+    }
+
+    @Override
+    public void acquireLease(String entityId) {
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var updated = queryExecutor.execute(connection, statements.getInlineAcquireLeaseTemplate(),
+                    leaseHolder, now + leaseDurationMillis(), entityId, now);
+
+            if (updated == 0 && getLease(entityId) != null) {
+                throw new IllegalStateException("Entity is currently leased!");
+            }
+        });
+    }
+
+    /**
+     * Acquires the lease on a batch of entities in a single statement, skipping the ones that are currently leased.
+     *
+     * @param entityIds the ids of the entities to be leased.
+     * @return the ids of the entities that have been leased.
+     */
+    @Override
+    public List<String> acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var arguments = new ArrayList<>();
+            arguments.add(leaseHolder);
+            arguments.add(now + leaseDurationMillis());
+            arguments.addAll(entityIds);
+            arguments.add(now);
+
+            var stmt = statements.getInlineAcquireLeasesTemplate(entityIds.size());
+            try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), stmt, arguments.toArray())) {
+                return stream.toList();
+            }
+        });
+    }
+
+    @Override
+    public long upsertReleasingLease(String entityId, String upsert, long expectedVersion, Object... arguments) {
+        var stmt = statements.getInlineUpsertReleasingLeaseTemplate(upsert);
+        var allArguments = new ArrayList<>(Arrays.asList(arguments));
+        allArguments.add(leaseHolder);
+        allArguments.add(expectedVersion);
+        allArguments.add(expectedVersion);
+        return executeUpsert(entityId, stmt, allArguments);
+    }
+
+    /**
+     * Fetches the inline lease for a particular entity. Since only the expiration is stored, the lease start is
+     * derived from the configured lease duration.
+     *
+     * @param entityId The leased entity's ID
+     * @return The respective lease, or null of entity is not leased.
+     */
+    @Override
+    public @Nullable SqlLease getLease(String entityId) {
+        var stmt = statements.getInlineFindLeaseByEntityTemplate();
+        return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
+    }
+
+    @Override
+    protected String breakLeaseTemplate() {
+        return statements.getInlineBreakLeaseTemplate();
+    }
+
+    private SqlLease mapLease(ResultSet resultSet) throws SQLException {
+        var duration = leaseDurationMillis();
+        return new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
+                resultSet.getLong(statements.getLeasedUntilColumn()) - duration, duration);
+    }
+
+    private long leaseDurationMillis() {
+        return leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+    }
+}
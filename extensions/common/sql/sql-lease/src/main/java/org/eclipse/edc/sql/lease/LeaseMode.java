@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+/**
+ * Defines where the leases on the entities are stored.
+ */
+public enum LeaseMode {
+
+    /**
+     * Leases are stored in the dedicated lease table, referenced by the entities through the lease id column.
+     */
+    TABLE,
+
+    /**
+     * Leases are stored directly on the entities table, in the leased by and leased until columns.
+     */
+    INLINE;
+
+    /**
+     * Parses the lease mode, case-insensitive.
+     *
+     * @param value the value.
+     * @return the lease mode.
+     * @throws IllegalArgumentException if the value is not a valid lease mode.
+     */
+    public static LeaseMode from(String value) {
+        return valueOf(value.toUpperCase());
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.sql.lease;
 import org.eclipse.edc.sql.statement.SqlStatements;
 
 import static java.lang.String.format;
+import static java.util.Collections.nCopies;
 
 /**
  * Encapsulates statements and table/column names to manipulate lease entities.
@@ -30,12 +31,162 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * The name of the table that contains the leased entities.
+     */
+    String getEntityTableName();
+
+    /**
+     * The name of the id column of the leased entities table.
+     */
+    String getIdColumn();
+
+    /**
+     * Statement that deletes the lease assigned to an entity, succeeding only if the lease is held by the given holder.
+     * Parameters are entity id and lease holder.
+     *
+     * @return the statement.
+     */
+    default String getBreakLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND %s = ?",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getEntityTableName(), getIdColumn(),
+                getLeasedByColumn());
+    }
+
+    /**
+     * Statement that leases a batch of entities in a single round trip: it deletes the (expired) leases still assigned
+     * to the entities, inserts a lease for every entity and assigns it to the entity, returning the ids of the leased
+     * entities.
+     * Parameters are a lease id and an entity id for every entity, then lease holder, leased at and lease duration.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getAcquireLeasesTemplate(int count) {
+        return format("WITH batch (%s, entity_id) AS (VALUES %s), " +
+                        "old_lease AS (DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (SELECT entity_id FROM batch))), " +
+                        "new_lease AS (INSERT INTO %s (%s, %s, %s, %s) SELECT %s, ?, ?, ? FROM batch RETURNING %s) " +
+                        "UPDATE %s SET %s = new_lease.%s FROM batch JOIN new_lease ON batch.%s = new_lease.%s " +
+                        "WHERE %s.%s = batch.entity_id RETURNING %s.%s",
+                getLeaseIdColumn(), String.join(", ", nCopies(count, "(?, ?)")),
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getEntityTableName(), getIdColumn(),
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
+                getEntityTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
+                getEntityTableName(), getIdColumn(), getEntityTableName(), getIdColumn());
+    }
+
+    /**
+     * Clause to be appended to a query on the entities table to lock the selected rows for the rest of the
+     * transaction, skipping the ones that are already locked by concurrent transactions.
+     *
+     * @return the clause.
+     */
+    default String getForUpdateSkipLockedClause() {
+        return format(" FOR UPDATE OF %s SKIP LOCKED", getEntityTableName());
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Filter that selects the entities that are not leased, or whose lease is expired, when the lease is stored inline
+     * on the entities table (see {@link LeaseMode#INLINE}). The only parameter is the current time.
+     *
+     * @return the filter.
+     */
+    default String getInlineNotLeasedFilter() {
+        return format("(%s IS NULL OR %s < ?)", getLeasedUntilColumn(), getLeasedUntilColumn());
+    }
+
+    /**
+     * Statement that leases a single entity inline, succeeding only if the entity is not leased or its lease is expired.
+     * Parameters are lease holder, leased until, entity id and the current time.
+     *
+     * @return the statement.
+     */
+    default String getInlineAcquireLeaseTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s",
+                getEntityTableName(), getLeasedByColumn(), getLeasedUntilColumn(), getIdColumn(), getInlineNotLeasedFilter());
+    }
+
+    /**
+     * Statement that leases a batch of entities inline, returning the ids of the leased entities.
+     * Parameters are lease holder, leased until, the ids of the entities and the current time.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getInlineAcquireLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s IN (%s) AND %s RETURNING %s",
+                getEntityTableName(), getLeasedByColumn(), getLeasedUntilColumn(), getIdColumn(),
+                String.join(", ", nCopies(count, "?")), getInlineNotLeasedFilter(), getIdColumn());
+    }
+
+    /**
+     * Statement that releases an inline lease, succeeding only if the entity is not leased or leased by the given holder.
+     * Parameters are entity id and lease holder.
+     *
+     * @return the statement.
+     */
+    default String getInlineBreakLeaseTemplate() {
+        return format("UPDATE %s SET %s = NULL, %s = NULL WHERE %s = ? AND (%s IS NULL OR %s = ?)",
+                getEntityTableName(), getLeasedByColumn(), getLeasedUntilColumn(), getIdColumn(),
+                getLeasedByColumn(), getLeasedByColumn());
+    }
+
+    /**
+     * Statement that fetches the inline lease of an entity. The only parameter is the entity id.
+     *
+     * @return the statement.
+     */
+    default String getInlineFindLeaseByEntityTemplate() {
+        return format("SELECT %s, %s FROM %s WHERE %s = ? AND %s IS NOT NULL",
+                getLeasedByColumn(), getLeasedUntilColumn(), getEntityTableName(), getIdColumn(), getLeasedUntilColumn());
+    }
+
+    /**
+     * Completes an upsert on the entities table (see {@link org.eclipse.edc.sql.statement.SqlExecuteStatement#upsertInto})
+     * so that in the same statement it releases the lease held by the lease holder, increments the version and returns
+     * it. Nothing gets updated if the entity is leased by someone else or if its version is not the expected one.
+     * Parameters are entity id and lease holder, then the upsert ones, then lease holder and twice the expected
+     * version (0 to skip the version check).
+     *
+     * @param upsert the upsert statement.
+     * @return the statement.
+     */
+    default String getUpsertReleasingLeaseTemplate(String upsert) {
+        var table = getEntityTableName();
+        return format("WITH released_lease AS (DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ?) AND %s = ?) " +
+                        "%s, %s = NULL, %s = %s.%s + 1 " +
+                        "WHERE (%s.%s IS NULL OR %s.%s IN (SELECT %s FROM %s WHERE %s = ?)) AND (? = 0 OR %s.%s = ?) " +
+                        "RETURNING %s.%s",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), table, getIdColumn(), getLeasedByColumn(),
+                upsert, getLeaseIdColumn(), getVersionColumn(), table, getVersionColumn(),
+                table, getLeaseIdColumn(), table, getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedByColumn(),
+                table, getVersionColumn(),
+                table, getVersionColumn());
+    }
+
+    /**
+     * Same as {@link #getUpsertReleasingLeaseTemplate(String)}, for leases stored inline on the entities table
+     * (see {@link LeaseMode#INLINE}). Parameters are the upsert ones, then lease holder and twice the expected version.
+     *
+     * @param upsert the upsert statement.
+     * @return the statement.
+     */
+    default String getInlineUpsertReleasingLeaseTemplate(String upsert) {
+        var table = getEntityTableName();
+        return format("%s, %s = NULL, %s = NULL, %s = %s.%s + 1 " +
+                        "WHERE (%s.%s IS NULL OR %s.%s = ?) AND (? = 0 OR %s.%s = ?) " +
+                        "RETURNING %s.%s",
+                upsert, getLeasedByColumn(), getLeasedUntilColumn(), getVersionColumn(), table, getVersionColumn(),
+                table, getLeasedByColumn(), table, getLeasedByColumn(), table, getVersionColumn(),
+                table, getVersionColumn());
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -56,4 +207,15 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    default String getLeasedUntilColumn() {
+        return "leased_until";
+    }
+
+    /**
+     * The column of the entities table that holds the entity version, incremented on every upsert.
+     */
+    default String getVersionColumn() {
+        return "version";
+    }
+
 }
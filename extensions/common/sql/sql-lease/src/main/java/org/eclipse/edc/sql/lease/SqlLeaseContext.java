@@ -26,6 +26,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -35,14 +38,14 @@ import java.util.UUID;
  * Breaking a lease is implemented by deleting the respective entry
  */
 public class SqlLeaseContext implements LeaseContext {
-    private static final long DEFAULT_LEASE_DURATION = 60_000;
-    private final TransactionContext trxContext;
-    private final LeaseStatements statements;
-    private final String leaseHolder;
-    private final Connection connection;
-    private final Clock clock;
-    private final Duration leaseDuration;
-    private final QueryExecutor queryExecutor;
+    protected static final long DEFAULT_LEASE_DURATION = 60_000;
+    protected final TransactionContext trxContext;
+    protected final LeaseStatements statements;
+    protected final String leaseHolder;
+    protected final Connection connection;
+    protected final Clock clock;
+    protected final Duration leaseDuration;
+    protected final QueryExecutor queryExecutor;
 
     SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
         this.trxContext = trxContext;
@@ -71,6 +74,33 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Breaks the leases held on a batch of entities, sending a single batch of statements regardless of the batch size.
+     * Entities that are not leased are skipped.
+     *
+     * @param entityIds the ids of the entities.
+     * @throws IllegalStateException if any of the entities is leased by someone else.
+     */
+    public void breakLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var arguments = entityIds.stream().map(entityId -> new Object[]{ entityId, leaseHolder }).toList();
+            var deleted = queryExecutor.executeBatch(connection, breakLeaseTemplate(), arguments);
+            for (var index = 0; index < deleted.length; index++) {
+                if (deleted[index] == 0) {
+                    var entityId = entityIds.get(index);
+                    var lease = getLease(entityId);
+                    if (lease != null && !Objects.equals(leaseHolder, lease.getLeasedBy())) {
+                        throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
+                    }
+                }
+            }
+        });
+    }
+
     @Override
     public void acquireLease(String entityId) {
         trxContext.execute(() -> {
@@ -101,6 +131,62 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the lease on a batch of entities in a single statement regardless of the batch size: it deletes the
+     * expired leases still assigned to the entities, inserts the new leases and assigns them.
+     * The entities are expected to be not leased (or leased with an expired lease) and locked by the current
+     * transaction, e.g. selected with {@link LeaseStatements#getNotLeasedFilter()} and
+     * {@link LeaseStatements#getForUpdateSkipLockedClause()}.
+     *
+     * @param entityIds the ids of the entities to be leased.
+     * @return the ids of the entities that have been leased.
+     */
+    public List<String> acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return trxContext.execute(() -> {
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var arguments = new ArrayList<>();
+            entityIds.forEach(entityId -> {
+                arguments.add(UUID.randomUUID().toString());
+                arguments.add(entityId);
+            });
+            arguments.add(leaseHolder);
+            arguments.add(clock.millis());
+            arguments.add(duration);
+
+            var stmt = statements.getAcquireLeasesTemplate(entityIds.size());
+            try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), stmt, arguments.toArray())) {
+                return stream.toList();
+            }
+        });
+    }
+
+    /**
+     * Inserts or updates an entity and releases the lease held on it in a single statement, failing if the entity is
+     * leased by someone else or if it has been modified concurrently.
+     *
+     * @param entityId        the id of the entity.
+     * @param upsert          the upsert statement, see {@link LeaseStatements#getUpsertReleasingLeaseTemplate(String)}.
+     * @param expectedVersion the version that the entity is expected to have on the database, 0 to skip the check.
+     * @param arguments       the upsert arguments.
+     * @return the new version of the entity.
+     * @throws IllegalStateException if the entity is leased by someone else or its version is not the expected one.
+     */
+    public long upsertReleasingLease(String entityId, String upsert, long expectedVersion, Object... arguments) {
+        var stmt = statements.getUpsertReleasingLeaseTemplate(upsert);
+        var allArguments = new ArrayList<>();
+        allArguments.add(entityId);
+        allArguments.add(leaseHolder);
+        allArguments.addAll(Arrays.asList(arguments));
+        allArguments.add(leaseHolder);
+        allArguments.add(expectedVersion);
+        allArguments.add(expectedVersion);
+        return executeUpsert(entityId, stmt, allArguments);
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -112,6 +198,20 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
+    protected long executeUpsert(String entityId, String stmt, List<Object> arguments) {
+        return trxContext.execute(() -> {
+            Long version = queryExecutor.single(connection, false, resultSet -> resultSet.getLong(1), stmt, arguments.toArray());
+            if (version == null) {
+                throw new IllegalStateException("Entity %s is leased by someone else or has been modified concurrently, cannot save it!".formatted(entityId));
+            }
+            return version;
+        });
+    }
+
+    protected String breakLeaseTemplate() {
+        return statements.getBreakLeaseTemplate();
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
@@ -47,6 +47,7 @@ public class SqlLeaseContextBuilder {
     private final QueryExecutor queryExecutor;
     private String leaseHolder;
     private Duration leaseDuration;
+    private LeaseMode mode = LeaseMode.TABLE;
 
     private SqlLeaseContextBuilder(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, QueryExecutor queryExecutor) {
         this.trxContext = trxContext;
@@ -80,12 +81,31 @@ public class SqlLeaseContextBuilder {
         return this;
     }
 
+    /**
+     * Sets where the leases are stored, defaults to {@link LeaseMode#TABLE}.
+     */
+    public SqlLeaseContextBuilder mode(LeaseMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        return this;
+    }
+
+    /**
+     * Filter that selects the entities that are not leased, according to the configured {@link LeaseMode}.
+     * The only parameter is the current time.
+     */
+    public String getNotLeasedFilter() {
+        return mode == LeaseMode.INLINE ? statements.getInlineNotLeasedFilter() : statements.getNotLeasedFilter();
+    }
+
     /**
      * sets the {@linkplain Connection} on which the next DB statement is executed.<p>
      * <strong>Storing references to the {@link SqlLeaseContext} is strongly discouraged, as this would keep the database {@link Connection} open!</strong>
      */
     public SqlLeaseContext withConnection(Connection connection) {
         Objects.requireNonNull(connection, "connection");
+        if (mode == LeaseMode.INLINE) {
+            return new InlineSqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
+        }
         return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
     }
 }
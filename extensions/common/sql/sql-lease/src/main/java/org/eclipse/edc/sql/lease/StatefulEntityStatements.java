@@ -14,8 +14,12 @@
 
 package org.eclipse.edc.sql.lease;
 
+import static java.lang.String.format;
+
 public interface StatefulEntityStatements {
 
+    String getEntityTableName();
+
     String getIdColumn();
 
     default String getStateColumn() {
@@ -45,4 +49,13 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    /**
+     * Selects only the state of an entity, without reading and decoding the other columns. Parameter is the entity id.
+     *
+     * @return the statement.
+     */
+    default String getSelectStateByIdTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?", getStateColumn(), getEntityTableName(), getIdColumn());
+    }
 }
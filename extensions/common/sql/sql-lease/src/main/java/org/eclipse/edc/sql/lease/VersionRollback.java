@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+/**
+ * Restores the version an entity had before being saved when the transaction of the save is rolled back, otherwise
+ * the entity would keep a version that was never committed and its next save would fail the optimistic locking check.
+ */
+public class VersionRollback implements TransactionContext.TransactionSynchronization {
+
+    private final StatefulEntity<?> entity;
+    private final long previousVersion;
+
+    /**
+     * Sets the new version on the entity and registers the restoration of its previous one in the current transaction.
+     *
+     * @param transactionContext the transaction context.
+     * @param entity the saved entity.
+     * @param version the version written by the save.
+     */
+    public static void apply(TransactionContext transactionContext, StatefulEntity<?> entity, long version) {
+        var previousVersion = entity.getVersion();
+        entity.setVersion(version);
+        transactionContext.registerSynchronization(new VersionRollback(entity, previousVersion));
+    }
+
+    private VersionRollback(StatefulEntity<?> entity, long previousVersion) {
+        this.entity = entity;
+        this.previousVersion = previousVersion;
+    }
+
+    @Override
+    public void beforeCompletion() {
+    }
+
+    @Override
+    public void afterCompletion(boolean committed) {
+        if (!committed) {
+            entity.setVersion(previousVersion);
+        }
+    }
+}
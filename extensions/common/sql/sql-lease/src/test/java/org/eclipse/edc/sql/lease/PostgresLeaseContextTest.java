@@ -34,6 +34,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -94,6 +95,31 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.breakLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void breakLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        leaseContext.acquireLease("id1");
+        leaseContext.acquireLease("id2");
+
+        leaseContext.breakLeases(List.of("id1", "id2", "id3", "not-exist"));
+
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(isLeased("id2", connection)).isFalse();
+        assertThat(isLeased("id3", connection)).isFalse();
+    }
+
+    @Test
+    void breakLeases_whenLeaseByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        leaseContext.acquireLease("id1");
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.breakLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void acquireLease(Connection connection) {
         var id = "test-id";
@@ -168,6 +194,214 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(isLeased("id3", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1").getLeaseId()).isNotEqualTo(oldLeaseId);
+        var oldLeases = queryExecutor.single(connection, false, resultSet -> resultSet.getInt(1),
+                "SELECT COUNT(*) FROM " + dialect.getLeaseTableName() + " WHERE " + dialect.getLeaseIdColumn() + " = ?", oldLeaseId);
+        assertThat(oldLeases).isZero();
+    }
+
+    @Test
+    void acquireLeases_whenEmpty_shouldReturnEmpty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
+    @Test
+    void inline_acquireLease(Connection connection) {
+        var id = "test-id";
+        insertTestEntity(id, connection);
+        var leaseContext = builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection);
+
+        leaseContext.acquireLease(id);
+
+        assertThat(getTestEntity(id, connection).getLeaseId()).isNull();
+        assertThat(leaseContext.getLease(id)).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+            assertThat(lease.getLeasedAt()).isEqualTo(now.toEpochMilli());
+            assertThat(lease.getLeaseDuration()).isEqualTo(60_000L);
+        });
+    }
+
+    @Test
+    void inline_acquireLease_leasedByOther_throwsException(Connection connection) {
+        var id = "test-id";
+        insertTestEntity(id, connection);
+        builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection).acquireLease(id);
+
+        var leaseContext = builder.by("someone-else").withConnection(connection);
+        assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void inline_acquireLease_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        var id = "test-id";
+        insertTestEntity(id, connection);
+        builder.mode(LeaseMode.INLINE).by("someone-else").withConnection(connection).acquireLease(id);
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .mode(LeaseMode.INLINE).withConnection(connection);
+        twoMinutesAheadContext.acquireLease(id);
+
+        assertThat(twoMinutesAheadContext.getLease(id)).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void inline_breakLease(Connection connection) {
+        var id = "test-id";
+        insertTestEntity(id, connection);
+        var leaseContext = builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection);
+        leaseContext.acquireLease(id);
+
+        leaseContext.breakLease(id);
+
+        assertThat(leaseContext.getLease(id)).isNull();
+    }
+
+    @Test
+    void inline_breakLease_whenLeaseByOther(Connection connection) {
+        var id = "test-id";
+        insertTestEntity(id, connection);
+        builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection).acquireLease(id);
+
+        var leaseContext = builder.by("someone-else").withConnection(connection);
+        assertThatThrownBy(() -> leaseContext.breakLease(id)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void inline_breakLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        var leaseContext = builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection);
+        leaseContext.acquireLease("id1");
+
+        leaseContext.breakLeases(List.of("id1", "id2"));
+
+        assertThat(leaseContext.getLease("id1")).isNull();
+        assertThat(leaseContext.getLease("id2")).isNull();
+    }
+
+    @Test
+    void inline_acquireLeases_shouldSkipLeasedEntities(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        builder.mode(LeaseMode.INLINE).by("someone-else").withConnection(connection).acquireLease("id3");
+        var leaseContext = builder.by(LEASE_HOLDER).withConnection(connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2", "id3"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id3")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void inline_notLeasedFilter(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection).acquireLease("id1");
+
+        var stmt = "SELECT id FROM " + dialect.getEntityTableName() + " WHERE " + builder.getNotLeasedFilter();
+        try (var stream = queryExecutor.query(connection, false, rs -> rs.getString("id"), stmt, now.toEpochMilli())) {
+            assertThat(stream).containsExactly("id2");
+        }
+    }
+
+    @Test
+    void upsertReleasingLease_whenNotExist_shouldInsert(Connection connection) {
+        var version = leaseContext.upsertReleasingLease("id1", upsertStatement(), 0, "id1", "value");
+
+        assertThat(version).isEqualTo(1);
+        assertThat(getValue("id1", connection)).isEqualTo("value");
+    }
+
+    @Test
+    void upsertReleasingLease_shouldUpdateAndReleaseLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+
+        var version = leaseContext.upsertReleasingLease("id1", upsertStatement(), 1, "id1", "updated");
+
+        assertThat(version).isEqualTo(2);
+        assertThat(getValue("id1", connection)).isEqualTo("updated");
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void upsertReleasingLease_leasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        assertThatThrownBy(() -> leaseContext.upsertReleasingLease("id1", upsertStatement(), 0, "id1", "updated"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(isLeased("id1", connection)).isTrue();
+    }
+
+    @Test
+    void upsertReleasingLease_versionMismatch_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.upsertReleasingLease("id1", upsertStatement(), 1, "id1", "updated");
+
+        assertThatThrownBy(() -> leaseContext.upsertReleasingLease("id1", upsertStatement(), 1, "id1", "stale"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(getValue("id1", connection)).isEqualTo("updated");
+    }
+
+    @Test
+    void inline_upsertReleasingLease_shouldUpdateAndReleaseLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        var leaseContext = builder.mode(LeaseMode.INLINE).by(LEASE_HOLDER).withConnection(connection);
+        leaseContext.acquireLease("id1");
+
+        var version = leaseContext.upsertReleasingLease("id1", upsertStatement(), 1, "id1", "updated");
+
+        assertThat(version).isEqualTo(2);
+        assertThat(getValue("id1", connection)).isEqualTo("updated");
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void inline_upsertReleasingLease_leasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.mode(LeaseMode.INLINE).by("someone-else").withConnection(connection).acquireLease("id1");
+        var leaseContext = builder.by(LEASE_HOLDER).withConnection(connection);
+
+        assertThatThrownBy(() -> leaseContext.upsertReleasingLease("id1", upsertStatement(), 0, "id1", "updated"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -192,6 +426,15 @@ class PostgresLeaseContextTest {
         });
     }
 
+    private String upsertStatement() {
+        return dialect.executeStatement().column("id").column("value").upsertInto(dialect.getEntityTableName(), "id");
+    }
+
+    private String getValue(String id, Connection connection) {
+        return transactionContext.execute(() -> queryExecutor.single(connection, false, rs -> rs.getString("value"),
+                "SELECT value FROM " + dialect.getEntityTableName() + " WHERE id=?", id));
+    }
+
     private ResultSetMapper<TestEntity> map() {
         return (rs) -> new TestEntity(rs.getString("id"), rs.getString("lease_id"));
     }
@@ -225,9 +468,15 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
         public String getEntityTableName() {
             return "edc_test_entity";
         }
+
+        @Override
+        public String getIdColumn() {
+            return "id";
+        }
     }
 
     protected static class TestEntity {
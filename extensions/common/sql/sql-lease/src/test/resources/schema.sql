@@ -23,6 +23,10 @@ CREATE TABLE IF NOT EXISTS edc_test_entity
 (
     id       VARCHAR NOT NULL
         CONSTRAINT test_id_pk PRIMARY KEY,
+    leased_by    VARCHAR,
+    leased_until BIGINT,
+    value        VARCHAR,
+    version      BIGINT NOT NULL DEFAULT 1,
     lease_id VARCHAR
         CONSTRAINT test_entity_lease_id_fk
             REFERENCES edc_lease
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.testfixtures;
 
 import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -35,8 +36,12 @@ public class LeaseUtil {
     private final Supplier<Connection> connectionSupplier;
 
     public LeaseUtil(TransactionContext context, Supplier<Connection> connectionSupplier, LeaseStatements statements, Clock clock) {
+        this(context, connectionSupplier, statements, clock, LeaseMode.TABLE);
+    }
+
+    public LeaseUtil(TransactionContext context, Supplier<Connection> connectionSupplier, LeaseStatements statements, Clock clock, LeaseMode leaseMode) {
         this.connectionSupplier = connectionSupplier;
-        leaseContextBuilder = SqlLeaseContextBuilder.with(context, "test", statements, clock, new SqlQueryExecutor());
+        leaseContextBuilder = SqlLeaseContextBuilder.with(context, "test", statements, clock, new SqlQueryExecutor()).mode(leaseMode);
     }
 
     public void leaseEntity(String tpId, String leaseHolder, Duration leaseDuration) {
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.event.outbox.store.sql.schema.OutboxStatements;
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+public class SqlOutboxStore extends AbstractSqlStore implements OutboxStore {
+
+    private final OutboxStatements statements;
+
+    public SqlOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                          ObjectMapper objectMapper, OutboxStatements statements, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+    }
+
+    @Override
+    public void save(OutboxMessage message) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        message.getId(),
+                        message.getChannel(),
+                        message.getDestination(),
+                        message.getPartitionKey(),
+                        message.getPayload(),
+                        message.getCreatedAt(),
+                        message.getAttempts(),
+                        message.getNextAttemptAt());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxMessage> claimDue(int max, long now, long claimUntil) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection();
+                 var stream = queryExecutor.query(connection, false, this::mapResultSet, statements.getClaimDueTemplate(), claimUntil, now, max)) {
+                return stream.toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void reschedule(String id, int attempts, long nextAttemptAt) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getRescheduleTemplate(), attempts, nextAttemptAt, id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private OutboxMessage mapResultSet(ResultSet resultSet) throws Exception {
+        return OutboxMessage.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .channel(resultSet.getString(statements.getChannelColumn()))
+                .destination(resultSet.getString(statements.getDestinationColumn()))
+                .partitionKey(resultSet.getString(statements.getPartitionKeyColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .build();
+    }
+}
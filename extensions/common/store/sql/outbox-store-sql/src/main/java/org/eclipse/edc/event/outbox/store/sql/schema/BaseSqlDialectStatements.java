@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements OutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getChannelColumn())
+                .column(getDestinationColumn())
+                .column(getPartitionKeyColumn())
+                .column(getPayloadColumn())
+                .column(getCreatedAtColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .insertInto(getOutboxTable());
+    }
+
+    @Override
+    public String getClaimDueTemplate() {
+        // a message is claimed only when no older message of the same partition exists, locked rows are skipped so that
+        // concurrent relays claim distinct messages
+        return format("WITH claimed AS (UPDATE %1$s SET %2$s = ? WHERE %3$s IN (" +
+                        "SELECT o.%3$s FROM %1$s o WHERE o.%2$s <= ? AND NOT EXISTS (" +
+                        "SELECT 1 FROM %1$s p WHERE p.%4$s = o.%4$s AND p.%5$s = o.%5$s AND p.%6$s < o.%6$s) " +
+                        "ORDER BY o.%6$s LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *) " +
+                        "SELECT * FROM claimed ORDER BY %6$s",
+                getOutboxTable(), getNextAttemptAtColumn(), getIdColumn(), getDestinationColumn(),
+                getPartitionKeyColumn(), getSequenceColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getRescheduleTemplate() {
+        return executeStatement()
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+}
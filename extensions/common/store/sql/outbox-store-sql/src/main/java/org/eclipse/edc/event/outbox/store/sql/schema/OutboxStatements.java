@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines all statements that are needed for the {@link org.eclipse.edc.spi.event.outbox.OutboxMessage} store
+ */
+public interface OutboxStatements extends SqlStatements {
+
+    default String getOutboxTable() {
+        return "edc_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getSequenceColumn() {
+        return "sequence";
+    }
+
+    default String getChannelColumn() {
+        return "channel";
+    }
+
+    default String getDestinationColumn() {
+        return "destination";
+    }
+
+    default String getPartitionKeyColumn() {
+        return "partition_key";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    String getInsertTemplate();
+
+    /**
+     * Claims the due messages that are the oldest of their partition, parameters are: the claim expiration, the current
+     * time and the maximum number of messages.
+     */
+    String getClaimDueTemplate();
+
+    String getDeleteByIdTemplate();
+
+    String getRescheduleTemplate();
+}
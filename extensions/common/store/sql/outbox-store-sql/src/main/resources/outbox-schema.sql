@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS edc_outbox
+(
+    id              VARCHAR NOT NULL PRIMARY KEY,
+    sequence        BIGSERIAL,               -- insertion order, used to deliver the messages of a partition in order
+    channel         VARCHAR NOT NULL,
+    destination     VARCHAR NOT NULL,
+    partition_key   VARCHAR NOT NULL,
+    payload         TEXT    NOT NULL,
+    created_at      BIGINT  NOT NULL,        -- creation time in epoch millis
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at BIGINT  NOT NULL         -- next delivery time in epoch millis
+);
+
+CREATE INDEX IF NOT EXISTS outbox_next_attempt_at_idx ON edc_outbox (next_attempt_at);
+
+CREATE INDEX IF NOT EXISTS outbox_partition_idx ON edc_outbox (destination, partition_key, sequence);
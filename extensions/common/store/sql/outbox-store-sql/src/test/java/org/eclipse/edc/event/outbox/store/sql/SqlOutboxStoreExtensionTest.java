@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+public class SqlOutboxStoreExtensionTest {
+
+    private final SqlSchemaBootstrapper sqlSchemaBootstrapper = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(TypeManager.class, new JacksonTypeManager());
+        context.registerService(SqlSchemaBootstrapper.class, sqlSchemaBootstrapper);
+    }
+
+    @Test
+    void shouldInitializeTheStore(SqlOutboxStoreExtension extension, ServiceExtensionContext context) {
+        var config = mock(Config.class);
+        when(context.getConfig()).thenReturn(config);
+        when(config.getString(any(), any())).thenReturn("test");
+
+        extension.initialize(context);
+
+        assertThat(context.getService(OutboxStore.class)).isInstanceOf(SqlOutboxStore.class);
+        verify(sqlSchemaBootstrapper).addStatementFromResource(any(), eq("outbox-schema.sql"));
+    }
+}
@@ -29,6 +29,7 @@ public class LocalDataSourceRegistry implements DataSourceRegistry {
     private final LocalTransactionContextManager manager;
 
     private final Map<String, DataSource> dataSources = new HashMap<>();
+    private final Map<String, DataSource> unmanagedDataSources = new HashMap<>();
 
     public LocalDataSourceRegistry(LocalTransactionContextManager manager) {
         this.manager = manager;
@@ -40,6 +41,7 @@ public class LocalDataSourceRegistry implements DataSourceRegistry {
         Objects.requireNonNull(dataSource, "dataSource");
         var wrapper = new DataSourceResource(dataSource);
         dataSources.put(name, wrapper);
+        unmanagedDataSources.put(name, dataSource);
         manager.registerResource(wrapper);
     }
 
@@ -47,4 +49,9 @@ public class LocalDataSourceRegistry implements DataSourceRegistry {
     public DataSource resolve(String name) {
         return dataSources.get(name);
     }
+
+    @Override
+    public DataSource resolveUnmanaged(String name) {
+        return unmanagedDataSources.get(name);
+    }
 }
@@ -101,6 +101,8 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                     });
                 }
                 transactions.remove();
+                var committed = !transaction.isRollbackOnly();
+                transaction.getSynchronizations().forEach(sync -> sync.afterCompletion(committed));
             }
         }
     }
@@ -34,6 +34,16 @@ class LocalDataSourceRegistryTest {
         assertThat(registry.resolve("foo")).isNull();
     }
 
+    @Test
+    void resolveUnmanaged_shouldReturnRegisteredDataSource() {
+        var dataSource = mock(DataSource.class);
+        registry.register(DataSourceRegistry.DEFAULT_DATASOURCE, dataSource);
+
+        assertThat(registry.resolveUnmanaged(DataSourceRegistry.DEFAULT_DATASOURCE)).isSameAs(dataSource);
+        assertThat(registry.resolve(DataSourceRegistry.DEFAULT_DATASOURCE)).isNotSameAs(dataSource);
+        assertThat(registry.resolveUnmanaged("foo")).isNull();
+    }
+
     @BeforeEach
     void setUp() {
         registry = new LocalDataSourceRegistry(mock(LocalTransactionContextManager.class));
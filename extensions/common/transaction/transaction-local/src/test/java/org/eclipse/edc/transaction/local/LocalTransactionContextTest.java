@@ -154,6 +154,21 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifySynchronization_afterCompletion() {
+        var committedSync = mock(TransactionContext.TransactionSynchronization.class);
+        var rolledBackSync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(committedSync));
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(rolledBackSync);
+            throw new EdcException("Test");
+        }));
+
+        verify(committedSync).afterCompletion(true);
+        verify(rolledBackSync).afterCompletion(false);
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
@@ -66,7 +66,7 @@ public class BaseContractNegotiationApiController {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null)).stream()
+        return service.searchSummaries(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null)).stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(this::logIfError)
                 .filter(Result::succeeded)
@@ -70,7 +70,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
 
     @Test
     void getAll() {
-        when(service.search(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
+        when(service.searchSummaries(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
                 createContractNegotiation("cn1"),
                 createContractNegotiation("cn2")
         )));
@@ -88,7 +88,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
                 .body("size()", is(2));
 
         verifyNoInteractions(validatorRegistry);
-        verify(service).search(any(QuerySpec.class));
+        verify(service).searchSummaries(any(QuerySpec.class));
         verify(transformerRegistry, times(2)).transform(any(ContractNegotiation.class), eq(JsonObject.class));
     }
 
@@ -110,7 +110,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
     @Test
     void getAll_queryTransformationFails() {
         when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
-        when(service.search(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
+        when(service.searchSummaries(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
                 createContractNegotiation("cn1"),
                 createContractNegotiation("cn2")
         )));
@@ -132,7 +132,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
     @Test
     void getAll_dtoTransformationFails() {
         when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
-        when(service.search(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
+        when(service.searchSummaries(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
                 createContractNegotiation("cn1"),
                 createContractNegotiation("cn2")
         )));
@@ -147,12 +147,12 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
                 .contentType(JSON)
                 .body("size()", is(0));
 
-        verify(service).search(any(QuerySpec.class));
+        verify(service).searchSummaries(any(QuerySpec.class));
     }
 
     @Test
     void getAll_singleFailure_shouldLogError() {
-        when(service.search(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
+        when(service.searchSummaries(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
                 createContractNegotiation("cn1"),
                 createContractNegotiation("cn2")
         )));
@@ -168,7 +168,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
                 .contentType(JSON)
                 .body("size()", is(1));
 
-        verify(service).search(any(QuerySpec.class));
+        verify(service).searchSummaries(any(QuerySpec.class));
         verify(transformerRegistry, times(2)).transform(any(ContractNegotiation.class), eq(JsonObject.class));
         verify(monitor).warning(contains("test-failure"));
     }
@@ -176,7 +176,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
     @Test
     void getAll_jsonObjectTransformationFails() {
         when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
-        when(service.search(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
+        when(service.searchSummaries(any(QuerySpec.class))).thenReturn(ServiceResult.success(List.of(
                 createContractNegotiation("cn1"),
                 createContractNegotiation("cn2")
         )));
@@ -194,7 +194,7 @@ public abstract class BaseContractNegotiationApiControllerTest extends RestContr
                 .contentType(JSON)
                 .body("size()", is(0));
 
-        verify(service).search(any(QuerySpec.class));
+        verify(service).searchSummaries(any(QuerySpec.class));
         verify(transformerRegistry).transform(any(JsonObject.class), eq(QuerySpec.class));
         verify(transformerRegistry, times(2)).transform(any(ContractNegotiation.class), eq(JsonObject.class));
     }
@@ -74,7 +74,7 @@ public abstract class BaseTransferProcessApiController {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        return service.searchSummaries(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
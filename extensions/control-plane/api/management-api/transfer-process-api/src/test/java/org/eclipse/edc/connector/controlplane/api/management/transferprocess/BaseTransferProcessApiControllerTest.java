@@ -158,7 +158,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
             var expandedResponseBody = Json.createObjectBuilder().add("id", "id").add("createdAt", 1234).build();
             when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
             when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
-            when(service.search(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
+            when(service.searchSummaries(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
             when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(expandedResponseBody));
             var requestBody = Json.createObjectBuilder().build();
 
@@ -173,14 +173,14 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
                     .body("[0].id", is("id"))
                     .body("[0].createdAt", is(1234));
             verify(transformerRegistry).transform(expandedRequestBody, QuerySpec.class);
-            verify(service).search(querySpec);
+            verify(service).searchSummaries(querySpec);
             verify(transformerRegistry).transform(transferProcess, JsonObject.class);
         }
 
         @Test
         void shouldNotReturnError_whenEmptyBody() {
             var querySpec = QuerySpec.none();
-            when(service.search(any())).thenReturn(ServiceResult.success(emptyList()));
+            when(service.searchSummaries(any())).thenReturn(ServiceResult.success(emptyList()));
 
             baseRequest()
                     .contentType(JSON)
@@ -190,7 +190,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
                     .contentType(JSON)
                     .body("size()", is(0));
 
-            verify(service).search(querySpec);
+            verify(service).searchSummaries(querySpec);
             verifyNoInteractions(validatorRegistry, transformerRegistry);
         }
 
@@ -230,7 +230,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
             var querySpec = QuerySpec.none();
             when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
             when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
-            when(service.search(any())).thenReturn(ServiceResult.badRequest("error"));
+            when(service.searchSummaries(any())).thenReturn(ServiceResult.badRequest("error"));
             var requestBody = Json.createObjectBuilder().build();
 
             baseRequest()
@@ -248,7 +248,7 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
             var transferProcess = createTransferProcess().id("id").build();
             when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
             when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
-            when(service.search(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
+            when(service.searchSummaries(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
             when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.failure("error"));
             var requestBody = Json.createObjectBuilder().build();
 
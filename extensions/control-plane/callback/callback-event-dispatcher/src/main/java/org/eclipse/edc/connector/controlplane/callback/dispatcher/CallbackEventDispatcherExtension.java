@@ -20,12 +20,17 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegi
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.Outbox;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +38,10 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    @Setting(description = "If true, non-transactional callbacks are written to the outbox in the transaction that publishes the event and delivered from there, " +
+            "with retries and in order per transfer process or contract negotiation", key = "edc.callback.outbox.enabled", defaultValue = "false")
+    boolean outboxEnabled;
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +54,15 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    Outbox outbox;
+
+    @Inject
+    TypeManager typeManager;
+
+    @Inject
+    Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +74,15 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
-        // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
+        // Event listener for invoking callbacks in sync (transactional) and async (not transactional), the latter through the outbox if enabled
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        if (outboxEnabled) {
+            var outboxDispatcher = new CallbackOutboxDispatcher(outbox, dispatcherRegistry, callbackRegistry, resolverRegistry, typeManager.getMapper(), clock);
+            outbox.registerHandler(CallbackOutboxDispatcher.CHANNEL, outboxDispatcher);
+            router.registerTransactional(Event.class, outboxDispatcher);
+        } else {
+            router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        }
 
     }
 }
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.Outbox;
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.event.outbox.OutboxMessageHandler;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Subscriber that writes the non-transactional callbacks associated to an {@link Event} to the {@link Outbox}, in the
+ * transaction that published the event, and handler that invokes them once they are relayed. In contrast with the
+ * asynchronous {@link CallbackEventDispatcher}, the callbacks survive a restart, are retried when they fail and are
+ * invoked in order for the same transfer process or contract negotiation.
+ */
+public class CallbackOutboxDispatcher implements EventSubscriber, OutboxMessageHandler {
+
+    public static final String CHANNEL = "callback";
+
+    private final Outbox outbox;
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final CallbackRegistry callbackRegistry;
+    private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    public CallbackOutboxDispatcher(Outbox outbox, RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry,
+                                    CallbackProtocolResolverRegistry resolverRegistry, ObjectMapper mapper, Clock clock) {
+        this.outbox = outbox;
+        this.dispatcher = dispatcher;
+        this.callbackRegistry = callbackRegistry;
+        this.resolverRegistry = resolverRegistry;
+        this.mapper = mapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var event = eventEnvelope.getPayload();
+        var eventName = event.name();
+
+        Stream.concat(callbackRegistry.resolve(eventName).stream(), event.getCallbackAddresses().stream())
+                .filter(callback -> !callback.isTransactional())
+                .filter(callback -> callback.getEvents().stream().anyMatch(eventName::startsWith))
+                .forEach(callback -> outbox.write(toMessage(callback, eventEnvelope)));
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(OutboxMessage message) {
+        try {
+            var payload = mapper.readValue(message.getPayload(), CallbackPayload.class);
+            var protocol = resolverRegistry.resolve(URI.create(payload.callback().getUri()).getScheme());
+            if (protocol == null) {
+                return CompletableFuture.failedFuture(new EdcException(format("Failed to resolve protocol for URI %s", payload.callback().getUri())));
+            }
+
+            var event = (Event) mapper.treeToValue(payload.event(), Class.forName(payload.eventType()));
+            EventEnvelope<Event> envelope = EventEnvelope.Builder.newInstance()
+                    .id(payload.envelopeId())
+                    .at(payload.at())
+                    .payload(event)
+                    .build();
+
+            return dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(payload.callback(), envelope, protocol))
+                    .thenCompose(result -> result.succeeded()
+                            ? CompletableFuture.<Void>completedFuture(null)
+                            : CompletableFuture.<Void>failedFuture(new EdcException(format("Failed to invoke callback at URI %s: %s", payload.callback().getUri(), result.getFailureDetail()))));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <E extends Event> OutboxMessage toMessage(CallbackAddress callback, EventEnvelope<E> eventEnvelope) {
+        var event = eventEnvelope.getPayload();
+        var payload = new CallbackPayload(callback, eventEnvelope.getId(), eventEnvelope.getAt(), event.getClass().getName(), mapper.valueToTree(event));
+        try {
+            var now = clock.millis();
+            return OutboxMessage.Builder.newInstance()
+                    .channel(CHANNEL)
+                    .destination(callback.getUri())
+                    .partitionKey(partitionKey(eventEnvelope))
+                    .payload(mapper.writeValueAsString(payload))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build();
+        } catch (Exception e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * The callbacks of an entity are delivered in order. Events that do not belong to an entity have nothing to be
+     * ordered with, so they are partitioned on their own envelope id and get delivered independently.
+     */
+    private String partitionKey(EventEnvelope<?> eventEnvelope) {
+        String entityId = null;
+        var event = eventEnvelope.getPayload();
+        if (event instanceof TransferProcessEvent transferProcessEvent) {
+            entityId = transferProcessEvent.getTransferProcessId();
+        } else if (event instanceof ContractNegotiationEvent contractNegotiationEvent) {
+            entityId = contractNegotiationEvent.getContractNegotiationId();
+        }
+        return Objects.requireNonNullElse(entityId, eventEnvelope.getId());
+    }
+
+    record CallbackPayload(CallbackAddress callback, String envelopeId, long at, String eventType, JsonNode event) {
+    }
+}
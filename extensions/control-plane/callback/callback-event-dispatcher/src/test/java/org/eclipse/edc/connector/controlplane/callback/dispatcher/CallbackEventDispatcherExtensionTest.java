@@ -18,22 +18,32 @@ import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.Outbox;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
 
     EventRouter router = mock(EventRouter.class);
+    Outbox outbox = mock(Outbox.class);
 
     private CallbackEventDispatcherExtension extension;
 
@@ -41,6 +51,7 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
+        context.registerService(Outbox.class, outbox);
 
         extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
@@ -55,7 +66,19 @@ public class CallbackEventDispatcherExtensionTest {
 
     }
 
-    private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
-        return dispatcher -> dispatcher.isTransactional() == transactional;
+    @Test
+    void initialize_shouldRegisterOutboxDispatcher_whenOutboxEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.callback.outbox.enabled", "true")));
+
+        factory.constructInstance(CallbackEventDispatcherExtension.class).initialize(context);
+
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router).registerTransactional(eq(Event.class), isA(CallbackOutboxDispatcher.class));
+        verify(router, never()).register(any(), any());
+        verify(outbox).registerHandler(eq(CallbackOutboxDispatcher.CHANNEL), isA(CallbackOutboxDispatcher.class));
+    }
+
+    private ArgumentMatcher<EventSubscriber> callbackEventDispatcherMatcher(boolean transactional) {
+        return subscriber -> subscriber instanceof CallbackEventDispatcher dispatcher && dispatcher.isTransactional() == transactional;
     }
 }
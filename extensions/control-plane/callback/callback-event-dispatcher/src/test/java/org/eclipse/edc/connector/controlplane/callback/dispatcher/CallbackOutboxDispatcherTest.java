@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.outbox.Outbox;
+import org.eclipse.edc.spi.event.outbox.OutboxMessage;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxDispatcherTest {
+
+    private final Outbox outbox = mock();
+    private final RemoteMessageDispatcherRegistry registry = mock();
+    private final CallbackRegistry callbackRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final CallbackOutboxDispatcher dispatcher = new CallbackOutboxDispatcher(outbox, registry, callbackRegistry, resolverRegistry,
+            new JacksonTypeManager().getMapper(), Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC));
+
+    @Test
+    void on_shouldWriteNonTransactionalMatchingCallbacks() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .callbackAddresses(List.of(callback("local://matching", "transfer.process", false),
+                        callback("local://transactional", "transfer.process", true),
+                        callback("local://other", "contract.negotiation", false)))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outbox).write(captor.capture());
+        assertThat(captor.getValue()).satisfies(message -> {
+            assertThat(message.getChannel()).isEqualTo(CallbackOutboxDispatcher.CHANNEL);
+            assertThat(message.getDestination()).isEqualTo("local://matching");
+            assertThat(message.getPartitionKey()).isEqualTo("transferProcessId");
+            assertThat(message.getCreatedAt()).isEqualTo(1000);
+            assertThat(message.getNextAttemptAt()).isEqualTo(1000);
+        });
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void on_shouldPartitionByEnvelope_whenEventDoesNotBelongToAnEntity() {
+        when(callbackRegistry.resolve("test.event")).thenReturn(List.of(callback("local://test", "test", false)));
+
+        dispatcher.on(envelope(new TestEvent()));
+
+        var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outbox).write(captor.capture());
+        assertThat(captor.getValue().getPartitionKey()).isEqualTo("envelopeId");
+    }
+
+    @Test
+    void handle_shouldDispatchWrittenCallback() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var callback = callback("local://test", "transfer.process.completed", false);
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .callbackAddresses(List.of(callback))
+                .build();
+        var envelope = envelope(event);
+
+        var result = dispatcher.handle(written(envelope));
+
+        assertThat(result).succeedsWithin(Duration.ZERO);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<CallbackEventRemoteMessage<TransferProcessCompleted>> captor = ArgumentCaptor.forClass(CallbackEventRemoteMessage.class);
+        verify(registry).dispatch(any(), captor.capture());
+        assertThat(captor.getValue().getProtocol()).isEqualTo("local");
+        assertThat(captor.getValue().getCounterPartyAddress()).isEqualTo("local://test");
+        assertThat(captor.getValue().getEventEnvelope()).usingRecursiveComparison().isEqualTo(envelope);
+    }
+
+    @Test
+    void handle_shouldFail_whenDispatchFails() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "error")));
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .callbackAddresses(List.of(callback("local://test", "transfer.process.completed", false)))
+                .build();
+
+        var result = dispatcher.handle(written(envelope(event)));
+
+        assertThat(result).failsWithin(Duration.ZERO);
+    }
+
+    @Test
+    void handle_shouldFail_whenProtocolCannotBeResolved() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("transferProcessId")
+                .callbackAddresses(List.of(callback("unknown://test", "transfer.process.completed", false)))
+                .build();
+
+        var result = dispatcher.handle(written(envelope(event)));
+
+        assertThat(result).failsWithin(Duration.ZERO);
+        verifyNoInteractions(registry);
+    }
+
+    private OutboxMessage written(EventEnvelope<?> envelope) {
+        dispatcher.on(envelope);
+        var captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outbox).write(captor.capture());
+        return captor.getValue();
+    }
+
+    private CallbackAddress callback(String uri, String events, boolean transactional) {
+        return CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of(events))
+                .transactional(transactional)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Event> EventEnvelope<E> envelope(E e) {
+        return EventEnvelope.Builder.newInstance()
+                .id("envelopeId")
+                .at(123)
+                .payload(e)
+                .build();
+    }
+
+    private static class TestEvent extends Event {
+
+        public String getDescription() {
+            return "an event that does not belong to any entity";
+        }
+
+        @Override
+        public String name() {
+            return "test.event";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.controlplane.catalog.CachingContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that publishes the usage of the catalog contract definition cache as Micrometer metrics.
+ */
+@Extension(value = CatalogMicrometerExtension.NAME)
+public class CatalogMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_CATALOG_METRICS = "edc.metrics.catalog.enabled";
+    public static final String NAME = "Catalog Micrometer Metrics";
+
+    @Inject
+    private ContractDefinitionResolver contractDefinitionResolver;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableCatalogMetrics = context.getSetting(ENABLE_CATALOG_METRICS, true);
+
+        if (enableMetrics && enableCatalogMetrics && contractDefinitionResolver instanceof CachingContractDefinitionResolver cachingResolver) {
+            new ContractDefinitionCacheMetrics(cachingResolver).bindTo(meterRegistry);
+        }
+    }
+}
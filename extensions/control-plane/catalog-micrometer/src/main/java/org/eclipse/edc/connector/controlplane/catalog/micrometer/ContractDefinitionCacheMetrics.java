@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.connector.controlplane.catalog.CachingContractDefinitionResolver;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binds the hits and misses of a {@link CachingContractDefinitionResolver} as counters.
+ */
+public class ContractDefinitionCacheMetrics implements MeterBinder {
+
+    public static final String HITS = "edc.catalog.definition.cache.hits";
+    public static final String MISSES = "edc.catalog.definition.cache.misses";
+
+    private final CachingContractDefinitionResolver resolver;
+
+    public ContractDefinitionCacheMetrics(CachingContractDefinitionResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FunctionCounter.builder(HITS, resolver, CachingContractDefinitionResolver::getHits)
+                .description("Number of catalog requests whose contract definitions were served from the cache")
+                .register(registry);
+        FunctionCounter.builder(MISSES, resolver, CachingContractDefinitionResolver::getMisses)
+                .description("Number of catalog requests whose contract definitions had to be evaluated")
+                .register(registry);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.catalog.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.controlplane.catalog.CachingContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.catalog.spi.ResolvedContractDefinitions;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.catalog.micrometer.ContractDefinitionCacheMetrics.HITS;
+import static org.eclipse.edc.connector.controlplane.catalog.micrometer.ContractDefinitionCacheMetrics.MISSES;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContractDefinitionCacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ContractDefinitionResolver delegate = mock();
+
+    @Test
+    void shouldPublishHitsAndMisses() {
+        when(delegate.resolveFor(any())).thenAnswer(i -> new ResolvedContractDefinitions(List.of()));
+        var resolver = new CachingContractDefinitionResolver(delegate, 10, 60_000, Clock.systemUTC());
+        new ContractDefinitionCacheMetrics(resolver).bindTo(registry);
+        var agent = new ParticipantAgent(Map.of(), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant"));
+
+        resolver.resolveFor(agent);
+        resolver.resolveFor(agent);
+        resolver.resolveFor(agent);
+
+        assertThat(registry.get(HITS).functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(MISSES).functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -66,6 +66,20 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        Objects.requireNonNull(querySpec);
+
+        return transactionContext.execute(() -> {
+            try {
+                var statement = assetStatements.createQuery(querySpec, selectors);
+                return queryExecutor.query(getConnection(), true, this::mapAsset, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
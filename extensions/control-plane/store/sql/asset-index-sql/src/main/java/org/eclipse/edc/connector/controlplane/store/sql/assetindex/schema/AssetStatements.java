@@ -160,4 +160,12 @@ public interface AssetStatements extends SqlStatements {
      */
     SqlQueryStatement createQuery(List<Criterion> query);
 
+    /**
+     * Generates a SQL query out of the query spec, that additionally selects only the assets matched by at least one
+     * of the selectors.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createQuery(QuerySpec query, List<List<Criterion>> selectors);
+
 }
@@ -19,12 +19,15 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.AssetMapping;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.CriterionToWhereClauseConverterImpl;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 public class BaseSqlDialectStatements implements AssetStatements {
 
@@ -92,4 +95,31 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .build());
     }
 
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        var statement = createQuery(querySpec);
+        if (selectors.stream().anyMatch(List::isEmpty)) {
+            return statement;
+        }
+
+        if (selectors.isEmpty()) {
+            return statement.addWhereClause("0 = ?", 1);
+        }
+
+        var converter = new CriterionToWhereClauseConverterImpl(new AssetMapping(this), operatorTranslator);
+        var parameters = new ArrayList<>();
+        var clauses = new ArrayList<String>();
+        for (var selector : selectors) {
+            var conditions = new ArrayList<String>();
+            for (var criterion : selector) {
+                var whereClause = converter.convert(criterion);
+                conditions.add(whereClause.sql());
+                parameters.addAll(whereClause.parameters());
+            }
+            clauses.add(conditions.stream().collect(joining(" AND ", "(", ")")));
+        }
+
+        return statement.addWhereClause(clauses.stream().collect(joining(" OR ", "(", ")")), parameters.toArray());
+    }
+
 }
@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -39,6 +40,9 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.contractnegotiation.datasource")
     private String dataSourceName;
 
+    @Setting(description = "Where the leases on the contract negotiations are stored: TABLE uses the edc_lease table, INLINE uses the leased_by and leased_until columns of the entity table", defaultValue = "TABLE", key = "edc.sql.store.contractnegotiation.lease.mode")
+    private String leaseMode;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -63,7 +67,7 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getRuntimeId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getRuntimeId(), clock, queryExecutor, LeaseMode.from(leaseMode));
         context.registerService(ContractNegotiationStore.class, sqlStore);
 
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "contract-negotiation-schema.sql");
@@ -29,7 +29,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.lease.VersionRollback;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -41,6 +43,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -61,10 +64,19 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String leaseHolderName, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, leaseHolderName, clock,
+                queryExecutor, LeaseMode.TABLE);
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String leaseHolderName, Clock clock,
+                                       QueryExecutor queryExecutor, LeaseMode leaseMode) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .mode(leaseMode);
     }
 
     @Override
@@ -78,21 +90,32 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public @Nullable Integer findStateById(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, resultSet -> resultSet.getInt(1), statements.getSelectStateByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(leaseContext.getNotLeasedFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString() + statements.getForUpdateSkipLockedClause(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var leased = leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
+                return negotiations.stream().filter(cn -> leased.contains(cn.getId())).toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -123,12 +146,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findInternal(connection, id);
-                if (existing == null) {
-                    insert(connection, negotiation);
+                var upsertStatement = statements.getUpsertNegotiationTemplate();
+                if (upsertStatement != null) {
+                    upsert(connection, upsertStatement, negotiation);
                 } else {
-                    leaseContext.withConnection(connection).breakLease(id);
-                    update(connection, id, negotiation);
+                    var existing = findInternal(connection, id);
+                    if (existing == null) {
+                        insert(connection, negotiation);
+                    } else {
+                        leaseContext.withConnection(connection).breakLease(id);
+                        update(connection, id, negotiation);
+                    }
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -137,6 +165,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     }
 
+    @Override
+    public void saveAll(Collection<ContractNegotiation> entities) {
+        transactionContext.execute(() -> entities.forEach(this::save));
+    }
+
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
         return transactionContext.execute(() -> {
@@ -188,6 +221,18 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public @NotNull Stream<ContractNegotiation> queryNegotiationSummaries(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createNegotiationsQuery(querySpec);
+                return queryExecutor.query(getConnection(), true, this::mapContractNegotiationSummary, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -238,17 +283,28 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiationId);
     }
 
+    private void upsert(Connection connection, String upsertStatement, ContractNegotiation negotiation) {
+        if (negotiation.getContractAgreement() != null) {
+            upsertAgreement(negotiation.getContractAgreement());
+        }
+
+        var version = leaseContext.withConnection(connection)
+                .upsertReleasingLease(negotiation.getId(), upsertStatement, negotiation.getVersion(), insertArguments(negotiation));
+        VersionRollback.apply(transactionContext, negotiation, version);
+    }
+
     private void insert(Connection connection, ContractNegotiation negotiation) {
-        String agrId = null;
-        var agreement = negotiation.getContractAgreement();
-        if (agreement != null) {
-            agrId = agreement.getId();
-            upsertAgreement(agreement);
+        if (negotiation.getContractAgreement() != null) {
+            upsertAgreement(negotiation.getContractAgreement());
         }
 
         var stmt = statements.getInsertNegotiationTemplate();
-        queryExecutor.execute(connection, stmt,
-                negotiation.getId(),
+        queryExecutor.execute(connection, stmt, insertArguments(negotiation));
+    }
+
+    private Object[] insertArguments(ContractNegotiation negotiation) {
+        var agrId = ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null);
+        return new Object[]{ negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
                 negotiation.getCounterPartyAddress(),
@@ -265,7 +321,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getCreatedAt(),
                 negotiation.getUpdatedAt(),
                 negotiation.isPending(),
-                toJson(negotiation.getProtocolMessages()));
+                toJson(negotiation.getProtocolMessages()) };
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
@@ -328,6 +384,23 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     }
 
     private ContractNegotiation mapContractNegotiation(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
+        return summaryBuilder(resultSet, agreementMapper)
+                .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
+                }))
+                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), new TypeReference<>() {
+                }))
+                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .build();
+    }
+
+    /**
+     * Maps the negotiation without decoding the contract offers, the trace context and the protocol messages.
+     */
+    private ContractNegotiation mapContractNegotiationSummary(ResultSet resultSet) throws Exception {
+        return summaryBuilder(resultSet, this::extractContractAgreement).build();
+    }
+
+    private ContractNegotiation.Builder summaryBuilder(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
         return ContractNegotiation.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
@@ -337,21 +410,16 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .contractAgreement(agreementMapper.mapResultSet(resultSet))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .version(resultSet.getLong(statements.getVersionColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
-                .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
-                }))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
                 }))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
-                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), new TypeReference<>() {
-                }))
                 // will throw an exception if the value is outside the Type.values() range
                 .type(ContractNegotiation.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
-                .pending(resultSet.getBoolean(statements.getPendingColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
-                .build();
+                .pending(resultSet.getBoolean(statements.getPendingColumn()));
     }
 
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -65,6 +66,15 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertNegotiationTemplate() {
+        return negotiationColumns().insertInto(getContractNegotiationTable());
+    }
+
+    /**
+     * All the contract negotiation columns, in the order expected by {@link #getInsertNegotiationTemplate()}.
+     *
+     * @return the columns.
+     */
+    protected SqlExecuteStatement negotiationColumns() {
         return executeStatement()
                 .column(getIdColumn())
                 .column(getCorrelationIdColumn())
@@ -83,8 +93,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .column(getPendingColumn())
-                .jsonColumn(getProtocolMessagesColumn())
-                .insertInto(getContractNegotiationTable());
+                .jsonColumn(getProtocolMessagesColumn());
     }
 
     @Override
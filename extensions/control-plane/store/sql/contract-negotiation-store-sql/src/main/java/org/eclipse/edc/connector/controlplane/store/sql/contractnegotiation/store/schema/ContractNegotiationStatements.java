@@ -46,6 +46,11 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "edc_contract_negotiation";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
     default String getContractAgreementTable() {
         return "edc_contract_agreement";
     }
@@ -122,6 +127,17 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "protocol_messages";
     }
 
+    /**
+     * Statement that inserts or updates a contract negotiation in a single round trip, with the same parameters as
+     * {@link #getInsertNegotiationTemplate()}. It is completed with the lease release and the version check by
+     * {@link #getUpsertReleasingLeaseTemplate(String)}.
+     *
+     * @return the statement, or null if the dialect does not support upserts.
+     */
+    default String getUpsertNegotiationTemplate() {
+        return null;
+    }
+
     SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec);
 
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
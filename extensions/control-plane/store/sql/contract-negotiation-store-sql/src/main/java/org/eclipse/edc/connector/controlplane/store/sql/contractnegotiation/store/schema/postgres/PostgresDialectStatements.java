@@ -35,6 +35,12 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         super(new PostgresqlOperatorTranslator());
     }
 
+    @Override
+    public String getUpsertNegotiationTemplate() {
+        return negotiationColumns().upsertInto(getContractNegotiationTable(), getIdColumn(),
+                getCounterPartyIdColumn(), getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getCreatedAtColumn());
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectNegotiationsTemplate();
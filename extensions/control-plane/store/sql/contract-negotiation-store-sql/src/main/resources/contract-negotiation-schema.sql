@@ -83,4 +83,15 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
 
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS contract_negotiation_state ON edc_contract_negotiation (state,state_timestamp);
+
+-- Inline lease columns, used when the lease mode is INLINE
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS leased_by VARCHAR;
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS leased_until BIGINT;
+
+COMMENT ON COLUMN edc_contract_negotiation.leased_until IS 'posix timestamp of the inline lease expiration';
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_leased_until ON edc_contract_negotiation (state,leased_until,state_timestamp);
+
+-- Optimistic concurrency version, incremented on every upsert
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
@@ -26,13 +26,14 @@ dependencies {
     implementation(project(":core:common:lib:sql-lib"))
     implementation(project(":extensions:common:sql:sql-lease"))
     implementation(project(":extensions:common:sql:sql-bootstrapper"))
+    implementation(libs.postgres)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.assertj)
     testImplementation(libs.awaitility)
-    testImplementation(libs.postgres)
     testImplementation(testFixtures(project(":spi:control-plane:transfer-spi")))
     testImplementation(testFixtures(project(":extensions:common:sql:sql-test-fixtures")))
+    testImplementation(project(":extensions:common:transaction:transaction-local"))
 
 }
 
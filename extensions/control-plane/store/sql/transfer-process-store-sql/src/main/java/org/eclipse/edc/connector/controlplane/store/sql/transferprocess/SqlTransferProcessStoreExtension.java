@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.store.sql.transferprocess;
 
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.PostgresStateChangeListener;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.TransferProcessStoreStatements;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
@@ -27,6 +28,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -36,9 +38,20 @@ import java.time.Clock;
 @Extension(value = "SQL transfer process store")
 public class SqlTransferProcessStoreExtension implements ServiceExtension {
 
+    private static final int DEFAULT_NOTIFICATIONS_POLL_TIMEOUT = 1000;
+
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.transferprocess.datasource")
     private String dataSourceName;
 
+    @Setting(description = "Where the leases on the transfer processes are stored: TABLE uses the edc_lease table, INLINE uses the leased_by and leased_until columns of the entity table", defaultValue = "TABLE", key = "edc.sql.store.transferprocess.lease.mode")
+    private String leaseMode;
+
+    @Setting(description = "Enables the Postgres LISTEN/NOTIFY based wake up of the transfer process state machine when a transfer process changes state", defaultValue = "false", key = "edc.sql.store.transferprocess.notifications.enabled")
+    private boolean notificationsEnabled;
+
+    @Setting(description = "The timeout in milliseconds for every poll of the Postgres notifications", defaultValue = DEFAULT_NOTIFICATIONS_POLL_TIMEOUT + "", key = "edc.sql.store.transferprocess.notifications.poll-timeout-millis")
+    private int notificationsPollTimeoutMillis;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -58,16 +71,38 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private SqlSchemaBootstrapper sqlSchemaBootstrapper;
 
+    private PostgresStateChangeListener stateChangeListener;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-
+        var statements = getStatementImpl();
         var store = new SqlTransferProcessStore(dataSourceRegistry, dataSourceName, trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getRuntimeId(), clock, queryExecutor);
+                typeManager.getMapper(), statements, context.getRuntimeId(), clock, queryExecutor, LeaseMode.from(leaseMode),
+                notificationsEnabled);
         context.registerService(TransferProcessStore.class, store);
 
+        if (notificationsEnabled) {
+            stateChangeListener = new PostgresStateChangeListener(dataSourceRegistry, dataSourceName,
+                    statements.getStateChangeChannel(), store::notifyStateChange, context.getMonitor(), notificationsPollTimeoutMillis);
+        }
+
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "transfer-process-schema.sql");
     }
 
+    @Override
+    public void start() {
+        if (stateChangeListener != null) {
+            stateChangeListener.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (stateChangeListener != null) {
+            stateChangeListener.stop();
+        }
+    }
+
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.postgresql.PGConnection;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Listens on a Postgres notification channel through {@code LISTEN} and invokes a callback every time one or more
+ * notifications are received. The listening session is kept open on a dedicated thread and it's re-established
+ * in case of errors. The session uses its own connection, obtained outside any transaction context, so that it
+ * doesn't keep a transaction open for the lifetime of the runtime.
+ */
+public class PostgresStateChangeListener {
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final String channel;
+    private final Runnable onNotification;
+    private final Monitor monitor;
+    private final int pollTimeoutMillis;
+    private final AtomicBoolean active = new AtomicBoolean();
+    private ExecutorService executor;
+
+    public PostgresStateChangeListener(DataSourceRegistry dataSourceRegistry, String dataSourceName, String channel,
+                                       Runnable onNotification, Monitor monitor, int pollTimeoutMillis) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.channel = channel;
+        this.onNotification = onNotification;
+        this.monitor = monitor;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+    }
+
+    public void start() {
+        active.set(true);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("PostgresStateChangeListener-" + channel);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.submit(this::run);
+    }
+
+    public void stop() {
+        active.set(false);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run() {
+        while (active.get()) {
+            try {
+                listen();
+            } catch (Exception e) {
+                if (active.get()) {
+                    monitor.warning(format("Listening on channel %s failed, will retry in %s ms", channel, pollTimeoutMillis), e);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        // the managed data source would enlist the connection in the transaction context of the thread
+        var dataSource = dataSourceRegistry.resolveUnmanaged(dataSourceName);
+        if (dataSource == null) {
+            throw new EdcException(format("DataSource %s not found", dataSourceName));
+        }
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            var pgConnection = connection.unwrap(PGConnection.class);
+            statement.execute("LISTEN " + channel);
+            if (!connection.getAutoCommit()) {
+                // notifications are delivered only between transactions
+                connection.commit();
+            }
+            while (active.get()) {
+                var notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                if (notifications != null && notifications.length > 0) {
+                    onNotification.run();
+                }
+            }
+            statement.execute("UNLISTEN " + channel);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active.set(false);
+        }
+    }
+}
@@ -29,7 +29,9 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.lease.VersionRollback;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -41,8 +43,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,16 +62,36 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<Runnable> stateChangeListeners = new CopyOnWriteArrayList<>();
+    private final boolean notifyStateChanges;
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock,
+                queryExecutor, LeaseMode.TABLE);
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, LeaseMode leaseMode) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock,
+                queryExecutor, leaseMode, false);
+    }
+
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, LeaseMode leaseMode, boolean notifyStateChanges) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
+        this.notifyStateChanges = notifyStateChanges;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .mode(leaseMode);
     }
 
     @Override
@@ -81,21 +105,32 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public @Nullable Integer findStateById(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, resultSet -> resultSet.getInt(1), statements.getSelectStateByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(leaseContext.getNotLeasedFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString() + statements.getForUpdateSkipLockedClause(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var leased = leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -126,12 +161,25 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
-                    update(conn, entity);
+                var upsertStatement = statements.getUpsertTemplate();
+                if (upsertStatement != null) {
+                    var version = leaseContext.by(leaseHolderName).withConnection(conn)
+                            .upsertReleasingLease(entity.getId(), upsertStatement, entity.getVersion(), insertArguments(entity));
+                    VersionRollback.apply(transactionContext, entity, version);
                 } else {
-                    insert(conn, entity);
+                    var existing = findByIdInternal(conn, entity.getId());
+                    if (existing != null) {
+                        leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
+                        update(conn, entity);
+                    } else {
+                        insert(conn, entity);
+                    }
+                }
+                if (notifyStateChanges) {
+                    var notifyStatement = statements.getNotifyStateChangeStatement();
+                    if (notifyStatement != null) {
+                        queryExecutor.execute(conn, notifyStatement);
+                    }
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -139,6 +187,24 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public void saveAll(Collection<TransferProcess> entities) {
+        transactionContext.execute(() -> entities.forEach(this::save));
+    }
+
+    @Override
+    public void onStateChange(Runnable listener) {
+        stateChangeListeners.add(listener);
+    }
+
+    /**
+     * Notifies the registered listeners that some transfer processes changed state, e.g. when a notification
+     * is received from the database.
+     */
+    public void notifyStateChange() {
+        stateChangeListeners.forEach(Runnable::run);
+    }
+
     @Override
     public @Nullable TransferProcess findForCorrelationId(String correlationId) {
         return transactionContext.execute(() -> {
@@ -153,8 +219,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public void delete(String processId) {
 
         transactionContext.execute(() -> {
-            var existing = findById(processId);
-            if (existing != null) {
+            if (findStateById(processId) != null) {
                 try (var conn = getConnection()) {
                     // attempt to acquire lease - should fail if someone else holds the lease
                     leaseContext.by(leaseHolderName).withConnection(conn).acquireLease(processId);
@@ -183,6 +248,18 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public Stream<TransferProcess> findAllSummaries(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createQuery(querySpec);
+                return queryExecutor.query(getConnection(), true, this::mapTransferProcessSummary, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         var criterion = criterion("correlationId", "=", correlationId);
         return QuerySpec.Builder.newInstance().filter(criterion).build();
@@ -245,7 +322,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
     private void insert(Connection conn, TransferProcess process) {
         var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+        queryExecutor.execute(conn, insertTpStatement, insertArguments(process));
+    }
+
+    private Object[] insertArguments(TransferProcess process) {
+        return new Object[]{ process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -269,10 +350,30 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getProtocol(),
                 process.getAssetId(),
                 process.getContractId(),
-                toJson(process.getDataDestination()));
+                toJson(process.getDataDestination()) };
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
+        return summaryBuilder(resultSet)
+                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
+                .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
+                .provisionedResourceSet(fromJson(resultSet.getString(statements.getProvisionedResourceSetColumn()), ProvisionedResourceSet.class))
+                .contentDataAddress(fromJson(resultSet.getString(statements.getContentDataAddressColumn()), DataAddress.class))
+                .deprovisionedResources(fromJson(resultSet.getString(statements.getDeprovisionedResourcesColumn()), new TypeReference<>() {
+                }))
+                .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
+                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .build();
+    }
+
+    /**
+     * Maps the transfer process decoding only the callback addresses and the data destination out of the JSON columns.
+     */
+    private TransferProcess mapTransferProcessSummary(ResultSet resultSet) throws SQLException {
+        return summaryBuilder(resultSet).build();
+    }
+
+    private TransferProcess.Builder summaryBuilder(ResultSet resultSet) throws SQLException {
         return TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .type(TransferProcess.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
@@ -281,9 +382,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
-                .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
-                .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
-                .provisionedResourceSet(fromJson(resultSet.getString(statements.getProvisionedResourceSetColumn()), ProvisionedResourceSet.class))
+                .version(resultSet.getLong(statements.getVersionColumn()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .correlationId(resultSet.getString(statements.getCorrelationIdColumn()))
                 .assetId(resultSet.getString(statements.getAssetIdColumn()))
@@ -291,17 +390,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .dataDestination(fromJson(resultSet.getString(statements.getDataDestinationColumn()), DataAddress.class))
                 .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
-                .contentDataAddress(fromJson(resultSet.getString(statements.getContentDataAddressColumn()), DataAddress.class))
-                .deprovisionedResources(fromJson(resultSet.getString(statements.getDeprovisionedResourcesColumn()), new TypeReference<>() {
-                }))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
                 }))
-                .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
-                .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
-                .build();
+                .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()));
     }
 
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -63,6 +64,15 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getInsertStatement() {
+        return transferProcessColumns().insertInto(getTransferProcessTableName());
+    }
+
+    /**
+     * All the transfer process columns, in the order expected by {@link #getInsertStatement()}.
+     *
+     * @return the columns.
+     */
+    protected SqlExecuteStatement transferProcessColumns() {
         return executeStatement()
                 .column(getIdColumn())
                 .column(getStateColumn())
@@ -88,8 +98,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getProtocolColumn())
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
-                .jsonColumn(getDataDestinationColumn())
-                .insertInto(getTransferProcessTableName());
+                .jsonColumn(getDataDestinationColumn());
     }
 
     @Override
@@ -39,6 +39,11 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "edc_transfer_process";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -111,5 +116,33 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "protocol_messages";
     }
 
+    /**
+     * Name of the channel on which transfer process state changes get notified.
+     */
+    default String getStateChangeChannel() {
+        return "edc_transfer_process_state_change";
+    }
+
+    /**
+     * Statement that notifies a state change on the {@link #getStateChangeChannel()}. It gets executed in the same
+     * transaction that saves the entity, so the notification is delivered only after commit.
+     *
+     * @return the statement, or null if the dialect does not support notifications.
+     */
+    default String getNotifyStateChangeStatement() {
+        return null;
+    }
+
+    /**
+     * Statement that inserts or updates a transfer process in a single round trip, with the same parameters as
+     * {@link #getInsertStatement()}. It is completed with the lease release and the version check by
+     * {@link #getUpsertReleasingLeaseTemplate(String)}.
+     *
+     * @return the statement, or null if the dialect does not support upserts.
+     */
+    default String getUpsertTemplate() {
+        return null;
+    }
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 }
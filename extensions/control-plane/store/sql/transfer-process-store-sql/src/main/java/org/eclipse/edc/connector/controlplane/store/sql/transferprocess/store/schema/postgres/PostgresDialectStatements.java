@@ -36,6 +36,17 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         super(new PostgresqlOperatorTranslator());
     }
 
+    @Override
+    public String getNotifyStateChangeStatement() {
+        return format("NOTIFY %s", getStateChangeChannel());
+    }
+
+    @Override
+    public String getUpsertTemplate() {
+        return transferProcessColumns().upsertInto(getTransferProcessTableName(), getIdColumn(),
+                getCreatedAtColumn(), getTypeColumn(), getPrivatePropertiesColumn());
+    }
+
     @Override
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
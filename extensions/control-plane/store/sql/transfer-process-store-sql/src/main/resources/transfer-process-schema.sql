@@ -67,4 +67,15 @@ CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
-CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS transfer_process_state ON edc_transfer_process (state,state_time_stamp);
+
+-- Inline lease columns, used when the lease mode is INLINE
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS leased_by VARCHAR;
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS leased_until BIGINT;
+
+COMMENT ON COLUMN edc_transfer_process.leased_until IS 'posix timestamp of the inline lease expiration';
+
+CREATE INDEX IF NOT EXISTS transfer_process_state_leased_until ON edc_transfer_process (state,leased_until,state_time_stamp);
+
+-- Optimistic concurrency version, incremented on every upsert
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.transferprocess;
+
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions;
+import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.LeaseMode;
+import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresTransferProcessStoreInlineLeaseTest extends TransferProcessStoreTestBase {
+
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private LeaseUtil leaseUtil;
+    private SqlTransferProcessStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerTypes(TestFunctions.TestResourceDef.class, TestFunctions.TestProvisionedResource.class);
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+
+        leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements, clock, LeaseMode.INLINE);
+        store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector",
+                clock, queryExecutor, LeaseMode.INLINE);
+
+        var schema = TestUtils.getResourceFileContentAsString("transfer-process-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+    }
+
+    @Override
+    protected SqlTransferProcessStore getTransferProcessStore() {
+        return store;
+    }
+
+    @Override
+    protected void leaseEntity(String negotiationId, String owner, Duration duration) {
+        leaseUtil.leaseEntity(negotiationId, owner, duration);
+    }
+
+    @Override
+    protected boolean isLeasedBy(String negotiationId, String owner) {
+        return leaseUtil.isLeased(negotiationId, owner);
+    }
+
+}
@@ -14,35 +14,55 @@
 
 package org.eclipse.edc.connector.controlplane.store.sql.transferprocess;
 
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.PostgresStateChangeListener;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.sql.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
-        var typeManager = new JacksonTypeManager();
         typeManager.registerTypes(TestFunctions.TestResourceDef.class, TestFunctions.TestProvisionedResource.class);
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
@@ -61,6 +81,83 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void shouldNotifyStateChange_whenListeningOnChannel(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        // wire the store and the listener as the runtime does, with data sources managed by the local transaction context
+        var transactionContext = new LocalTransactionContext(mock());
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSourceRegistry.register(extension.getDatasourceName(), extension.getDataSourceRegistry().resolve(extension.getDatasourceName()));
+        var notifyingStore = new SqlTransferProcessStore(dataSourceRegistry, extension.getDatasourceName(), transactionContext,
+                typeManager.getMapper(), statements, "test-connector", clock, queryExecutor, LeaseMode.TABLE, true);
+        var listener = mock(Runnable.class);
+        notifyingStore.onStateChange(listener);
+        var stateChangeListener = new PostgresStateChangeListener(dataSourceRegistry, extension.getDatasourceName(),
+                statements.getStateChangeChannel(), notifyingStore::notifyStateChange, mock(), 100);
+        stateChangeListener.start();
+
+        try {
+            await().untilAsserted(() -> {
+                notifyingStore.save(createTransferProcess(UUID.randomUUID().toString()));
+                verify(listener, atLeastOnce()).run();
+            });
+        } finally {
+            stateChangeListener.stop();
+        }
+    }
+
+    @Test
+    void save_shouldNotNotifyStateChange_whenNotificationsAreDisabled(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var spiedExecutor = spy(queryExecutor);
+        var nonNotifyingStore = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector", clock, spiedExecutor,
+                LeaseMode.TABLE, false);
+
+        nonNotifyingStore.save(createTransferProcess(UUID.randomUUID().toString()));
+
+        verify(spiedExecutor, never()).execute(any(), eq(statements.getNotifyStateChangeStatement()));
+    }
+
+    @Test
+    void save_shouldIncrementVersion() {
+        var transferProcess = createTransferProcess(UUID.randomUUID().toString());
+        store.save(transferProcess);
+        store.save(transferProcess);
+
+        assertThat(transferProcess.getVersion()).isEqualTo(2);
+        assertThat(store.findById(transferProcess.getId())).extracting(TransferProcess::getVersion).isEqualTo(2L);
+    }
+
+    @Test
+    void save_shouldRestoreVersion_whenTransactionIsRolledBack(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var transactionContext = new LocalTransactionContext(mock());
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSourceRegistry.register(extension.getDatasourceName(), extension.getDataSourceRegistry().resolve(extension.getDatasourceName()));
+        var transactionalStore = new SqlTransferProcessStore(dataSourceRegistry, extension.getDatasourceName(), transactionContext,
+                typeManager.getMapper(), statements, "test-connector", clock, queryExecutor);
+        var transferProcess = createTransferProcess(UUID.randomUUID().toString());
+        transactionalStore.save(transferProcess);
+
+        assertThatThrownBy(() -> transactionContext.execute(() -> {
+            transactionalStore.save(transferProcess);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(EdcException.class);
+
+        assertThat(transferProcess.getVersion()).isEqualTo(1);
+        transactionalStore.save(transferProcess);
+        assertThat(transferProcess.getVersion()).isEqualTo(2);
+        assertThat(transactionalStore.findById(transferProcess.getId())).extracting(TransferProcess::getVersion).isEqualTo(2L);
+    }
+
+    @Test
+    void save_whenModifiedConcurrently_shouldThrowException() {
+        var transferProcess = createTransferProcess(UUID.randomUUID().toString());
+        store.save(transferProcess);
+        var stale = store.findById(transferProcess.getId());
+        store.save(transferProcess);
+
+        assertThatThrownBy(() -> store.save(stale)).isInstanceOf(IllegalStateException.class);
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
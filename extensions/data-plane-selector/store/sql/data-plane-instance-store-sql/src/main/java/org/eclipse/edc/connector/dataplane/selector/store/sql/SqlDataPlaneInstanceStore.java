@@ -103,11 +103,11 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString() + statements.getForUpdateSkipLockedClause(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataPlaneInstance::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -25,6 +25,11 @@ public interface DataPlaneInstanceStatements extends StatefulEntityStatements, L
         return "edc_data_plane_instance";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getDataPlaneInstanceTable();
+    }
+
     default String getIdColumn() {
         return "id";
     }
@@ -17,9 +17,11 @@ package org.eclipse.edc.connector.dataplane.http;
 
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
+import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSink;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.http.spi.EdcHttpClient;
@@ -40,10 +42,24 @@ import org.eclipse.edc.spi.types.TypeManager;
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PARTITION_SIZE = 5;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 0;
+    private static final int DEFAULT_PART_RETRIES = 2;
 
     @Setting(description = "Number of partitions for parallel message push in the HttpDataSink", defaultValue = DEFAULT_PARTITION_SIZE + "", key = "edc.dataplane.http.sink.partition.size")
     private int partitionSize;
 
+    @Setting(description = "Maximum number of parts that a single HttpDataSink sends concurrently through asynchronous requests. 0 means that parts are sent one at a time",
+            defaultValue = DEFAULT_MAX_IN_FLIGHT + "", key = "edc.dataplane.http.sink.max.in.flight")
+    private int maxInFlight;
+
+    @Setting(description = "Number of times the HttpDataSink re-sends a part whose request failed, applies only when 'edc.dataplane.http.sink.max.in.flight' is set",
+            defaultValue = DEFAULT_PART_RETRIES + "", key = "edc.dataplane.http.sink.part.retries")
+    private int partRetries;
+
+    @Setting(description = "Maximum number of bytes of a part that the HttpDataSink keeps in memory to re-send it, larger parts are not retried",
+            defaultValue = HttpDataSink.DEFAULT_RETRY_BUFFER_SIZE + "", key = "edc.dataplane.http.sink.part.retry.buffer.size")
+    private int retryBufferSize;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -53,6 +69,9 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
+    @Inject
+    private ByteBufferPool bufferPool;
+
     @Inject
     private Vault vault;
 
@@ -71,12 +90,14 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var httpRequestFactory = new HttpRequestFactory(bufferPool);
 
         var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, monitor, paramsProvider, httpRequestFactory);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, monitor, paramsProvider,
+                httpRequestFactory, executorContainer.getHostConcurrencyLimiter(), maxInFlight, partRetries, retryBufferSize,
+                executorContainer.getThroughputTracker());
         pipelineService.registerFactory(sinkFactory);
     }
 
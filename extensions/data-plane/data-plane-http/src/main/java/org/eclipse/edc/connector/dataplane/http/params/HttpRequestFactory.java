@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestB
 import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.StringRequestBodySupplier;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,6 +41,16 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final ByteBufferPool bufferPool;
+
+    public HttpRequestFactory() {
+        this(ByteBufferPool.defaultPool());
+    }
+
+    public HttpRequestFactory(ByteBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -63,6 +74,9 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
+        if (!params.isNonChunkedTransfer() && part.mediaType() != null) {
+            return toRequest(params, new ChunkedTransferRequestBody(part, bufferPool));
+        }
         return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
     }
 
@@ -15,6 +15,8 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -24,6 +26,9 @@ import java.util.function.Supplier;
 /**
  * Streams content into an OK HTTP buffered sink in chunks.
  * <p>
+ * When created from a {@link DataSource.Part}, the content is read from the part channel into pooled buffers and
+ * written straight into the sink, so memory usage doesn't depend on the content size.
+ * <p>
  * Due to OkHttp implementation an extra header will be created (no-overridable) Transfer-Encoding with value chunked
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
@@ -31,14 +36,32 @@ import java.util.function.Supplier;
 public class ChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
     private final Supplier<InputStream> bodySupplier;
+    private final DataSource.Part part;
+    private final ByteBufferPool bufferPool;
 
     public ChunkedTransferRequestBody(Supplier<InputStream> bodySupplier, String contentType) {
         super(contentType);
         this.bodySupplier = bodySupplier;
+        this.part = null;
+        this.bufferPool = null;
+    }
+
+    public ChunkedTransferRequestBody(DataSource.Part part, ByteBufferPool bufferPool) {
+        super(part.mediaType());
+        this.bodySupplier = part::openStream;
+        this.part = part;
+        this.bufferPool = bufferPool;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        if (part != null) {
+            try (var channel = part.openChannel()) {
+                bufferPool.transfer(channel, sink);
+            }
+            return;
+        }
+
         try (var os = sink.outputStream(); var is = bodySupplier.get()) {
             is.transferTo(os);
         }
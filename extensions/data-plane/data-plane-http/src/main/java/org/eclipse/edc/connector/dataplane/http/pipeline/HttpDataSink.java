@@ -15,49 +15,296 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferThroughputTracker;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.EdcException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in a streaming fashion to an HTTP endpoint.
+ * <p>
+ * By default, the parts of each partition are sent one at a time. When an in-flight window is configured, parts are
+ * sent asynchronously instead, so that up to that many requests per flow are in progress at the same time over the
+ * keep-alive connections of the http client, without holding a thread while waiting for a free slot or a response.
+ * In this mode a part whose request fails is retried on its own, provided that its content fits in the retry buffer,
+ * as the stream of a part can be read only once.
+ * <p>
+ * In both modes the requests are subject to the concurrency limit of the destination host, and the parts, bytes and
+ * retries of the flow are recorded by the {@link TransferThroughputTracker}.
  */
 public class HttpDataSink extends ParallelSink {
+    public static final int DEFAULT_RETRY_BUFFER_SIZE = 1024 * 1024;
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
 
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int maxInFlight;
+    private int partRetries;
+    private int retryBufferSize = DEFAULT_RETRY_BUFFER_SIZE;
+    private InFlightWindow inFlightWindow;
+    private TransferThroughputTracker throughputTracker = new TransferThroughputTracker();
+    private TransferThroughputTracker.Flow flow;
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        flow = throughputTracker.startFlow(requestId);
+        return super.transfer(source);
+    }
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source, TransferCheckpoint checkpoint) {
+        flow = throughputTracker.startFlow(requestId);
+        return super.transfer(source, checkpoint);
+    }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
             var request = requestFactory.toRequest(params, part);
-            try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
+            var result = hostConcurrencyLimiter.execute(request.url().host(), () -> send(request, part));
+            if (result.failed()) {
+                return result;
+            }
+            flow.partSent(part.size());
+        }
+        return StreamResult.success();
+    }
+
+    @Override
+    protected StreamResult<Object> complete() {
+        flow.completed();
+        return super.complete();
+    }
+
+    @Override
+    protected CompletableFuture<StreamResult<Object>> transferPartsAsync(List<DataSource.Part> parts) {
+        if (inFlightWindow == null) {
+            return super.transferPartsAsync(parts);
+        }
+
+        return parts.stream()
+                .map(part -> inFlightWindow.submit(() -> sendAsync(part)))
+                .collect(asyncAllOf())
+                .thenApply(results -> results.stream()
+                        .filter(StreamResult::failed)
+                        .findFirst()
+                        .orElseGet(StreamResult::success));
+    }
+
+    private CompletableFuture<StreamResult<Object>> sendAsync(DataSource.Part part) {
+        if (partRetries <= 0) {
+            return sendAsync(part, 0);
+        }
+
+        return supplyAsync(() -> buffer(part), executorService)
+                .thenCompose(buffered -> sendAsync(buffered, buffered instanceof BufferedPart ? partRetries : 0))
+                .exceptionally(throwable -> {
+                    monitor.severe(format("Error reading HTTP data %s", part.name()), throwable);
                     return ERROR_WRITING_DATA;
-                }
-            } catch (Exception e) {
-                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+                });
+    }
+
+    private CompletableFuture<StreamResult<Object>> sendAsync(DataSource.Part part, int retriesLeft) {
+        Request request;
+        try {
+            request = requestFactory.toRequest(params, part);
+        } catch (Exception e) {
+            monitor.severe(format("Error creating request for HTTP data %s", part.name()), e);
+            return completedFuture(ERROR_WRITING_DATA);
+        }
+
+        return hostConcurrencyLimiter.executeAsync(request.url().host(), () -> httpClient.executeAsync(request, emptyList()))
+                .handle((response, throwable) -> outcome(request, part, response, throwable))
+                .thenCompose(outcome -> switch (outcome) {
+                    case SUCCESS -> {
+                        flow.partSent(part.size());
+                        yield completedFuture(StreamResult.success());
+                    }
+                    case RETRY -> {
+                        if (retriesLeft > 0) {
+                            flow.partRetried();
+                            yield sendAsync(part, retriesLeft - 1);
+                        }
+                        yield completedFuture(ERROR_WRITING_DATA);
+                    }
+                    case FAILURE -> completedFuture(ERROR_WRITING_DATA);
+                });
+    }
+
+    /**
+     * Reads the part content in memory if it fits in the retry buffer, so that it can be sent again. Otherwise, the
+     * part gets sent once, starting with the content that has already been read.
+     */
+    private DataSource.Part buffer(DataSource.Part part) {
+        var stream = part.openStream();
+        try {
+            var content = stream.readNBytes(retryBufferSize + 1);
+            if (content.length <= retryBufferSize) {
+                stream.close();
+                return new BufferedPart(part.name(), part.mediaType(), content);
+            }
+            return new ResumedPart(part, new SequenceInputStream(new ByteArrayInputStream(content), stream));
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private Outcome outcome(Request request, DataSource.Part part, Response response, Throwable throwable) {
+        if (throwable != null) {
+            monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), throwable);
+            return Outcome.RETRY;
+        }
+
+        try (response) {
+            if (response.isSuccessful()) {
+                return Outcome.SUCCESS;
+            }
+            monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                    response.code(), response.message(), part.name(), request.url().url(), request));
+            return response.code() >= 400 && response.code() < 500 ? Outcome.FAILURE : Outcome.RETRY;
+        }
+    }
+
+    private StreamResult<Object> send(Request request, DataSource.Part part) {
+        try (var response = httpClient.execute(request)) {
+            if (!response.isSuccessful()) {
+                monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                        response.code(), response.message(), part.name(), request.url().url(), request));
                 return ERROR_WRITING_DATA;
             }
+            return StreamResult.success();
+        } catch (Exception e) {
+            monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+            return ERROR_WRITING_DATA;
         }
-        return StreamResult.success();
     }
 
     private HttpDataSink() {
     }
 
+    private enum Outcome {
+        SUCCESS, RETRY, FAILURE
+    }
+
+    /**
+     * Part whose content has been read in memory, that can be opened any number of times.
+     */
+    private record BufferedPart(String name, String mediaType, byte[] content) implements DataSource.Part {
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+
+    /**
+     * Part whose stream has already been opened.
+     */
+    private record ResumedPart(DataSource.Part part, InputStream stream) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return stream;
+        }
+    }
+
+    /**
+     * Bounds the number of requests in progress. Sends that exceed the bound are queued and started by the completion
+     * of a running one, so that no thread waits for a free slot.
+     */
+    private static class InFlightWindow {
+
+        private final Semaphore slots;
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+        InFlightWindow(int size) {
+            slots = new Semaphore(size);
+        }
+
+        CompletableFuture<StreamResult<Object>> submit(Supplier<CompletableFuture<StreamResult<Object>>> send) {
+            var result = new CompletableFuture<StreamResult<Object>>();
+            waiting.add(() -> {
+                CompletableFuture<StreamResult<Object>> sent;
+                try {
+                    sent = send.get();
+                } catch (Exception e) {
+                    sent = CompletableFuture.failedFuture(e);
+                }
+                sent.whenComplete((r, throwable) -> {
+                    slots.release();
+                    drain();
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(r);
+                    }
+                });
+            });
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            while (slots.tryAcquire()) {
+                var next = waiting.poll();
+                if (next == null) {
+                    slots.release();
+                    if (waiting.isEmpty()) {
+                        return;
+                    }
+                } else {
+                    next.run();
+                }
+            }
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, HttpDataSink> {
 
         public static Builder newInstance() {
@@ -83,9 +330,44 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Maximum number of parts sent concurrently by the flow, 0 or less means that parts are sent one at a time.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            sink.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Number of times a part is re-sent when its request fails, applies only when an in-flight window is set.
+         */
+        public Builder partRetries(int partRetries) {
+            sink.partRetries = partRetries;
+            return this;
+        }
+
+        /**
+         * Maximum number of bytes of a part that are kept in memory to re-send it, larger parts are sent only once.
+         */
+        public Builder retryBufferSize(int retryBufferSize) {
+            sink.retryBufferSize = retryBufferSize;
+            return this;
+        }
+
+        /**
+         * Tracker that records the throughput of the flow.
+         */
+        public Builder throughputTracker(TransferThroughputTracker throughputTracker) {
+            sink.throughputTracker = throughputTracker;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
+            if (sink.maxInFlight > 0) {
+                sink.inFlightWindow = new InFlightWindow(sink.maxInFlight);
+            }
         }
     }
 }
@@ -19,6 +19,8 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferThroughputTracker;
 import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -40,18 +42,67 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final HostConcurrencyLimiter hostConcurrencyLimiter;
+    private final int maxInFlight;
+    private final int partRetries;
+    private final int retryBufferSize;
+    private final TransferThroughputTracker throughputTracker;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, HostConcurrencyLimiter.unlimited());
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               HostConcurrencyLimiter hostConcurrencyLimiter) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, hostConcurrencyLimiter, 0, 0);
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               HostConcurrencyLimiter hostConcurrencyLimiter, int maxInFlight, int partRetries) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, hostConcurrencyLimiter, maxInFlight, partRetries,
+                HttpDataSink.DEFAULT_RETRY_BUFFER_SIZE);
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               HostConcurrencyLimiter hostConcurrencyLimiter, int maxInFlight, int partRetries, int retryBufferSize) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, hostConcurrencyLimiter, maxInFlight, partRetries,
+                retryBufferSize, new TransferThroughputTracker());
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               HostConcurrencyLimiter hostConcurrencyLimiter, int maxInFlight, int partRetries, int retryBufferSize,
+                               TransferThroughputTracker throughputTracker) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
+        this.hostConcurrencyLimiter = hostConcurrencyLimiter;
+        this.maxInFlight = maxInFlight;
+        this.partRetries = partRetries;
+        this.throughputTracker = throughputTracker;
+        this.retryBufferSize = retryBufferSize;
     }
 
     @Override
@@ -77,8 +128,13 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .partitionSize(partitionSize)
                 .httpClient(httpClient)
                 .executorService(executorService)
+                .hostConcurrencyLimiter(hostConcurrencyLimiter)
                 .monitor(monitor)
                 .requestFactory(requestFactory)
+                .maxInFlight(maxInFlight)
+                .partRetries(partRetries)
+                .retryBufferSize(retryBufferSize)
+                .throughputTracker(throughputTracker)
                 .build();
     }
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -48,6 +49,7 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private TransferCheckpoint checkpoint = new TransferCheckpoint();
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
 
     private HttpDataSource() {
@@ -55,6 +57,11 @@ public class HttpDataSource implements DataSource {
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
+        if (name != null && checkpoint.isCompleted(name)) {
+            monitor.debug(() -> "HTTP data %s already transferred for request %s, skipping".formatted(name, requestId));
+            return success(Stream.empty());
+        }
+
         var request = requestFactory.toRequest(params);
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
@@ -68,7 +75,8 @@ public class HttpDataSource implements DataSource {
                 var stream = body.byteStream();
                 responseBodyStream.set(new ResponseBodyStream(body, stream));
                 var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
-                return success(Stream.of(new HttpPart(name, stream, mediaType)));
+                // the body source is the buffer behind the byte stream, reading through it avoids intermediate copies
+                return success(Stream.of(new HttpPart(name, stream, mediaType, body.source())));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -150,6 +158,11 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        public Builder checkpoint(TransferCheckpoint checkpoint) {
+            dataSource.checkpoint = checkpoint;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
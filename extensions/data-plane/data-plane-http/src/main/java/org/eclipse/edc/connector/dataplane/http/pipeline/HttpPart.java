@@ -15,10 +15,22 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 
-public record HttpPart(String name, InputStream content, String mediaType) implements DataSource.Part {
+/**
+ * Part of an HTTP response body. The content can be read either as a stream or, without intermediate copies, through
+ * the channel given by the response body source.
+ */
+public record HttpPart(String name, InputStream content, String mediaType, @Nullable ReadableByteChannel channel) implements DataSource.Part {
+
+    public HttpPart(String name, InputStream content, String mediaType) {
+        this(name, content, mediaType, null);
+    }
 
     @Override
     public long size() {
@@ -30,8 +42,25 @@ public record HttpPart(String name, InputStream content, String mediaType) imple
         return content;
     }
 
+    @Override
+    public ReadableByteChannel openChannel() {
+        return channel != null ? channel : Channels.newChannel(content);
+    }
+
     @Override
     public String mediaType() {
         return mediaType;
     }
+
+    @Override
+    public void commit(TransferCheckpoint checkpoint) {
+        if (name != null) {
+            checkpoint.complete(name);
+        }
+    }
+
+    @Override
+    public boolean isCommitted(TransferCheckpoint checkpoint) {
+        return name != null && checkpoint.isCompleted(name);
+    }
 }
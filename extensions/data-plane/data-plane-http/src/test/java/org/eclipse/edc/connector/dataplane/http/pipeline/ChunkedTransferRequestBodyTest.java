@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okio.Buffer;
 import okio.BufferedSink;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
@@ -41,4 +43,17 @@ class ChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString(content);
     }
+
+    @Test
+    void verifyStreamingTransfer_fromPartChannel() throws IOException {
+        var content = "Test content that is longer than the buffer";
+        var sink = new Buffer();
+        var part = new HttpPart("test", new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM);
+
+        var body = new ChunkedTransferRequestBody(part, new ByteBufferPool(8, false, 1));
+        body.writeTo(sink);
+
+        assertThat(body.contentType()).hasToString(HttpDataAddress.OCTET_STREAM);
+        assertThat(sink.readUtf8()).isEqualTo(content);
+    }
 }
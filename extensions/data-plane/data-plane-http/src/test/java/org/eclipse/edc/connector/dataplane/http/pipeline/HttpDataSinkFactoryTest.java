@@ -22,7 +22,10 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferThroughputTracker;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -32,12 +35,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -45,7 +51,11 @@ import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions.createHttpResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpDataSinkFactoryTest {
@@ -127,6 +137,129 @@ class HttpDataSinkFactoryTest {
                 .satisfies(result -> assertThat(result.succeeded()).isTrue());
     }
 
+    @Test
+    void verifyPipelinedTransfer_shouldRetryFailedPart() {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl("http://some.base.url")
+                .method(HttpMethod.POST.name())
+                .contentType("application/json")
+                .build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("connection reset")))
+                .thenReturn(CompletableFuture.completedFuture(createHttpResponse().build()));
+        var pipelinedFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory,
+                HostConcurrencyLimiter.unlimited(), 4, 1);
+
+        var sink = pipelinedFactory.createSink(request);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+        verify(httpClient, times(2)).executeAsync(isA(Request.class), anyList());
+        var parts = ArgumentCaptor.forClass(DataSource.Part.class);
+        verify(requestFactory, times(2)).toRequest(any(), parts.capture());
+        assertThat(parts.getAllValues()).extracting(this::readContent).containsExactly("test", "test");
+    }
+
+    @Test
+    void verifyPipelinedTransfer_shouldApplyHostLimitAndRecordThroughput() {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl("http://some.base.url")
+                .method(HttpMethod.POST.name())
+                .contentType("application/json")
+                .build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("connection reset")))
+                .thenReturn(CompletableFuture.completedFuture(createHttpResponse().build()));
+        var limiter = new HostConcurrencyLimiter(1);
+        var limitedHosts = new ArrayList<String>();
+        limiter.onNewHost(limitedHosts::add);
+        var tracker = new TransferThroughputTracker();
+        var completedFlows = new ArrayList<TransferThroughputTracker.FlowThroughput>();
+        tracker.onFlowCompleted(completedFlows::add);
+        var pipelinedFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory,
+                limiter, 4, 1, HttpDataSink.DEFAULT_RETRY_BUFFER_SIZE, tracker);
+
+        var sink = pipelinedFactory.createSink(request);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+        assertThat(limitedHosts).contains("any");
+        assertThat(limiter.getHosts()).isEmpty();
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(tracker.getParts()).isEqualTo(1);
+        assertThat(tracker.getRetriedParts()).isEqualTo(1);
+        assertThat(tracker.getBytes()).isEqualTo(4);
+        assertThat(completedFlows).singleElement().satisfies(flow -> {
+            assertThat(flow.flowId()).isEqualTo(request.getId());
+            assertThat(flow.parts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void verifyPipelinedTransfer_shouldNotRetryPart_whenItExceedsRetryBuffer() {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl("http://some.base.url")
+                .method(HttpMethod.POST.name())
+                .contentType("application/json")
+                .build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("connection reset")));
+        var pipelinedFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory,
+                HostConcurrencyLimiter.unlimited(), 4, 2, 2);
+
+        var sink = pipelinedFactory.createSink(request);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.failed()).isTrue());
+        verify(httpClient, times(1)).executeAsync(isA(Request.class), anyList());
+        var part = ArgumentCaptor.forClass(DataSource.Part.class);
+        verify(requestFactory).toRequest(any(), part.capture());
+        assertThat(readContent(part.getValue())).isEqualTo("test");
+    }
+
+    @Test
+    void verifyPipelinedTransfer_shouldFail_whenRetriesExhausted() {
+        var address = HttpDataAddress.Builder.newInstance().build();
+        var request = createRequest(address);
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl("http://some.base.url")
+                .method(HttpMethod.POST.name())
+                .contentType("application/json")
+                .build();
+        when(provider.provideSinkParams(request)).thenReturn(params);
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenAnswer(i -> CompletableFuture.completedFuture(createHttpResponse().code(503).build()));
+        var pipelinedFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory,
+                HostConcurrencyLimiter.unlimited(), 4, 2);
+
+        var sink = pipelinedFactory.createSink(request);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.failed()).isTrue());
+        verify(httpClient, times(3)).executeAsync(isA(Request.class), anyList());
+    }
+
     private DataFlowStartMessage createRequest(DataAddress destination) {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
@@ -136,6 +269,14 @@ class HttpDataSinkFactoryTest {
                 .build();
     }
 
+    private String readContent(DataSource.Part part) {
+        try (var stream = part.openStream()) {
+            return new String(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private Request createHttpRequest() {
         return new Request.Builder()
                 .url(Objects.requireNonNull(HttpUrl.parse("http://any")))
@@ -22,6 +22,7 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -49,6 +51,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class HttpDataSourceTest {
@@ -107,6 +110,32 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Test
+    void openPartStream_shouldNotCallEndpoint_whenCheckpointMarksPartAsCompleted() {
+        var interceptor = new CustomInterceptor(200, ResponseBody.create("{}", MediaType.parse("application/json")), "Test message");
+        var checkpoint = new TransferCheckpoint(Map.of("test-name", TransferCheckpoint.COMPLETED));
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).checkpoint(checkpoint).build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).isEmpty();
+        verifyNoInteractions(requestFactory);
+    }
+
+    @Test
+    void part_shouldBeCommittedIntoCheckpoint() {
+        var interceptor = new CustomInterceptor(200, ResponseBody.create("{}", MediaType.parse("application/json")), "Test message");
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+        var checkpoint = new TransferCheckpoint();
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+        part.commit(checkpoint);
+
+        assertThat(part.isCommitted(checkpoint)).isTrue();
+        assertThat(checkpoint.isCompleted("test-name")).isTrue();
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
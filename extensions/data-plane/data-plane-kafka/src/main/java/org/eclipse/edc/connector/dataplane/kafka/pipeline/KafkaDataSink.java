@@ -24,6 +24,8 @@ import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -53,9 +55,9 @@ class KafkaDataSink extends ParallelSink implements Closeable {
     }
 
     private StreamResult<Object> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
+        try {
             // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
+            producer.send(new ProducerRecord<>(topic, null, readContent(part)), (metadata, exception) -> {
                 if (exception != null) {
                     monitor.warning("Failed to publish message:  " + metadata, exception);
                 }
@@ -66,6 +68,28 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
     }
 
+    /**
+     * The producer retains the record value until it is sent, so the content needs to be copied into an array that is
+     * not reused. When the part size is known, the content is read once into an array of the exact size, instead of
+     * going through the growing buffers of {@link java.io.InputStream#readAllBytes()}.
+     */
+    private byte[] readContent(DataSource.Part part) throws IOException {
+        var size = part.size();
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            try (var is = part.openStream()) {
+                return is.readAllBytes();
+            }
+        }
+
+        var content = ByteBuffer.allocate((int) size);
+        try (var channel = part.openChannel()) {
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // keep reading until the buffer is full or the channel is exhausted
+            }
+        }
+        return content.hasRemaining() ? Arrays.copyOf(content.array(), content.position()) : content.array();
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
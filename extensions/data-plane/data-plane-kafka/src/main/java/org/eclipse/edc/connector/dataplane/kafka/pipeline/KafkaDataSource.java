@@ -15,11 +15,14 @@
 package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,6 +31,7 @@ import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -78,6 +82,7 @@ class KafkaDataSource implements DataSource {
 
         private Properties consumerProperties;
         private String topic;
+        private TransferCheckpoint checkpoint = new TransferCheckpoint();
         private final KafkaDataSource dataSource;
 
         public static Builder newInstance() {
@@ -119,6 +124,15 @@ class KafkaDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Checkpoint of a previous transfer, the consumption of every topic partition recorded in it resumes from the
+         * offset following the last transferred record.
+         */
+        public Builder checkpoint(TransferCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
@@ -127,7 +141,7 @@ class KafkaDataSource implements DataSource {
             Objects.requireNonNull(dataSource.clock, "clock");
 
             dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
+            dataSource.consumer.subscribe(List.of(topic), new SeekToCheckpoint(dataSource.consumer, checkpoint));
 
             return dataSource;
         }
@@ -137,6 +151,24 @@ class KafkaDataSource implements DataSource {
         }
     }
 
+    private record SeekToCheckpoint(Consumer<String, byte[]> consumer, TransferCheckpoint checkpoint) implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            for (var partition : partitions) {
+                var position = checkpoint.getPosition(partition.toString());
+                if (position != null) {
+                    consumer.seek(partition, position);
+                }
+            }
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            // nothing to do
+        }
+    }
+
     private class KafkaPart implements Part {
 
         private final ConsumerRecord<String, byte[]> consumerRecord;
@@ -150,10 +182,30 @@ class KafkaDataSource implements DataSource {
             return name;
         }
 
+        @Override
+        public long size() {
+            return consumerRecord.value() == null ? 0 : consumerRecord.value().length;
+        }
+
         @Override
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public void commit(TransferCheckpoint checkpoint) {
+            checkpoint.record(checkpointKey(), consumerRecord.offset() + 1);
+        }
+
+        @Override
+        public boolean isCommitted(TransferCheckpoint checkpoint) {
+            var position = checkpoint.getPosition(checkpointKey());
+            return position != null && consumerRecord.offset() < position;
+        }
+
+        private String checkpointKey() {
+            return new TopicPartition(consumerRecord.topic(), consumerRecord.partition()).toString();
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
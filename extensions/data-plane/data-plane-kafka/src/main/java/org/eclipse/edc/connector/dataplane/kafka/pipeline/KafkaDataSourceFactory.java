@@ -18,6 +18,7 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.eclipse.edc.connector.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -67,6 +68,11 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
 
     @Override
     public DataSource createSource(DataFlowStartMessage request) {
+        return createSource(request, new TransferCheckpoint());
+    }
+
+    @Override
+    public DataSource createSource(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
         var validationResult = validateRequest(request);
         if (validationResult.failed()) {
             throw new EdcException(validationResult.getFailureDetail());
@@ -98,6 +104,7 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .checkpoint(checkpoint)
                 .build();
     }
 }
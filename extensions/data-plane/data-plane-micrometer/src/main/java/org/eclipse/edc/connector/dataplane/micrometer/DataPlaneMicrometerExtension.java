@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that publishes the data plane transfer concurrency and throughput as Micrometer metrics.
+ */
+@Extension(value = DataPlaneMicrometerExtension.NAME)
+public class DataPlaneMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_DATAPLANE_METRICS = "edc.metrics.dataplane.enabled";
+    public static final String NAME = "Data Plane Micrometer Metrics";
+
+    @Inject
+    private DataTransferExecutorServiceContainer executorServiceContainer;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableDataPlaneMetrics = context.getSetting(ENABLE_DATAPLANE_METRICS, true);
+
+        if (enableMetrics && enableDataPlaneMetrics) {
+            new HostConcurrencyMetrics(executorServiceContainer.getHostConcurrencyLimiter()).bindTo(meterRegistry);
+            new TransferThroughputMetrics(executorServiceContainer.getThroughputTracker()).bindTo(meterRegistry);
+        }
+    }
+}
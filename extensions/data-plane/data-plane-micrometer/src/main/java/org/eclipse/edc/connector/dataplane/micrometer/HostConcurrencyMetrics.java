@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binds the in-flight and queued transfer operations tracked by a {@link HostConcurrencyLimiter} as gauges, in total
+ * and per destination host. The per-host gauges are registered when an operation runs against a host that is not
+ * tracked and removed when the limiter evicts the host.
+ */
+public class HostConcurrencyMetrics implements MeterBinder {
+
+    public static final String IN_FLIGHT = "edc.dataplane.transfer.inflight";
+    public static final String QUEUED = "edc.dataplane.transfer.queued";
+    public static final String HOST_IN_FLIGHT = "edc.dataplane.transfer.host.inflight";
+    public static final String HOST_QUEUED = "edc.dataplane.transfer.host.queued";
+    public static final String HOST_TAG = "host";
+
+    private final HostConcurrencyLimiter limiter;
+
+    public HostConcurrencyMetrics(HostConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        Gauge.builder(IN_FLIGHT, limiter, HostConcurrencyLimiter::getInFlight)
+                .description("Number of data transfer operations currently running")
+                .register(registry);
+        Gauge.builder(QUEUED, limiter, HostConcurrencyLimiter::getQueued)
+                .description("Number of data transfer operations waiting for the concurrency limit of their host")
+                .register(registry);
+
+        limiter.onNewHost(host -> {
+            Gauge.builder(HOST_IN_FLIGHT, limiter, it -> it.getInFlight(host))
+                    .description("Number of data transfer operations currently running against the host")
+                    .tag(HOST_TAG, host)
+                    .register(registry);
+            Gauge.builder(HOST_QUEUED, limiter, it -> it.getQueued(host))
+                    .description("Number of data transfer operations waiting for the concurrency limit of the host")
+                    .tag(HOST_TAG, host)
+                    .register(registry);
+        });
+        limiter.onHostRemoved(host -> {
+            registry.find(HOST_IN_FLIGHT).tag(HOST_TAG, host).meters().forEach(registry::remove);
+            registry.find(HOST_QUEUED).tag(HOST_TAG, host).meters().forEach(registry::remove);
+        });
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferThroughputTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binds the parts, bytes and retries recorded by a {@link TransferThroughputTracker} as counters, and the duration
+ * and throughput of every completed data flow as distributions.
+ */
+public class TransferThroughputMetrics implements MeterBinder {
+
+    public static final String PARTS = "edc.dataplane.transfer.parts";
+    public static final String RETRIED_PARTS = "edc.dataplane.transfer.parts.retried";
+    public static final String BYTES = "edc.dataplane.transfer.bytes";
+    public static final String FLOW_DURATION = "edc.dataplane.transfer.flow.duration";
+    public static final String FLOW_THROUGHPUT = "edc.dataplane.transfer.flow.throughput";
+
+    private final TransferThroughputTracker tracker;
+
+    public TransferThroughputMetrics(TransferThroughputTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        FunctionCounter.builder(PARTS, tracker, TransferThroughputTracker::getParts)
+                .description("Number of parts sent by the data flows")
+                .register(registry);
+        FunctionCounter.builder(RETRIED_PARTS, tracker, TransferThroughputTracker::getRetriedParts)
+                .description("Number of parts re-sent by the data flows because their request failed")
+                .register(registry);
+        FunctionCounter.builder(BYTES, tracker, TransferThroughputTracker::getBytes)
+                .description("Number of bytes sent by the data flows")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+
+        var duration = Timer.builder(FLOW_DURATION)
+                .description("Time taken by each completed data flow")
+                .register(registry);
+        var throughput = DistributionSummary.builder(FLOW_THROUGHPUT)
+                .description("Bytes sent per second by each completed data flow")
+                .baseUnit("bytes/s")
+                .register(registry);
+
+        tracker.onFlowCompleted(flow -> {
+            duration.record(flow.duration());
+            throughput.record(flow.bytesPerSecond());
+        });
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.HostConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.micrometer.HostConcurrencyMetrics.HOST_IN_FLIGHT;
+import static org.eclipse.edc.connector.dataplane.micrometer.HostConcurrencyMetrics.HOST_QUEUED;
+import static org.eclipse.edc.connector.dataplane.micrometer.HostConcurrencyMetrics.HOST_TAG;
+import static org.eclipse.edc.connector.dataplane.micrometer.HostConcurrencyMetrics.IN_FLIGHT;
+import static org.eclipse.edc.connector.dataplane.micrometer.HostConcurrencyMetrics.QUEUED;
+
+class HostConcurrencyMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+
+    @Test
+    void shouldPublishTotalAndPerHostCounts() {
+        var known = new CompletableFuture<Boolean>();
+        limiter.executeAsync("known", () -> known);
+        new HostConcurrencyMetrics(limiter).bindTo(registry);
+
+        var observed = limiter.execute("host", () -> new double[]{
+                registry.get(IN_FLIGHT).gauge().value(),
+                registry.get(HOST_IN_FLIGHT).tag(HOST_TAG, "host").gauge().value(),
+                registry.get(HOST_IN_FLIGHT).tag(HOST_TAG, "known").gauge().value()
+        });
+
+        assertThat(observed).containsExactly(2, 1, 1);
+        assertThat(registry.get(QUEUED).gauge().value()).isZero();
+        assertThat(registry.get(HOST_QUEUED).tag(HOST_TAG, "known").gauge().value()).isZero();
+        known.complete(true);
+        assertThat(registry.get(IN_FLIGHT).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRemovePerHostGauges_whenHostIsEvicted() {
+        new HostConcurrencyMetrics(limiter).bindTo(registry);
+        var pending = new CompletableFuture<Boolean>();
+        limiter.executeAsync("host", () -> pending);
+
+        assertThat(registry.find(HOST_IN_FLIGHT).tag(HOST_TAG, "host").gauge()).isNotNull();
+        assertThat(registry.find(HOST_QUEUED).tag(HOST_TAG, "host").gauge()).isNotNull();
+
+        pending.complete(true);
+
+        assertThat(registry.find(HOST_IN_FLIGHT).tag(HOST_TAG, "host").gauge()).isNull();
+        assertThat(registry.find(HOST_QUEUED).tag(HOST_TAG, "host").gauge()).isNull();
+        assertThat(registry.get(IN_FLIGHT).gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferThroughputTracker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.micrometer.TransferThroughputMetrics.BYTES;
+import static org.eclipse.edc.connector.dataplane.micrometer.TransferThroughputMetrics.FLOW_DURATION;
+import static org.eclipse.edc.connector.dataplane.micrometer.TransferThroughputMetrics.FLOW_THROUGHPUT;
+import static org.eclipse.edc.connector.dataplane.micrometer.TransferThroughputMetrics.PARTS;
+import static org.eclipse.edc.connector.dataplane.micrometer.TransferThroughputMetrics.RETRIED_PARTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransferThroughputMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Clock clock = mock();
+    private final TransferThroughputTracker tracker = new TransferThroughputTracker(clock);
+
+    @Test
+    void shouldPublishCountersAndFlowThroughput() {
+        new TransferThroughputMetrics(tracker).bindTo(registry);
+        when(clock.millis()).thenReturn(0L, 2000L);
+
+        var flow = tracker.startFlow("flow-id");
+        flow.partSent(1000);
+        flow.partRetried();
+        flow.partSent(3000);
+        flow.completed();
+
+        assertThat(registry.get(PARTS).functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(RETRIED_PARTS).functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(BYTES).functionCounter().count()).isEqualTo(4000);
+        assertThat(registry.get(FLOW_DURATION).timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+        assertThat(registry.get(FLOW_THROUGHPUT).summary().max()).isEqualTo(2000);
+    }
+}
@@ -18,7 +18,10 @@ import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiV2Co
 import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.executor.TransferExecutors;
+import org.eclipse.edc.connector.dataplane.util.executor.TransferThreadMode;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -33,8 +36,6 @@ import org.eclipse.edc.web.spi.configuration.ApiContext;
 import org.eclipse.edc.web.spi.configuration.PortMapping;
 import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
-import java.util.concurrent.Executors;
-
 /**
  * This extension provides generic endpoints which are open to public participants of the Dataspace to execute
  * requests on the actual data source.
@@ -61,6 +62,14 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
 
     private static final int DEFAULT_THREAD_POOL = 10;
 
+    @Setting(description = "Number of threads that stream the data to the public API clients. With virtual threads it's the maximum number of concurrent streams, the exceeding ones are queued",
+            defaultValue = DEFAULT_THREAD_POOL + "", key = "edc.dataplane.api.public.transfer.threads")
+    private int transferThreads;
+
+    @Setting(description = "The kind of threads that stream the data to the public API clients: PLATFORM uses a fixed thread pool, VIRTUAL runs every stream on its own virtual thread (requires Java 21, falls back to PLATFORM otherwise).",
+            defaultValue = "PLATFORM", key = "edc.dataplane.api.public.transfer.thread.mode")
+    private String transferThreadMode;
+
     @Configuration
     private PublicApiConfiguration apiConfiguration;
     @Inject
@@ -77,6 +86,8 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     private PublicEndpointGeneratorService generatorService;
     @Inject
     private Hostname hostname;
+    @Inject
+    private ByteBufferPool bufferPool;
 
     @Override
     public String name() {
@@ -91,7 +102,8 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
         var portMapping = new PortMapping(ApiContext.PUBLIC, apiConfiguration.port(), apiConfiguration.path());
         portMappingRegistry.register(portMapping);
         var executorService = executorInstrumentation.instrument(
-                Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
+                TransferExecutors.newTransferExecutor(TransferThreadMode.from(transferThreadMode), transferThreads,
+                        "data-plane-proxy-transfer", context.getMonitor()),
                 "Data plane proxy transfers"
         );
 
@@ -106,7 +118,7 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
             generatorService.addGeneratorFunction("HttpData", () -> Endpoint.url(publicApiResponseUrl));
         }
 
-        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService);
+        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService, bufferPool);
         webService.registerResource(ApiContext.PUBLIC, publicApiController);
     }
 
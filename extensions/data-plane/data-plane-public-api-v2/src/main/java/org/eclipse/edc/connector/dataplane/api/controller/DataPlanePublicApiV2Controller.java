@@ -31,6 +31,7 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ByteBufferPool;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
@@ -57,14 +58,23 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
     private final DataFlowRequestSupplier requestSupplier;
     private final ExecutorService executorService;
     private final DataPlaneAuthorizationService authorizationService;
+    private final ByteBufferPool bufferPool;
 
     public DataPlanePublicApiV2Controller(PipelineService pipelineService,
                                           ExecutorService executorService,
                                           DataPlaneAuthorizationService authorizationService) {
+        this(pipelineService, executorService, authorizationService, null);
+    }
+
+    public DataPlanePublicApiV2Controller(PipelineService pipelineService,
+                                          ExecutorService executorService,
+                                          DataPlaneAuthorizationService authorizationService,
+                                          ByteBufferPool bufferPool) {
         this.pipelineService = pipelineService;
         this.authorizationService = authorizationService;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.executorService = executorService;
+        this.bufferPool = bufferPool;
     }
 
     private static Response error(Response.Status status, List<String> errors) {
@@ -168,7 +178,7 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
             return response.resume(resp);
         };
 
-        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService);
+        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService, bufferPool);
 
         pipelineService.transfer(dataFlowStartMessage, sink)
                 .whenComplete((result, throwable) -> {
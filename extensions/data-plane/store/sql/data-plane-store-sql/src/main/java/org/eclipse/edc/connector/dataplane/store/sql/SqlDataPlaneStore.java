@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.store.sql;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
@@ -26,7 +27,9 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.spi.types.domain.transfer.TransferType;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.lease.VersionRollback;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -39,7 +42,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -52,6 +57,9 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
  */
 public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStore {
 
+    private static final TypeReference<Map<String, Long>> CHECKPOINT_TYPE = new TypeReference<>() {
+    };
+
     private final DataFlowStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
@@ -60,11 +68,19 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                              DataFlowStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
                              String leaseHolderName) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, statements, objectMapper, clock, queryExecutor,
+                leaseHolderName, LeaseMode.TABLE);
+    }
+
+    public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                             DataFlowStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
+                             String leaseHolderName, LeaseMode leaseMode) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
         this.leaseHolderName = leaseHolderName;
-        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor)
+                .mode(leaseMode);
     }
 
     @Override
@@ -78,21 +94,32 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public @Nullable Integer findStateById(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, resultSet -> resultSet.getInt(1), statements.getSelectStateByIdTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull List<DataFlow> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(leaseContext.getNotLeasedFilter(), clock.millis());
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString() + statements.getForUpdateSkipLockedClause(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataFlow::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -122,12 +149,19 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
+                var upsertStatement = statements.getUpsertTemplate();
+                if (upsertStatement != null) {
+                    var version = leaseContext.by(leaseHolderName).withConnection(connection)
+                            .upsertReleasingLease(entity.getId(), upsertStatement, entity.getVersion(), insertArguments(entity));
+                    VersionRollback.apply(transactionContext, entity, version);
                 } else {
-                    insert(connection, entity);
+                    var existing = findByIdInternal(connection, entity.getId());
+                    if (existing != null) {
+                        leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
+                        update(connection, entity);
+                    } else {
+                        insert(connection, entity);
+                    }
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -135,10 +169,18 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public void saveAll(Collection<DataFlow> entities) {
+        transactionContext.execute(() -> entities.forEach(this::save));
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
-                dataFlow.getId(),
+        queryExecutor.execute(connection, sql, insertArguments(dataFlow));
+    }
+
+    private Object[] insertArguments(DataFlow dataFlow) {
+        return new Object[]{ dataFlow.getId(),
                 dataFlow.getState(),
                 dataFlow.getCreatedAt(),
                 dataFlow.getUpdatedAt(),
@@ -152,8 +194,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getProperties()),
                 dataFlow.getTransferType().flowType().toString(),
                 dataFlow.getTransferType().destinationType(),
-                dataFlow.getRuntimeId()
-        );
+                dataFlow.getRuntimeId(),
+                toJson(dataFlow.getCheckpoint()) };
     }
 
     private void update(Connection connection, DataFlow dataFlow) {
@@ -172,6 +214,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.getTransferType().flowType().toString(),
                 dataFlow.getTransferType().destinationType(),
                 dataFlow.getRuntimeId(),
+                toJson(dataFlow.getCheckpoint()),
                 dataFlow.getId());
     }
 
@@ -183,6 +226,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .version(resultSet.getLong(statements.getVersionColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .callbackAddress(Optional.ofNullable(resultSet.getString(statements.getCallbackAddressColumn())).map(URI::create).orElse(null))
@@ -194,6 +238,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                         FlowType.valueOf(resultSet.getString(statements.getFlowTypeColumn()))
                 ))
                 .runtimeId(resultSet.getString(statements.getRuntimeIdColumn()))
+                .checkpoint(fromJson(resultSet.getString(statements.getCheckpointColumn()), CHECKPOINT_TYPE))
                 .build();
     }
 
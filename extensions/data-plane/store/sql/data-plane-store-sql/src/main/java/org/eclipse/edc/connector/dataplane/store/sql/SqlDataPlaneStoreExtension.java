@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.sql.lease.LeaseMode;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -42,6 +43,9 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.dataplane.datasource")
     private String dataSourceName;
 
+    @Setting(description = "Where the leases on the data flows are stored: TABLE uses the edc_lease table, INLINE uses the leased_by and leased_until columns of the entity table", defaultValue = "TABLE", key = "edc.sql.store.dataplane.lease.mode")
+    private String leaseMode;
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -71,7 +75,7 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     public DataPlaneStore dataPlaneStore(ServiceExtensionContext context) {
         sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "dataplane-schema.sql");
         return new SqlDataPlaneStore(dataSourceRegistry, dataSourceName, transactionContext,
-                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getRuntimeId());
+                getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getRuntimeId(), LeaseMode.from(leaseMode));
     }
 
     /**
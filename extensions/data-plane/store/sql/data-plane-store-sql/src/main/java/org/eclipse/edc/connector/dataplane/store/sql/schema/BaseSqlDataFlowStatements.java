@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql.schema;
 
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.DataFlowMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -31,6 +32,15 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
 
     @Override
     public String getInsertTemplate() {
+        return dataFlowColumns().insertInto(getDataPlaneTable());
+    }
+
+    /**
+     * All the data flow columns, in the order expected by {@link #getInsertTemplate()}.
+     *
+     * @return the columns.
+     */
+    protected SqlExecuteStatement dataFlowColumns() {
         return executeStatement()
                 .column(getIdColumn())
                 .column(getStateColumn())
@@ -47,7 +57,7 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getFlowTypeColumn())
                 .column(getTransferTypeDestinationColumn())
                 .column(getRuntimeIdColumn())
-                .insertInto(getDataPlaneTable());
+                .jsonColumn(getCheckpointColumn());
     }
 
     @Override
@@ -66,6 +76,7 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getFlowTypeColumn())
                 .column(getTransferTypeDestinationColumn())
                 .column(getRuntimeIdColumn())
+                .jsonColumn(getCheckpointColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
@@ -32,6 +32,11 @@ public interface DataFlowStatements extends StatefulEntityStatements, LeaseState
         return "edc_data_plane";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getDataPlaneTable();
+    }
+
     default String getCallbackAddressColumn() {
         return "callback_address";
     }
@@ -60,8 +65,23 @@ public interface DataFlowStatements extends StatefulEntityStatements, LeaseState
         return "runtime_id";
     }
 
+    default String getCheckpointColumn() {
+        return "checkpoint";
+    }
+
     String getInsertTemplate();
 
+    /**
+     * Statement that inserts or updates a data flow in a single round trip, with the same parameters as
+     * {@link #getInsertTemplate()}. It is completed with the lease release and the version check by
+     * {@link #getUpsertReleasingLeaseTemplate(String)}.
+     *
+     * @return the statement, or null if the dialect does not support upserts.
+     */
+    default String getUpsertTemplate() {
+        return null;
+    }
+
     String getUpdateTemplate();
 
     String getSelectTemplate();
@@ -24,6 +24,11 @@ public class PostgresDataFlowStatements extends BaseSqlDataFlowStatements {
         super(new PostgresqlOperatorTranslator());
     }
 
+    @Override
+    public String getUpsertTemplate() {
+        return dataFlowColumns().upsertInto(getDataPlaneTable(), getIdColumn(), getCreatedAtColumn());
+    }
+
     @Override
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
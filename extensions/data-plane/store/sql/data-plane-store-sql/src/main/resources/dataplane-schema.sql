@@ -43,3 +43,19 @@ COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS data_plane_state ON edc_data_plane (state,state_time_stamp);
+
+-- Inline lease columns, used when the lease mode is INLINE
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS leased_by VARCHAR;
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS leased_until BIGINT;
+
+COMMENT ON COLUMN edc_data_plane.leased_until IS 'posix timestamp of the inline lease expiration';
+
+CREATE INDEX IF NOT EXISTS data_plane_state_leased_until ON edc_data_plane (state,leased_until,state_time_stamp);
+
+-- Optimistic concurrency version, incremented on every upsert
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
+
+-- Progress of the transfer, used to resume it after a restart
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS checkpoint JSON;
+
+COMMENT ON COLUMN edc_data_plane.checkpoint IS 'Java Map serialized as JSON';
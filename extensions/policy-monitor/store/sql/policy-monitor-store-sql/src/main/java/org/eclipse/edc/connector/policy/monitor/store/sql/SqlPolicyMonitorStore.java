@@ -35,7 +35,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -80,11 +82,11 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString() + statements.getForUpdateSkipLockedClause(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).toList();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -127,6 +129,36 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
         });
     }
 
+    @Override
+    public void saveAll(Collection<PolicyMonitorEntry> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = findExistingIds(connection, entities.stream().map(PolicyMonitorEntry::getId).toList());
+                var updates = entities.stream().filter(entry -> existingIds.contains(entry.getId())).toList();
+                var inserts = entities.stream().filter(entry -> !existingIds.contains(entry.getId())).toList();
+
+                leaseContext.by(leaseHolderName).withConnection(connection).breakLeases(updates.stream().map(PolicyMonitorEntry::getId).toList());
+                queryExecutor.executeBatch(connection, statements.getUpdateTemplate(), updates.stream().map(this::updateArguments).toList());
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), inserts.stream().map(this::insertArguments).toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private Set<String> findExistingIds(Connection connection, List<String> ids) {
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", ids)).limit(ids.size()).build();
+        var statement = statements.createQuery(querySpec);
+        try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString(statements.getIdColumn()),
+                statement.getQueryAsString(), statement.getParameters())) {
+            return stream.collect(Collectors.toSet());
+        }
+    }
+
     private @Nullable PolicyMonitorEntry findByIdInternal(Connection conn, String id) {
         return transactionContext.execute(() -> {
             var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
@@ -137,8 +169,15 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
     }
 
     private void insert(Connection connection, PolicyMonitorEntry entry) {
-        var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
+        queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(entry));
+    }
+
+    private void update(Connection connection, PolicyMonitorEntry entry) {
+        queryExecutor.execute(connection, statements.getUpdateTemplate(), updateArguments(entry));
+    }
+
+    private Object[] insertArguments(PolicyMonitorEntry entry) {
+        return new Object[]{
                 entry.getId(),
                 entry.getState(),
                 entry.getCreatedAt(),
@@ -148,12 +187,11 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId()
-        );
+        };
     }
 
-    private void update(Connection connection, PolicyMonitorEntry entry) {
-        var sql = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, sql,
+    private Object[] updateArguments(PolicyMonitorEntry entry) {
+        return new Object[]{
                 entry.getState(),
                 entry.getUpdatedAt(),
                 entry.getStateCount(),
@@ -161,7 +199,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
-                entry.getId());
+                entry.getId()
+        };
     }
 
     private PolicyMonitorEntry mapEntry(ResultSet resultSet) throws SQLException {
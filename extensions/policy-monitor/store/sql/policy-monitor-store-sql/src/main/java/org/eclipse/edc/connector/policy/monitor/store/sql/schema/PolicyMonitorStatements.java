@@ -25,6 +25,11 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "edc_policy_monitor";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getPolicyMonitorTable();
+    }
+
     default String getIdColumn() {
         return "entry_id";
     }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.policy.monitor.store.sql;
 
+import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.connector.policy.monitor.spi.testfixtures.store.PolicyMonitorStoreTestBase;
 import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PolicyMonitorStatements;
@@ -26,12 +27,23 @@ import org.eclipse.edc.sql.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.COMPLETED;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -60,6 +72,26 @@ public class PostgresPolicyMonitorStoreTest extends PolicyMonitorStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getPolicyMonitorTable() + " CASCADE");
     }
 
+    @Test
+    void saveAll_shouldSendInsertsAndUpdatesAsBatches(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var batchingQueryExecutor = spy(queryExecutor);
+        var store = new SqlPolicyMonitorStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                statements, new JacksonTypeManager().getMapper(), Clock.systemUTC(), batchingQueryExecutor, CONNECTOR_NAME);
+        var existing = createEntry("existing");
+        store.save(existing);
+        leaseEntity(existing.getId(), CONNECTOR_NAME);
+        existing.transitionToCompleted();
+
+        store.saveAll(List.of(existing, createEntry("new-1"), createEntry("new-2")));
+
+        verify(batchingQueryExecutor).executeBatch(any(), eq(statements.getUpdateTemplate()), argThat(arguments -> arguments.size() == 1));
+        verify(batchingQueryExecutor).executeBatch(any(), eq(statements.getInsertTemplate()), argThat(arguments -> arguments.size() == 2));
+        assertThat(store.findById("existing")).extracting(PolicyMonitorEntry::getState).isEqualTo(COMPLETED.code());
+        assertThat(isLeasedBy("existing", CONNECTOR_NAME)).isFalse();
+        assertThat(store.findById("new-1")).extracting(PolicyMonitorEntry::getState).isEqualTo(STARTED.code());
+        assertThat(store.findById("new-2")).extracting(PolicyMonitorEntry::getState).isEqualTo(STARTED.code());
+    }
+
     @Override
     protected PolicyMonitorStore getStore() {
         return store;
@@ -78,4 +110,12 @@ public class PostgresPolicyMonitorStoreTest extends PolicyMonitorStoreTestBase {
     protected LeaseUtil getLeaseUtil() {
         return leaseUtil;
     }
+
+    private PolicyMonitorEntry createEntry(String id) {
+        return PolicyMonitorEntry.Builder.newInstance()
+                .id(id)
+                .contractId(UUID.randomUUID().toString())
+                .state(STARTED.code())
+                .build();
+    }
 }
@@ -99,6 +99,7 @@ include(":data-protocols:dsp:dsp-negotiation:lib:dsp-negotiation-validation-lib"
 include(":data-protocols:dsp:dsp-negotiation:lib:dsp-negotiation-transform-lib")
 include(":data-protocols:dsp:dsp-negotiation:lib:dsp-negotiation-http-api-lib")
 include(":data-protocols:dsp:dsp-http-core")
+include(":data-protocols:dsp:dsp-http-micrometer")
 include(":data-protocols:dsp:dsp-http-spi")
 include(":data-protocols:dsp:dsp-transfer-process")
 include(":data-protocols:dsp:dsp-transfer-process:dsp-transfer-process-http-api")
@@ -165,6 +166,7 @@ include(":extensions:common:validator:validator-data-address-kafka")
 include(":extensions:common:vault:vault-hashicorp")
 include(":extensions:common:store:sql:edr-index-sql")
 include(":extensions:common:store:sql:jti-validation-store-sql")
+include(":extensions:common:store:sql:outbox-store-sql")
 include(":extensions:common:store:sql:sts-client-store-sql")
 
 include(":extensions:common:api:control-api-configuration")
@@ -194,6 +196,7 @@ include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
 include(":extensions:control-plane:store:sql:policy-definition-store-sql")
 include(":extensions:control-plane:store:sql:transfer-process-store-sql")
+include(":extensions:control-plane:catalog-micrometer")
 include(":extensions:control-plane:callback:callback-event-dispatcher")
 include(":extensions:control-plane:callback:callback-http-dispatcher")
 include(":extensions:control-plane:callback:callback-static-endpoint")
@@ -210,6 +213,7 @@ include(":extensions:data-plane:data-plane-http")
 include(":extensions:data-plane:data-plane-http-oauth2")
 include(":extensions:data-plane:data-plane-http-oauth2-core")
 include(":extensions:data-plane:data-plane-iam")
+include(":extensions:data-plane:data-plane-micrometer")
 include(":extensions:data-plane:data-plane-integration-tests")
 include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:store:sql:accesstokendata-store-sql")
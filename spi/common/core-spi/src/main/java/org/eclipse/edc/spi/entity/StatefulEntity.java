@@ -36,6 +36,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected long version;
 
     protected StatefulEntity() {
     }
@@ -65,6 +66,16 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return pending;
     }
 
+    /**
+     * The version of the entity as it was last read from or written to the store, used by stores that support
+     * optimistic concurrency. 0 means that the version is not known.
+     *
+     * @return the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public void setErrorDetail(String errorDetail) {
         this.errorDetail = errorDetail;
     }
@@ -73,6 +84,10 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         this.pending = pending;
     }
 
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     /**
      * Sets the state timestamp to the clock time.
      *
@@ -110,6 +125,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .version(version)
                 .build();
     }
 
@@ -156,6 +172,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B version(long version) {
+            entity.version = version;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
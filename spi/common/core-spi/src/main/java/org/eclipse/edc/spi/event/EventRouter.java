@@ -32,6 +32,18 @@ public interface EventRouter {
      */
     <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber);
 
+    /**
+     * Register a new transactional subscriber, whose work belongs to the transaction in which the event is published,
+     * e.g. writing it to a transactional outbox.
+     * The transactional subscribers are notified synchronously before any other subscriber, and they are the only ones
+     * notified right away while the publication is deferred, see {@link #deferring(Runnable)}.
+     *
+     * @param subscriber that will receive every published event
+     */
+    default <E extends Event> void registerTransactional(Class<E> eventKind, EventSubscriber subscriber) {
+        registerSync(eventKind, subscriber);
+    }
+
     /**
      * Register a new asynchronous subscriber to the events
      *
@@ -45,4 +57,17 @@ public interface EventRouter {
      * @param event the event to be published
      */
     <E extends Event> void publish(EventEnvelope<E> event);
+
+    /**
+     * Run a unit of work that publishes events, notifying only the transactional subscribers while it runs. The other
+     * subscribers are notified of the events published by the work when the returned {@link Runnable} is run, e.g.
+     * once the transaction in which the work ran is committed. If the work fails, its events are discarded.
+     *
+     * @param work the work that publishes events
+     * @return notifies the other subscribers of the events published by the work
+     */
+    default Runnable deferring(Runnable work) {
+        work.run();
+        return () -> { };
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+/**
+ * Transactional outbox: messages are written in the same transaction as the state change that produced them, e.g. from
+ * a synchronous {@link org.eclipse.edc.spi.event.EventSubscriber}, and delivered afterwards, at least once, by the
+ * {@link OutboxMessageHandler} registered for their channel. Failed deliveries are retried with backoff.
+ */
+public interface Outbox {
+
+    /**
+     * Write a message, to be delivered once the current transaction is committed.
+     *
+     * @param message the message.
+     */
+    void write(OutboxMessage message);
+
+    /**
+     * Register the handler that delivers the messages of a channel.
+     *
+     * @param channel the channel.
+     * @param handler the handler.
+     */
+    void registerHandler(String channel, OutboxMessageHandler handler);
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A message written to the {@link Outbox}, waiting to be delivered.
+ * <p>
+ * The channel selects the {@link OutboxMessageHandler} that delivers the message. Messages with the same destination
+ * and partition key (e.g. the id of the entity that produced them) are delivered one at a time, in the order they were
+ * written.
+ */
+public class OutboxMessage {
+
+    private String id;
+    private String channel;
+    private String destination;
+    private String partitionKey;
+    private String payload;
+    private long createdAt;
+    private int attempts;
+    private long nextAttemptAt;
+
+    private OutboxMessage() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The channel, that selects the handler that delivers the message.
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * The destination of the message, e.g. an endpoint URL. The number of concurrent deliveries is limited per
+     * destination.
+     */
+    public String getDestination() {
+        return destination;
+    }
+
+    /**
+     * The key that orders the messages of a destination, e.g. the id of the entity that produced the message.
+     */
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * The serialized content of the message, interpreted by the handler.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The earliest time, in epoch millis, at which the message can be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .channel(channel)
+                .destination(destination)
+                .partitionKey(partitionKey)
+                .payload(payload)
+                .createdAt(createdAt)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt);
+    }
+
+    public static class Builder {
+
+        private final OutboxMessage message;
+
+        private Builder() {
+            message = new OutboxMessage();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            message.id = id;
+            return this;
+        }
+
+        public Builder channel(String channel) {
+            message.channel = channel;
+            return this;
+        }
+
+        public Builder destination(String destination) {
+            message.destination = destination;
+            return this;
+        }
+
+        public Builder partitionKey(String partitionKey) {
+            message.partitionKey = partitionKey;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            message.payload = payload;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            message.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            message.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            message.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public OutboxMessage build() {
+            if (message.id == null) {
+                message.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(message.channel, "channel");
+            Objects.requireNonNull(message.destination, "destination");
+            Objects.requireNonNull(message.partitionKey, "partitionKey");
+            Objects.requireNonNull(message.payload, "payload");
+            return message;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Delivers the {@link OutboxMessage}s of a channel.
+ */
+@FunctionalInterface
+public interface OutboxMessageHandler {
+
+    /**
+     * Deliver a message. The same message can be delivered more than once, e.g. after a restart.
+     *
+     * @param message the message.
+     * @return a future that completes when the message has been delivered, or completes exceptionally if the delivery
+     *         failed and has to be retried.
+     */
+    CompletableFuture<Void> handle(OutboxMessage message);
+}
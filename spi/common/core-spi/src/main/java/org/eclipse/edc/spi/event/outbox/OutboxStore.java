@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Keeps the {@link OutboxMessage}s until they are delivered. Implementations that persist the messages must take part
+ * in the current transaction, so that a message is stored only if the state change that produced it is committed.
+ */
+@ExtensionPoint
+public interface OutboxStore {
+
+    /**
+     * Store a new message.
+     *
+     * @param message the message.
+     */
+    void save(OutboxMessage message);
+
+    /**
+     * Claim the messages that are due for delivery, oldest first. Only the oldest message of every destination and
+     * partition key can be claimed, so the messages of a partition are delivered in order. The claimed messages become
+     * due again at {@code claimUntil}, so they are delivered again if the outcome of the delivery never gets recorded.
+     *
+     * @param max        the maximum number of messages.
+     * @param now        the current time in epoch millis.
+     * @param claimUntil the time in epoch millis until which the messages are claimed.
+     * @return the claimed messages.
+     */
+    List<OutboxMessage> claimDue(int max, long now, long claimUntil);
+
+    /**
+     * Delete a message, e.g. because it has been delivered.
+     *
+     * @param id the message id.
+     */
+    void delete(String id);
+
+    /**
+     * Record a failed delivery attempt and set when the message is due again.
+     *
+     * @param id            the message id.
+     * @param attempts      the number of failed attempts.
+     * @param nextAttemptAt the time in epoch millis when the message is due again.
+     */
+    void reschedule(String id, int attempts, long nextAttemptAt);
+}
@@ -14,11 +14,13 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -49,6 +51,18 @@ public interface StateEntityStore<T> {
     @Nullable
     T findById(String id);
 
+    /**
+     * Finds the state of the entity for the id. Stores could override it to read only the state instead of the whole
+     * entity.
+     *
+     * @param id the id.
+     * @return the state code if found, null otherwise.
+     */
+    @Nullable
+    default Integer findStateById(String id) {
+        return findById(id) instanceof StatefulEntity<?> entity ? entity.getState() : null;
+    }
+
     /**
      * Returns a list of not leased entities that satisfy the filter criteria.
      * <p>
@@ -87,4 +101,24 @@ public interface StateEntityStore<T> {
      * @param entity the entity.
      */
     void save(T entity);
+
+    /**
+     * Persists the entities, with the same semantics of {@link #save(Object)}. Stores could override it to persist
+     * all the entities at once, e.g. in a single transaction.
+     *
+     * @param entities the entities.
+     */
+    default void saveAll(Collection<T> entities) {
+        entities.forEach(this::save);
+    }
+
+    /**
+     * Registers a listener that gets notified when entities are saved, and could then be ready to be processed.
+     * Used by state machines to be woken up without waiting for the next polling iteration.
+     * Stores that don't support notifications ignore the listener, the state machines will rely on polling only.
+     *
+     * @param listener the listener.
+     */
+    default void onStateChange(Runnable listener) {
+    }
 }
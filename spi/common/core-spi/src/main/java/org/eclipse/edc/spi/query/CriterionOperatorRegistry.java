@@ -28,6 +28,7 @@ public interface CriterionOperatorRegistry {
     String ILIKE = "ilike";
     String CONTAINS = "contains";
     String LESS_THAN = "<";
+    String GREATER_THAN = ">";
 
     /**
      * Register an operator with the related operator predicate.
@@ -15,9 +15,21 @@
 package org.eclipse.edc.spi.query;
 
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 /**
  * Represent a predicate for an operator. The result is true when the two objects match with the operator.
  */
 public interface OperatorPredicate extends BiPredicate<Object, Object> {
+
+    /**
+     * Prepare the predicate for a right operand, to test it against many properties. Implementations can override it
+     * to do the work that doesn't depend on the property, e.g. compiling a pattern, only once.
+     *
+     * @param operandRight the right operand.
+     * @return the predicate that tests a property against the right operand.
+     */
+    default Predicate<Object> forOperand(Object operandRight) {
+        return property -> test(property, operandRight);
+    }
 }
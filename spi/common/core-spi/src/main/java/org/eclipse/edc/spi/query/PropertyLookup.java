@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.query;
 
+import java.util.function.Function;
+
 /**
  * Extract the property value from an object
  */
@@ -29,4 +31,15 @@ public interface PropertyLookup {
      */
     Object getProperty(String key, Object object);
 
+    /**
+     * Prepare the lookup of a key, to extract it from many objects. Implementations can override it to do the work
+     * that doesn't depend on the object, e.g. parsing the key, only once.
+     *
+     * @param key the key.
+     * @return function that extracts the property value from an object, null if the property does not exist.
+     */
+    default Function<Object, Object> forKey(String key) {
+        return object -> getProperty(key, object);
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class OutboxStoreTestBase {
+
+    protected abstract OutboxStore getStore();
+
+    private OutboxMessage message(String id, String destination, String partitionKey) {
+        return OutboxMessage.Builder.newInstance()
+                .id(id)
+                .channel("channel")
+                .destination(destination)
+                .partitionKey(partitionKey)
+                .payload("payload-" + id)
+                .createdAt(1)
+                .nextAttemptAt(10)
+                .build();
+    }
+
+    @Nested
+    class ClaimDue {
+
+        @Test
+        void shouldReturnDueMessages_oldestFirst() {
+            getStore().save(message("id1", "destination", "partition1"));
+            getStore().save(message("id2", "destination", "partition2"));
+            getStore().save(message("id3", "other-destination", "partition1"));
+
+            var result = getStore().claimDue(10, 10, 100);
+
+            assertThat(result).extracting(OutboxMessage::getId).containsExactly("id1", "id2", "id3");
+            assertThat(result.get(0)).usingRecursiveComparison().ignoringFields("nextAttemptAt")
+                    .isEqualTo(message("id1", "destination", "partition1"));
+            assertThat(result).allSatisfy(message -> assertThat(message.getNextAttemptAt()).isEqualTo(100));
+        }
+
+        @Test
+        void shouldNotReturnMessages_whenNotDue() {
+            getStore().save(message("id1", "destination", "partition"));
+
+            assertThat(getStore().claimDue(10, 9, 100)).isEmpty();
+        }
+
+        @Test
+        void shouldReturnOnlyOldestMessageOfPartition() {
+            getStore().save(message("id1", "destination", "partition"));
+            getStore().save(message("id2", "destination", "partition"));
+
+            assertThat(getStore().claimDue(10, 10, 100)).extracting(OutboxMessage::getId).containsExactly("id1");
+        }
+
+        @Test
+        void shouldNotReturnMessages_whenOldestOfPartitionIsNotDue() {
+            getStore().save(message("id1", "destination", "partition"));
+            getStore().save(message("id2", "destination", "partition"));
+            getStore().reschedule("id1", 1, 50);
+
+            assertThat(getStore().claimDue(10, 10, 100)).isEmpty();
+        }
+
+        @Test
+        void shouldNotReturnClaimedMessages_untilClaimExpires() {
+            getStore().save(message("id1", "destination", "partition"));
+            getStore().claimDue(10, 10, 100);
+
+            assertThat(getStore().claimDue(10, 99, 200)).isEmpty();
+            assertThat(getStore().claimDue(10, 100, 200)).extracting(OutboxMessage::getId).containsExactly("id1");
+        }
+
+        @Test
+        void shouldLimitResult() {
+            getStore().save(message("id1", "destination", "partition1"));
+            getStore().save(message("id2", "destination", "partition2"));
+            getStore().save(message("id3", "destination", "partition3"));
+
+            assertThat(getStore().claimDue(2, 10, 100)).extracting(OutboxMessage::getId).containsExactly("id1", "id2");
+        }
+    }
+
+    @Nested
+    class Delete {
+
+        @Test
+        void shouldRemoveMessage_andReleaseNextOfPartition() {
+            getStore().save(message("id1", "destination", "partition"));
+            getStore().save(message("id2", "destination", "partition"));
+            getStore().claimDue(10, 10, 100);
+
+            getStore().delete("id1");
+
+            assertThat(getStore().claimDue(10, 10, 100)).extracting(OutboxMessage::getId).containsExactly("id2");
+        }
+
+        @Test
+        void shouldDoNothing_whenMessageDoesNotExist() {
+            getStore().save(message("id1", "destination", "partition"));
+
+            getStore().delete("not-exist");
+
+            assertThat(getStore().claimDue(10, 10, 100)).hasSize(1);
+        }
+    }
+
+    @Nested
+    class Reschedule {
+
+        @Test
+        void shouldUpdateAttemptsAndDueTime() {
+            getStore().save(message("id1", "destination", "partition"));
+            getStore().claimDue(10, 10, 100);
+
+            getStore().reschedule("id1", 3, 20);
+
+            assertThat(getStore().claimDue(10, 19, 100)).isEmpty();
+            assertThat(getStore().claimDue(10, 20, 100)).singleElement().satisfies(message -> {
+                assertThat(message.getId()).isEqualTo("id1");
+                assertThat(message.getAttempts()).isEqualTo(3);
+            });
+        }
+    }
+}
@@ -39,4 +39,13 @@ public interface DataSourceRegistry {
      */
     DataSource resolve(String name);
 
+    /**
+     * Returns the datasource registered for the name or null if not found, whose connections are not enlisted in the
+     * transaction context. Intended for long-lived sessions, e.g. listening on notifications, that must not keep a
+     * transaction open. Defaults to {@link #resolve(String)} for registries that do not manage the connections.
+     */
+    default DataSource resolveUnmanaged(String name) {
+        return resolve(name);
+    }
+
 }
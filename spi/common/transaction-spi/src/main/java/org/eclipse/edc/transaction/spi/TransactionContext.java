@@ -66,10 +66,18 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before a transaction commits or is rolled back, and once it is completed.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
         void beforeCompletion();
+
+        /**
+         * Called once the transaction is completed.
+         *
+         * @param committed true if the transaction was committed, false if it was rolled back.
+         */
+        default void afterCompletion(boolean committed) {
+        }
     }
 }
@@ -20,8 +20,11 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -52,6 +55,51 @@ public interface AssetIndex extends DataAddressResolver {
      */
     Stream<Asset> queryAssets(QuerySpec querySpec);
 
+    /**
+     * Finds the assets that are covered by a specific {@link QuerySpec} and that are selected by at least one of the
+     * passed selectors, e.g. the asset selectors of a set of contract definitions. A selector is a list of criteria
+     * that all need to match, an empty selector matches all the assets.
+     * <p>
+     * Sorting and paging of the {@link QuerySpec} are applied to the whole selection, so that implementors can let
+     * the backend evaluate the selection and return only the requested page. The default implementation runs a query
+     * for every selector and merges the results in memory.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @param selectors The selectors, at least one of them must match.
+     * @return A potentially empty collection of {@link Asset}, never null.
+     */
+    default Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        if (selectors.isEmpty()) {
+            return Stream.empty();
+        }
+
+        if (selectors.stream().anyMatch(List::isEmpty)) {
+            return queryAssets(querySpec);
+        }
+
+        if (selectors.size() == 1) {
+            return queryAssets(querySpec.toBuilder().filter(selectors.get(0)).build());
+        }
+
+        var assets = new LinkedHashMap<String, Asset>();
+        selectors.forEach(selector -> {
+            var query = querySpec.toBuilder().filter(selector).offset(0).limit(Integer.MAX_VALUE).build();
+            try (var stream = queryAssets(query)) {
+                stream.forEach(asset -> assets.putIfAbsent(asset.getId(), asset));
+            }
+        });
+
+        var result = assets.values().stream();
+        var sortField = querySpec.getSortField();
+        if (sortField != null) {
+            Comparator<Asset> comparator = Comparator.comparing(asset -> (Comparable<Object>) asset.getPropertyOrPrivate(sortField),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            result = result.sorted(querySpec.getSortOrder() == SortOrder.DESC ? comparator.reversed() : comparator);
+        }
+
+        return result.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     /**
      * Fetches the {@link Asset} with the given ID from the metadata backend.
      *
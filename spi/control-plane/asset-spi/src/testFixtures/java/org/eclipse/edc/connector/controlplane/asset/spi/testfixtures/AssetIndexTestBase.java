@@ -469,6 +469,65 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class QueryAssetsWithSelectors {
+
+        @Test
+        void shouldReturnAssetsMatchedByAnySelector() {
+            range(1, 4).mapToObj(i -> createAssetBuilder("id" + i).property("version", String.valueOf(i)).build())
+                    .forEach(getAssetIndex()::create);
+            var selectors = List.of(
+                    List.of(criterion("version", "=", "1")),
+                    List.of(criterion("version", "=", "3"))
+            );
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), selectors);
+
+            assertThat(assets).extracting(Asset::getId).containsExactlyInAnyOrder("id1", "id3");
+        }
+
+        @Test
+        void shouldReturnAllTheAssets_whenOneSelectorIsEmpty() {
+            range(1, 4).mapToObj(i -> createAssetBuilder("id" + i).property("version", String.valueOf(i)).build())
+                    .forEach(getAssetIndex()::create);
+            var selectors = List.of(List.of(criterion("version", "=", "1")), List.<Criterion>of());
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), selectors);
+
+            assertThat(assets).hasSize(3);
+        }
+
+        @Test
+        void shouldReturnNoAssets_whenThereAreNoSelectors() {
+            getAssetIndex().create(getAsset("id1"));
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), List.of());
+
+            assertThat(assets).isEmpty();
+        }
+
+        @Test
+        void shouldApplyFilterSortingAndPagingToTheSelection() {
+            range(0, 10).mapToObj(i -> createAssetBuilder("id" + i).property("parity", i % 2 == 0 ? "even" : "odd").build())
+                    .forEach(getAssetIndex()::create);
+            var selectors = List.of(
+                    List.of(criterion("parity", "=", "even")),
+                    List.of(criterion(Asset.PROPERTY_ID, "=", "id3"))
+            );
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(criterion(Asset.PROPERTY_ID, ">", "id0"))
+                    .sortField(Asset.PROPERTY_ID)
+                    .sortOrder(SortOrder.ASC)
+                    .offset(1)
+                    .limit(2)
+                    .build();
+
+            var assets = getAssetIndex().queryAssets(querySpec, selectors);
+
+            assertThat(assets).extracting(Asset::getId).containsExactly("id3", "id4");
+        }
+    }
+
     @Nested
     class FindById {
         @Test
@@ -15,9 +15,11 @@
 
 package org.eclipse.edc.connector.controlplane.catalog.spi;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +33,7 @@ public class Catalog extends Dataset {
     protected final List<Dataset> datasets = new ArrayList<>();
     protected List<DataService> dataServices = new ArrayList<>();
     protected String participantId;
+    protected Integer nextOffset;
 
     public List<Dataset> getDatasets() {
         return datasets;
@@ -44,6 +47,18 @@ public class Catalog extends Dataset {
         return participantId;
     }
 
+    /**
+     * The offset at which the next page of datasets starts, see {@link DatasetPage#nextOffset()}. It's not part of the
+     * catalog representation.
+     *
+     * @return the next offset, null if not known.
+     */
+    @JsonIgnore
+    @Nullable
+    public Integer getNextOffset() {
+        return nextOffset;
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static class Builder extends Dataset.Builder<Catalog, Catalog.Builder> {
 
@@ -82,5 +97,11 @@ public class Catalog extends Dataset {
             this.dataset.participantId = participantId;
             return this;
         }
+
+        @JsonIgnore
+        public Builder nextOffset(Integer nextOffset) {
+            this.dataset.nextOffset = nextOffset;
+            return this;
+        }
     }
 }
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.spi;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Tells which {@link Asset}s are selected by the assets selector of a {@link ContractDefinition}, used to build the
+ * offers of a {@link Dataset}.
+ * <p>
+ * Implementors can keep the matches materialized, e.g. in memory or in a database table, to avoid evaluating the
+ * selector criteria on every catalog request.
+ */
+@ExtensionPoint
+public interface ContractDefinitionAssetMatcher {
+
+    /**
+     * Whether the asset is selected by the contract definition.
+     *
+     * @param contractDefinition the contract definition.
+     * @param asset              the asset.
+     * @return true if the asset is selected.
+     */
+    boolean matches(ContractDefinition contractDefinition, Asset asset);
+
+}
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.spi;
+
+import java.util.List;
+
+/**
+ * A page of datasets resolved by {@link DatasetResolver}.
+ *
+ * @param datasets   the datasets.
+ * @param nextOffset the offset at which the next page starts. It could be greater than the requested offset plus the
+ *                   number of datasets, when some of the assets went through didn't result in a dataset.
+ */
+public record DatasetPage(List<Dataset> datasets, int nextOffset) {
+}
@@ -35,6 +35,21 @@ public interface DatasetResolver {
     @NotNull
     Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec, String protocol);
 
+    /**
+     * Resolves a page of {@link Dataset}s given the {@link ParticipantAgent} and a {@link QuerySpec}, together with the
+     * offset at which the next page starts.
+     *
+     * @param agent     the participant agent that requested the dataset.
+     * @param querySpec the query spec for filtering and pagination.
+     * @return the page of datasets.
+     */
+    @NotNull
+    default DatasetPage queryPage(ParticipantAgent agent, QuerySpec querySpec, String protocol) {
+        try (var datasets = query(agent, querySpec, protocol)) {
+            return new DatasetPage(datasets.toList(), querySpec.getOffset() + querySpec.getLimit());
+        }
+    }
+
     /**
      * Resolves a {@link Dataset} given its id
      *
@@ -59,6 +59,20 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
     @NotNull
     Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec);
 
+    /**
+     * Finds the contract negotiations covered by a specific {@link QuerySpec} for listing purposes. Implementations
+     * are allowed to leave out the fields that are not part of a listing: contract offers, protocol messages and trace
+     * context.
+     * <p>
+     * The returned contract negotiations must not be stored back.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @return a stream of ContractNegotiation, cannot be null.
+     */
+    @NotNull
+    default Stream<ContractNegotiation> queryNegotiationSummaries(QuerySpec querySpec) {
+        return queryNegotiations(querySpec);
+    }
 
     /**
      * Finds all contract agreement that are covered by a specific {@link QuerySpec}. If no
@@ -77,6 +77,25 @@ public abstract class ContractNegotiationStoreTestBase {
 
     protected abstract boolean isLeasedBy(String negotiationId, String owner);
 
+    @Nested
+    class FindStateById {
+
+        @Test
+        void shouldFindStateOfEntity() {
+            var negotiation = createNegotiationBuilder("test-cn1").state(REQUESTED.code()).build();
+            getContractNegotiationStore().save(negotiation);
+
+            var actual = getContractNegotiationStore().findStateById("test-cn1");
+
+            assertThat(actual).isEqualTo(REQUESTED.code());
+        }
+
+        @Test
+        void shouldReturnNull_whenEntityDoesNotExist() {
+            assertThat(getContractNegotiationStore().findStateById("not-exist")).isNull();
+        }
+    }
+
     @Nested
     class FindById {
 
@@ -609,6 +628,40 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class QueryNegotiationSummaries {
+
+        @Test
+        void shouldReturnListedFields() {
+            var callbacks = List.of(CallbackAddress.Builder.newInstance().uri("test").events(Set.of("event")).build());
+            var agreement = createContract(ContractOfferId.create("definition", "asset"));
+            var negotiation = createNegotiationBuilder("test-negotiation")
+                    .contractAgreement(agreement)
+                    .callbackAddresses(callbacks)
+                    .build();
+            getContractNegotiationStore().save(negotiation);
+
+            var summaries = getContractNegotiationStore().queryNegotiationSummaries(QuerySpec.none()).toList();
+
+            assertThat(summaries).hasSize(1).first().usingRecursiveComparison()
+                    .ignoringFields("contractOffers", "protocolMessages", "traceContext")
+                    .isEqualTo(negotiation);
+        }
+
+        @Test
+        void shouldFilterAndPaginate() {
+            range(0, 10).forEach(i -> getContractNegotiationStore().save(TestFunctions.createNegotiation("test-neg-" + i)));
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(criterion("id", "in", List.of("test-neg-3", "test-neg-4", "test-neg-5")))
+                    .sortField("id").offset(1).limit(5)
+                    .build();
+
+            var result = getContractNegotiationStore().queryNegotiationSummaries(querySpec);
+
+            assertThat(result).extracting(ContractNegotiation::getId).containsExactly("test-neg-4", "test-neg-5");
+        }
+    }
+
     @Nested
     class QueryAgreements {
         @Test
@@ -41,6 +41,17 @@ public interface ContractNegotiationService {
      */
     ServiceResult<List<ContractNegotiation>> search(QuerySpec query);
 
+    /**
+     * Search contract negotiations for listing purposes: contract offers, protocol messages and trace context could be
+     * left out, see {@link org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore#queryNegotiationSummaries(QuerySpec)}.
+     *
+     * @param query request
+     * @return the collection of contract negotiations that match the query
+     */
+    default ServiceResult<List<ContractNegotiation>> searchSummaries(QuerySpec query) {
+        return search(query);
+    }
+
     /**
      * Get negotiation state
      *
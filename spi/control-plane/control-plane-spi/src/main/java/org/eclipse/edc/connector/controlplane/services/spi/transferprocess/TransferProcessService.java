@@ -51,6 +51,17 @@ public interface TransferProcessService {
      */
     ServiceResult<List<TransferProcess>> search(QuerySpec query);
 
+    /**
+     * Search transferProcess for listing purposes: the fields that are not listed could be left out, see
+     * {@link org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore#findAllSummaries(QuerySpec)}.
+     *
+     * @param query request
+     * @return the collection of transferProcesses that match the query
+     */
+    default ServiceResult<List<TransferProcess>> searchSummaries(QuerySpec query) {
+        return search(query);
+    }
+
     /**
      * Returns the state of a transferProcess by its id.
      *
@@ -47,4 +47,15 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     Stream<TransferProcess> findAll(QuerySpec querySpec);
 
+    /**
+     * Returns the transfer processes covered by a given {@link QuerySpec} for listing purposes. Implementations are
+     * allowed to leave out the fields that are not part of a listing: resource manifest, provisioned and deprovisioned
+     * resources, content data address, private properties, protocol messages and trace context.
+     * <p>
+     * The returned transfer processes must not be stored back.
+     */
+    default Stream<TransferProcess> findAllSummaries(QuerySpec querySpec) {
+        return findAll(querySpec);
+    }
+
 }
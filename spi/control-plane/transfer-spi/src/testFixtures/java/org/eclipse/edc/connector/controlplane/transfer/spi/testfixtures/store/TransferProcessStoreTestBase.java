@@ -347,6 +347,26 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class FindStateById {
+        @Test
+        void shouldFindStateOfEntity() {
+            var t = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t);
+
+            var result = getTransferProcessStore().findStateById("id1");
+
+            assertThat(result).isEqualTo(STARTED.code());
+        }
+
+        @Test
+        void notExist() {
+            var result = getTransferProcessStore().findStateById("not-exist");
+
+            assertThat(result).isNull();
+        }
+    }
+
     @Nested
     class FindForCorrelationId {
         @Test
@@ -947,6 +967,41 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class FindAllSummaries {
+        @Test
+        void shouldReturnListedFields() {
+            var callbacks = List.of(CallbackAddress.Builder.newInstance().uri("test").events(Set.of("event")).build());
+            var transferProcess = TestFunctions.createTransferProcessBuilder("test-id")
+                    .correlationId("correlation-id")
+                    .callbackAddresses(callbacks)
+                    .privateProperties(Map.of("key", "value"))
+                    .errorDetail("error")
+                    .build();
+            getTransferProcessStore().save(transferProcess);
+
+            var summaries = getTransferProcessStore().findAllSummaries(QuerySpec.none()).toList();
+
+            assertThat(summaries).hasSize(1).first().usingRecursiveComparison()
+                    .ignoringFields("resourceManifest", "provisionedResourceSet", "deprovisionedResources", "contentDataAddress",
+                            "privateProperties", "protocolMessages", "traceContext")
+                    .isEqualTo(transferProcess);
+        }
+
+        @Test
+        void verifyFilteringAndPaging() {
+            range(0, 10).forEach(i -> getTransferProcessStore().save(createTransferProcess("test-neg-" + i)));
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(criterion("id", "in", List.of("test-neg-3", "test-neg-4", "test-neg-5")))
+                    .sortField("id").offset(1).limit(5)
+                    .build();
+
+            var result = getTransferProcessStore().findAllSummaries(querySpec);
+
+            assertThat(result).extracting(TransferProcess::getId).containsExactly("test-neg-4", "test-neg-5");
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
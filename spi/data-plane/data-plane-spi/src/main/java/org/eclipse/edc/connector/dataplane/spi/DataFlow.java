@@ -49,6 +49,7 @@ public class DataFlow extends StatefulEntity<DataFlow> {
     private Map<String, String> properties = new HashMap<>();
     private TransferType transferType;
     private String runtimeId;
+    private Map<String, Long> checkpoint = new HashMap<>();
 
     @Override
     public DataFlow copy() {
@@ -58,7 +59,8 @@ public class DataFlow extends StatefulEntity<DataFlow> {
                 .callbackAddress(callbackAddress)
                 .properties(properties)
                 .transferType(getTransferType())
-                .runtimeId(runtimeId);
+                .runtimeId(runtimeId)
+                .checkpoint(checkpoint);
 
         return copy(builder);
     }
@@ -92,6 +94,19 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         return runtimeId;
     }
 
+    /**
+     * Positions of the transfer progress, as recorded by a {@link org.eclipse.edc.connector.dataplane.spi.pipeline.TransferCheckpoint}.
+     *
+     * @return the checkpoint positions.
+     */
+    public Map<String, Long> getCheckpoint() {
+        return Collections.unmodifiableMap(checkpoint);
+    }
+
+    public void updateCheckpoint(Map<String, Long> checkpoint) {
+        this.checkpoint = new HashMap<>(checkpoint);
+    }
+
     public DataFlowStartMessage toRequest() {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(getId())
@@ -195,5 +210,10 @@ public class DataFlow extends StatefulEntity<DataFlow> {
             entity.runtimeId = runtimeId;
             return this;
         }
+
+        public Builder checkpoint(Map<String, Long> checkpoint) {
+            entity.checkpoint = checkpoint == null ? new HashMap<>() : new HashMap<>(checkpoint);
+            return this;
+        }
     }
 }
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of fixed size {@link ByteBuffer}s shared across data transfers, so that streaming content from a
+ * {@link DataSource} to a {@link DataSink} runs with a bounded amount of memory per transfer and without allocating a
+ * new buffer for every part.
+ * <p>
+ * Buffers can be allocated on the heap or, if the source and destination channels support it, off-heap (direct), to
+ * avoid copying the content into the Java heap at all.
+ */
+public class ByteBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_POOLED_BUFFERS = 64;
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final int maxPooledBuffers;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * Create a pool.
+     *
+     * @param bufferSize       the size of every buffer, in bytes.
+     * @param direct           whether the buffers are allocated off-heap.
+     * @param maxPooledBuffers the maximum number of idle buffers kept in the pool, the exceeding ones are discarded.
+     */
+    public ByteBufferPool(int bufferSize, boolean direct, int maxPooledBuffers) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive, got " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    /**
+     * Pool of heap buffers of the default size.
+     *
+     * @return the pool.
+     */
+    public static ByteBufferPool defaultPool() {
+        return new ByteBufferPool(DEFAULT_BUFFER_SIZE, false, DEFAULT_MAX_POOLED_BUFFERS);
+    }
+
+    /**
+     * Take a buffer from the pool, or allocate a new one if the pool is empty. The buffer is cleared and it must be
+     * given back with {@link #release(ByteBuffer)} once it's not used anymore.
+     *
+     * @return the buffer.
+     */
+    public ByteBuffer acquire() {
+        var buffer = buffers.poll();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer.clear();
+    }
+
+    /**
+     * Give a buffer back to the pool.
+     *
+     * @param buffer the buffer obtained by {@link #acquire()}.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize || buffer.isDirect() != direct) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= maxPooledBuffers) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * Copy the whole content of a channel into another one through a pooled buffer. The channels are not closed.
+     *
+     * @param source      the channel to read from.
+     * @param destination the channel to write to.
+     * @return the number of bytes transferred.
+     * @throws IOException if reading or writing fails.
+     */
+    public long transfer(ReadableByteChannel source, WritableByteChannel destination) throws IOException {
+        var buffer = acquire();
+        try {
+            var transferred = 0L;
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += destination.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * Copy the whole content of a channel into an output stream through a pooled buffer. Heap buffers are written
+     * directly, without any intermediate copy. The channel and the stream are not closed.
+     *
+     * @param source      the channel to read from.
+     * @param destination the stream to write to.
+     * @return the number of bytes transferred.
+     * @throws IOException if reading or writing fails.
+     */
+    public long transfer(ReadableByteChannel source, OutputStream destination) throws IOException {
+        if (direct) {
+            return transfer(source, Channels.newChannel(destination));
+        }
+
+        var buffer = acquire();
+        try {
+            var transferred = 0L;
+            int read;
+            while ((read = source.read(buffer)) >= 0) {
+                if (read > 0) {
+                    destination.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                    transferred += buffer.position();
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    /**
+     * The size of the pooled buffers.
+     *
+     * @return the size in bytes.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
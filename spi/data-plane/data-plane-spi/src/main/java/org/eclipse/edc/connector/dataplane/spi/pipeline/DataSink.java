@@ -27,4 +27,12 @@ public interface DataSink {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataSource source);
 
+    /**
+     * Transfers the data to the sink, skipping the parts that the checkpoint marks as already transferred and
+     * committing the transferred ones into it. By default the checkpoint is ignored and all the parts are transferred.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataSource source, TransferCheckpoint checkpoint) {
+        return transfer(source);
+    }
+
 }
@@ -15,6 +15,8 @@
 package org.eclipse.edc.connector.dataplane.spi.pipeline;
 
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.stream.Stream;
 
 /**
@@ -53,6 +55,15 @@ public interface DataSource extends AutoCloseable {
          */
         InputStream openStream();
 
+        /**
+         * Opens a channel to sequentially read the underlying part content into {@link java.nio.ByteBuffer}s, e.g.
+         * obtained from a {@link ByteBufferPool}. Implementations that can read the content without copying it through
+         * intermediate heap arrays should override this method, by default the channel wraps {@link #openStream()}.
+         */
+        default ReadableByteChannel openChannel() {
+            return Channels.newChannel(openStream());
+        }
+
         /**
          * Content media type.
          *
@@ -62,6 +73,26 @@ public interface DataSource extends AutoCloseable {
             return "application/octet-stream";
         }
 
+        /**
+         * Record in the checkpoint that this part has been transferred, so that a resumed transfer doesn't transfer
+         * it again. By default nothing is recorded, and the part will be transferred again.
+         *
+         * @param checkpoint the transfer checkpoint.
+         */
+        default void commit(TransferCheckpoint checkpoint) {
+            // no-op
+        }
+
+        /**
+         * Whether the checkpoint records that this part has already been transferred.
+         *
+         * @param checkpoint the transfer checkpoint.
+         * @return true if the part doesn't need to be transferred again.
+         */
+        default boolean isCommitted(TransferCheckpoint checkpoint) {
+            return false;
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
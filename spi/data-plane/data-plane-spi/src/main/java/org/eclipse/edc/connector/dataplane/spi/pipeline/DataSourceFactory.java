@@ -35,6 +35,14 @@ public interface DataSourceFactory {
      */
     DataSource createSource(DataFlowStartMessage request);
 
+    /**
+     * Creates a source that resumes from the positions recorded in the checkpoint. By default the checkpoint is
+     * ignored and the source provides all the data again.
+     */
+    default DataSource createSource(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
+        return createSource(request);
+    }
+
     /**
      * Returns a Result object of the validation result.
      */
@@ -19,16 +19,38 @@ import org.jetbrains.annotations.NotNull;
 import java.util.concurrent.ExecutorService;
 
 /**
- * Holder class for a shared {@link ExecutorService} across data transfer implementations.
+ * Holder class for a shared {@link ExecutorService}, {@link HostConcurrencyLimiter} and
+ * {@link TransferThroughputTracker} across data transfer implementations.
  */
 public class DataTransferExecutorServiceContainer {
     private final ExecutorService executorService;
+    private final HostConcurrencyLimiter hostConcurrencyLimiter;
+    private final TransferThroughputTracker throughputTracker;
 
     public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService) {
+        this(executorService, HostConcurrencyLimiter.unlimited());
+    }
+
+    public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService, @NotNull HostConcurrencyLimiter hostConcurrencyLimiter) {
+        this(executorService, hostConcurrencyLimiter, new TransferThroughputTracker());
+    }
+
+    public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService, @NotNull HostConcurrencyLimiter hostConcurrencyLimiter,
+                                                @NotNull TransferThroughputTracker throughputTracker) {
         this.executorService = executorService;
+        this.hostConcurrencyLimiter = hostConcurrencyLimiter;
+        this.throughputTracker = throughputTracker;
     }
 
     public @NotNull ExecutorService getExecutorService() {
         return executorService;
     }
+
+    public @NotNull HostConcurrencyLimiter getHostConcurrencyLimiter() {
+        return hostConcurrencyLimiter;
+    }
+
+    public @NotNull TransferThroughputTracker getThroughputTracker() {
+        return throughputTracker;
+    }
 }
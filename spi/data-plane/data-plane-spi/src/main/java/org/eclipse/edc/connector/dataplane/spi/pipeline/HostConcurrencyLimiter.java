@@ -0,0 +1,312 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of data transfer operations that run concurrently against the same destination host, so that a
+ * large number of transfers to a single host doesn't overload it. Operations that exceed the limit wait until a
+ * running one completes: blocking operations hold their thread while waiting, asynchronous ones are queued and started
+ * by the completion of a running operation.
+ * <p>
+ * It also keeps track of how many operations are currently running and how many are waiting, in total and per host,
+ * so that they can be observed, e.g. published as metrics through {@link #onNewHost(Consumer)}.
+ * <p>
+ * A host is tracked only as long as operations are running or waiting against it: once the last one completes the
+ * host is evicted, so that the number of tracked hosts doesn't grow with the number of destinations ever seen.
+ */
+public class HostConcurrencyLimiter {
+
+    private final int maxConcurrencyPerHost;
+    private final Map<String, HostCounters> hosts = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> newHostListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> removedHostListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * Create a limiter.
+     *
+     * @param maxConcurrencyPerHost maximum number of concurrent operations per host, 0 or less means unlimited.
+     */
+    public HostConcurrencyLimiter(int maxConcurrencyPerHost) {
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+    }
+
+    /**
+     * Limiter that never makes operations wait.
+     *
+     * @return the limiter.
+     */
+    public static HostConcurrencyLimiter unlimited() {
+        return new HostConcurrencyLimiter(0);
+    }
+
+    /**
+     * Run an operation against a host, waiting for the other operations against the same host to complete if the
+     * limit has been reached.
+     *
+     * @param host   the destination host, null if it's not known.
+     * @param action the operation.
+     * @return the operation result.
+     * @throws EdcException if the thread got interrupted while waiting.
+     */
+    public <T> T execute(@Nullable String host, Supplier<T> action) {
+        if (host == null) {
+            return run(null, action);
+        }
+
+        var counters = acquireCounters(host);
+        try {
+            if (maxConcurrencyPerHost <= 0) {
+                return run(counters, action);
+            }
+
+            queued.incrementAndGet();
+            counters.queued.incrementAndGet();
+            try {
+                counters.permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EdcException("Interrupted while waiting to transfer data to host " + host, e);
+            } finally {
+                queued.decrementAndGet();
+                counters.queued.decrementAndGet();
+            }
+
+            try {
+                return run(counters, action);
+            } finally {
+                release(counters);
+            }
+        } finally {
+            releaseCounters(host, counters);
+        }
+    }
+
+    /**
+     * Run an asynchronous operation against a host. If the limit has been reached, the operation is queued without
+     * blocking the calling thread, and it is started when an operation against the same host completes.
+     *
+     * @param host   the destination host, null if it's not known.
+     * @param action starts the operation.
+     * @return the operation result.
+     */
+    public <T> CompletableFuture<T> executeAsync(@Nullable String host, Supplier<CompletableFuture<T>> action) {
+        if (host == null) {
+            return runAsync(null, action);
+        }
+
+        var counters = acquireCounters(host);
+        if (maxConcurrencyPerHost <= 0) {
+            return runAsync(counters, action).whenComplete((value, throwable) -> releaseCounters(host, counters));
+        }
+
+        var result = new CompletableFuture<T>();
+        queued.incrementAndGet();
+        counters.queued.incrementAndGet();
+        counters.waiting.add(() -> {
+            queued.decrementAndGet();
+            counters.queued.decrementAndGet();
+            runAsync(counters, action).whenComplete((value, throwable) -> {
+                release(counters);
+                releaseCounters(host, counters);
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        drain(counters);
+        return result;
+    }
+
+    /**
+     * Number of operations that are currently running.
+     *
+     * @return the number of operations.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of operations that are waiting because their host limit has been reached.
+     *
+     * @return the number of operations.
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Hosts that operations are currently running or waiting against.
+     *
+     * @return the hosts.
+     */
+    public Set<String> getHosts() {
+        return Set.copyOf(hosts.keySet());
+    }
+
+    /**
+     * Number of operations that are currently running against a host.
+     *
+     * @param host the host.
+     * @return the number of operations.
+     */
+    public int getInFlight(String host) {
+        var counters = hosts.get(host);
+        return counters == null ? 0 : counters.inFlight.get();
+    }
+
+    /**
+     * Number of operations that are waiting because the limit of the host has been reached.
+     *
+     * @param host the host.
+     * @return the number of operations.
+     */
+    public int getQueued(String host) {
+        var counters = hosts.get(host);
+        return counters == null ? 0 : counters.queued.get();
+    }
+
+    /**
+     * Register a listener that gets notified when an operation runs against a host that is not tracked, i.e. the first
+     * time or after the host has been evicted. It gets notified immediately about the hosts that are already tracked.
+     * Listeners are notified while the host is locked, so they must not run operations on the limiter.
+     *
+     * @param listener the listener.
+     */
+    public void onNewHost(Consumer<String> listener) {
+        newHostListeners.add(listener);
+        hosts.keySet().forEach(listener);
+    }
+
+    /**
+     * Register a listener that gets notified when a host gets evicted because no operation is running or waiting
+     * against it anymore. Listeners are notified while the host is locked, so they must not run operations on the
+     * limiter.
+     *
+     * @param listener the listener.
+     */
+    public void onHostRemoved(Consumer<String> listener) {
+        removedHostListeners.add(listener);
+    }
+
+    /**
+     * Get the counters of the host, creating them if the host is not tracked, and register the calling operation as
+     * their user, so that they don't get evicted until {@link #releaseCounters(String, HostCounters)} is called.
+     */
+    private HostCounters acquireCounters(String host) {
+        return hosts.compute(host, (key, counters) -> {
+            var current = counters;
+            if (current == null) {
+                current = new HostCounters(new Semaphore(maxConcurrencyPerHost, true));
+                newHostListeners.forEach(listener -> listener.accept(key));
+            }
+            current.users.incrementAndGet();
+            return current;
+        });
+    }
+
+    /**
+     * Unregister an operation as user of the counters of the host, evicting the host if it was the last one.
+     */
+    private void releaseCounters(String host, HostCounters counters) {
+        hosts.computeIfPresent(host, (key, current) -> {
+            if (current != counters || counters.users.decrementAndGet() > 0) {
+                return current;
+            }
+            removedHostListeners.forEach(listener -> listener.accept(key));
+            return null;
+        });
+    }
+
+    private void release(HostCounters counters) {
+        counters.permits.release();
+        drain(counters);
+    }
+
+    /**
+     * Start the queued asynchronous operations of the host as long as permits are available.
+     */
+    private void drain(HostCounters counters) {
+        while (!counters.waiting.isEmpty() && counters.permits.tryAcquire()) {
+            var next = counters.waiting.poll();
+            if (next == null) {
+                counters.permits.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> runAsync(@Nullable HostCounters counters, Supplier<CompletableFuture<T>> action) {
+        inFlight.incrementAndGet();
+        if (counters != null) {
+            counters.inFlight.incrementAndGet();
+        }
+        CompletableFuture<T> started;
+        try {
+            started = action.get();
+        } catch (Exception e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        return started.whenComplete((value, throwable) -> {
+            inFlight.decrementAndGet();
+            if (counters != null) {
+                counters.inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private <T> T run(@Nullable HostCounters counters, Supplier<T> action) {
+        inFlight.incrementAndGet();
+        if (counters != null) {
+            counters.inFlight.incrementAndGet();
+        }
+        try {
+            return action.get();
+        } finally {
+            inFlight.decrementAndGet();
+            if (counters != null) {
+                counters.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private record HostCounters(Semaphore permits, AtomicInteger inFlight, AtomicInteger queued, AtomicInteger users,
+                                Queue<Runnable> waiting) {
+        HostCounters(Semaphore permits) {
+            this(permits, new AtomicInteger(), new AtomicInteger(), new AtomicInteger(), new ConcurrentLinkedQueue<>());
+        }
+    }
+}
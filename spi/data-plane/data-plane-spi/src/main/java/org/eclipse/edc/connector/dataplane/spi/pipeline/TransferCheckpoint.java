@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Progress of a data transfer, used to resume it without repeating the work already done, e.g. after the data plane
+ * that was running it stopped.
+ * <p>
+ * The progress is a set of positions, each one identified by a key chosen by the {@link DataSource} that produces the
+ * parts: e.g. the offset of a Kafka topic partition, or the name of a part that has been transferred completely.
+ * Positions only move forward.
+ */
+public class TransferCheckpoint {
+
+    /**
+     * Position of a part that has been transferred completely.
+     */
+    public static final long COMPLETED = Long.MAX_VALUE;
+
+    private final Map<String, Long> positions;
+
+    public TransferCheckpoint() {
+        this(Map.of());
+    }
+
+    public TransferCheckpoint(Map<String, Long> positions) {
+        this.positions = new ConcurrentHashMap<>(positions);
+    }
+
+    /**
+     * Get the position recorded for a key.
+     *
+     * @param key the key.
+     * @return the position, null if nothing has been recorded for the key.
+     */
+    public @Nullable Long getPosition(String key) {
+        return positions.get(key);
+    }
+
+    /**
+     * Whether the part identified by the key has been transferred completely.
+     *
+     * @param key the key.
+     * @return true if the part is completed.
+     */
+    public boolean isCompleted(String key) {
+        var position = positions.get(key);
+        return position != null && position == COMPLETED;
+    }
+
+    /**
+     * Record a position for a key. A position lower than the one already recorded is ignored.
+     *
+     * @param key      the key.
+     * @param position the position.
+     */
+    public void record(String key, long position) {
+        positions.merge(key, position, Math::max);
+    }
+
+    /**
+     * Record that the part identified by the key has been transferred completely.
+     *
+     * @param key the key.
+     */
+    public void complete(String key) {
+        record(key, COMPLETED);
+    }
+
+    /**
+     * Snapshot of the recorded positions.
+     *
+     * @return the positions.
+     */
+    public Map<String, Long> getPositions() {
+        return Map.copyOf(positions);
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+}
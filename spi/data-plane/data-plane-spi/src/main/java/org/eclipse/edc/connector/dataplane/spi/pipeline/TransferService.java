@@ -53,6 +53,19 @@ public interface TransferService {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataSink sink);
 
+    /**
+     * Transfers data from a source to a destination, resuming from the checkpoint and recording the progress into it,
+     * so that the transfer can be resumed again if it gets interrupted. By default the checkpoint is ignored and the
+     * whole data is transferred.
+     *
+     * @param request    The data flow request containing the necessary information for the transfer.
+     * @param checkpoint The checkpoint of the transfer.
+     * @return A CompletableFuture wrapping a StreamResult indicating the success or failure of the transfer.
+     */
+    default CompletableFuture<StreamResult<Object>> transferFromCheckpoint(DataFlowStartMessage request, TransferCheckpoint checkpoint) {
+        return transfer(request);
+    }
+
     /**
      * Terminate a data flow.
      *
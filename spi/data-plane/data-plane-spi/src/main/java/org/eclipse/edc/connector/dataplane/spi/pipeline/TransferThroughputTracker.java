@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the throughput of the data flows written by the sinks: the parts and bytes that are sent and the
+ * parts that are re-sent, in total and per flow, so that they can be observed, e.g. published as metrics through
+ * {@link #onFlowCompleted(Consumer)}.
+ */
+public class TransferThroughputTracker {
+
+    private final Clock clock;
+    private final AtomicLong parts = new AtomicLong();
+    private final AtomicLong retriedParts = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final List<Consumer<FlowThroughput>> flowCompletedListeners = new CopyOnWriteArrayList<>();
+
+    public TransferThroughputTracker() {
+        this(Clock.systemUTC());
+    }
+
+    public TransferThroughputTracker(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Start tracking a data flow.
+     *
+     * @param flowId the data flow id.
+     * @return the flow tracker.
+     */
+    public Flow startFlow(String flowId) {
+        return new Flow(flowId, clock.millis());
+    }
+
+    /**
+     * Number of parts that have been sent by all the flows.
+     *
+     * @return the number of parts.
+     */
+    public long getParts() {
+        return parts.get();
+    }
+
+    /**
+     * Number of parts that have been re-sent because their first attempt failed, by all the flows.
+     *
+     * @return the number of parts.
+     */
+    public long getRetriedParts() {
+        return retriedParts.get();
+    }
+
+    /**
+     * Number of bytes that have been sent by all the flows, counting only the parts whose size is known.
+     *
+     * @return the number of bytes.
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Register a listener that gets notified with the throughput of every flow that completes successfully.
+     *
+     * @param listener the listener.
+     */
+    public void onFlowCompleted(Consumer<FlowThroughput> listener) {
+        flowCompletedListeners.add(listener);
+    }
+
+    /**
+     * Throughput of a completed data flow.
+     *
+     * @param flowId       the data flow id.
+     * @param parts        the parts sent.
+     * @param retriedParts the parts re-sent.
+     * @param bytes        the bytes sent.
+     * @param duration     the time elapsed from the start to the completion of the flow.
+     */
+    public record FlowThroughput(String flowId, long parts, long retriedParts, long bytes, Duration duration) {
+
+        /**
+         * Bytes sent per second.
+         *
+         * @return the throughput.
+         */
+        public double bytesPerSecond() {
+            return bytes * 1000.0 / Math.max(duration.toMillis(), 1);
+        }
+
+        /**
+         * Parts sent per second.
+         *
+         * @return the throughput.
+         */
+        public double partsPerSecond() {
+            return parts * 1000.0 / Math.max(duration.toMillis(), 1);
+        }
+    }
+
+    /**
+     * Tracks a single data flow.
+     */
+    public class Flow {
+
+        private final String flowId;
+        private final long startedAt;
+        private final AtomicLong flowParts = new AtomicLong();
+        private final AtomicLong flowRetriedParts = new AtomicLong();
+        private final AtomicLong flowBytes = new AtomicLong();
+
+        private Flow(String flowId, long startedAt) {
+            this.flowId = flowId;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Record a part that has been sent.
+         *
+         * @param size the part size, negative if it's not known.
+         */
+        public void partSent(long size) {
+            flowParts.incrementAndGet();
+            parts.incrementAndGet();
+            if (size > 0) {
+                flowBytes.addAndGet(size);
+                bytes.addAndGet(size);
+            }
+        }
+
+        /**
+         * Record a part that is going to be re-sent.
+         */
+        public void partRetried() {
+            flowRetriedParts.incrementAndGet();
+            retriedParts.incrementAndGet();
+        }
+
+        /**
+         * Complete the flow, notifying its throughput to the listeners.
+         */
+        public void completed() {
+            var throughput = new FlowThroughput(flowId, flowParts.get(), flowRetriedParts.get(), flowBytes.get(),
+                    Duration.ofMillis(clock.millis() - startedAt));
+            flowCompletedListeners.forEach(listener -> listener.accept(throughput));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void acquire_shouldReuseReleasedBuffers() {
+        var pool = new ByteBufferPool(16, false, 1);
+        var buffer = pool.acquire();
+        buffer.put((byte) 1);
+
+        pool.release(buffer);
+
+        var reused = pool.acquire();
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(pool.acquire()).isNotSameAs(buffer);
+    }
+
+    @Test
+    void release_shouldDiscardBuffers_whenPoolIsFull() {
+        var pool = new ByteBufferPool(16, false, 1);
+        var first = pool.acquire();
+        var second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.acquire()).isNotSameAs(second);
+    }
+
+    @Test
+    void release_shouldIgnoreForeignBuffers() {
+        var pool = new ByteBufferPool(16, false, 1);
+        var foreign = ByteBuffer.allocate(32);
+
+        pool.release(foreign);
+
+        assertThat(pool.acquire()).isNotSameAs(foreign).extracting(ByteBuffer::capacity).isEqualTo(16);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void transfer_toChannel(boolean direct) throws IOException {
+        var pool = new ByteBufferPool(7, direct, 1);
+        var content = randomContent(1000);
+        var output = new ByteArrayOutputStream();
+
+        var transferred = pool.transfer(Channels.newChannel(new ByteArrayInputStream(content)), Channels.newChannel(output));
+
+        assertThat(transferred).isEqualTo(content.length);
+        assertThat(output.toByteArray()).isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void transfer_toOutputStream(boolean direct) throws IOException {
+        var pool = new ByteBufferPool(7, direct, 1);
+        var content = randomContent(1000);
+        var output = new ByteArrayOutputStream();
+
+        var transferred = pool.transfer(Channels.newChannel(new ByteArrayInputStream(content)), output);
+
+        assertThat(transferred).isEqualTo(content.length);
+        assertThat(output.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldNotAcceptInvalidBufferSize() {
+        assertThatThrownBy(() -> new ByteBufferPool(0, false, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] randomContent(int size) {
+        var content = new byte[size];
+        new Random().nextBytes(content);
+        return content;
+    }
+}
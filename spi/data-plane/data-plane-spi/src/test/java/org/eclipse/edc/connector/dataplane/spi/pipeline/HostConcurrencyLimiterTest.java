@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2025 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostConcurrencyLimiterTest {
+
+    @Test
+    void shouldLimitConcurrencyPerHost() throws InterruptedException {
+        var limiter = new HostConcurrencyLimiter(2);
+        var executor = Executors.newFixedThreadPool(5);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        try {
+            var futures = new CompletableFuture<?>[5];
+            for (var i = 0; i < 5; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> limiter.execute("host", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    await(release);
+                    return running.decrementAndGet();
+                }), executor);
+            }
+
+            waitUntil(() -> limiter.getInFlight() == 2 && limiter.getQueued() == 3);
+            assertThat(limiter.getInFlight("host")).isEqualTo(2);
+            assertThat(limiter.getQueued("host")).isEqualTo(3);
+            assertThat(limiter.execute("another-host", () -> limiter.getInFlight("another-host"))).isEqualTo(1);
+            assertThat(limiter.getQueued("another-host")).isZero();
+
+            release.countDown();
+            CompletableFuture.allOf(futures).join();
+
+            assertThat(maxRunning).hasValue(2);
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(limiter.getQueued()).isZero();
+            assertThat(limiter.getInFlight("host")).isZero();
+            assertThat(limiter.getQueued("host")).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeAsync_shouldQueueWithoutBlocking_whenLimitReached() {
+        var limiter = new HostConcurrencyLimiter(2);
+        var pending = new ArrayList<CompletableFuture<Integer>>();
+
+        var results = new ArrayList<CompletableFuture<Integer>>();
+        for (var i = 0; i < 5; i++) {
+            var value = i;
+            results.add(limiter.executeAsync("host", () -> {
+                var future = new CompletableFuture<Integer>();
+                pending.add(future);
+                return future.thenApply(v -> value);
+            }));
+        }
+
+        assertThat(pending).hasSize(2);
+        assertThat(limiter.getInFlight("host")).isEqualTo(2);
+        assertThat(limiter.getQueued("host")).isEqualTo(3);
+
+        while (!pending.isEmpty()) {
+            pending.remove(0).complete(0);
+        }
+
+        assertThat(results).extracting(CompletableFuture::join).containsExactly(0, 1, 2, 3, 4);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void executeAsync_shouldReleasePermit_whenOperationFails() {
+        var limiter = new HostConcurrencyLimiter(1);
+
+        var failed = limiter.<Integer>executeAsync("host", () -> {
+            throw new IllegalStateException("failure");
+        });
+        var next = limiter.executeAsync("host", () -> CompletableFuture.completedFuture(1));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue(1);
+        assertThat(limiter.getInFlight("host")).isZero();
+    }
+
+    @Test
+    void shouldNotLimit_whenUnlimited() {
+        var limiter = HostConcurrencyLimiter.unlimited();
+
+        var result = limiter.execute("host", () -> limiter.getInFlight());
+
+        assertThat(result).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotifyNewHosts_once_whileInUse() {
+        var limiter = new HostConcurrencyLimiter(2);
+        var known = new CompletableFuture<Boolean>();
+        var host = new CompletableFuture<Boolean>();
+        limiter.executeAsync("known", () -> known);
+        var notified = new ArrayList<String>();
+
+        limiter.onNewHost(notified::add);
+        limiter.execute("known", () -> true);
+        limiter.executeAsync("host", () -> host);
+        limiter.execute("host", () -> true);
+        limiter.execute(null, () -> true);
+
+        assertThat(notified).containsExactly("known", "host");
+        assertThat(limiter.getHosts()).containsExactlyInAnyOrder("known", "host");
+    }
+
+    @Test
+    void shouldEvictHost_whenNoOperationIsRunningOrWaiting() {
+        var limiter = new HostConcurrencyLimiter(1);
+        var added = new ArrayList<String>();
+        var removed = new ArrayList<String>();
+        limiter.onNewHost(added::add);
+        limiter.onHostRemoved(removed::add);
+        var first = new CompletableFuture<Integer>();
+
+        var running = limiter.executeAsync("host", () -> first);
+        var waiting = limiter.executeAsync("host", () -> CompletableFuture.completedFuture(2));
+        first.complete(1);
+
+        assertThat(running).isCompletedWithValue(1);
+        assertThat(waiting).isCompletedWithValue(2);
+        assertThat(limiter.execute("host", () -> limiter.getHosts())).containsExactly("host");
+        assertThat(limiter.getHosts()).isEmpty();
+        assertThat(added).containsExactly("host", "host");
+        assertThat(removed).containsExactly("host", "host");
+    }
+
+    @Test
+    void shouldNotEvictHost_whenOperationsAreWaiting() {
+        var limiter = new HostConcurrencyLimiter(1);
+        var removed = new ArrayList<String>();
+        limiter.onHostRemoved(removed::add);
+        var first = new CompletableFuture<Integer>();
+        var second = new CompletableFuture<Integer>();
+
+        limiter.executeAsync("host", () -> first);
+        limiter.executeAsync("host", () -> second);
+        first.complete(1);
+
+        assertThat(removed).isEmpty();
+        assertThat(limiter.getInFlight("host")).isEqualTo(1);
+
+        second.complete(2);
+
+        assertThat(removed).containsExactly("host");
+        assertThat(limiter.getInFlight("host")).isZero();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.util.stream.IntStream.range;
@@ -95,6 +96,39 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldStoreCheckpoint() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+            getStore().save(dataFlow);
+
+            dataFlow.updateCheckpoint(Map.of("topic-0", 42L, "part", Long.MAX_VALUE));
+            getStore().save(dataFlow);
+
+            var result = getStore().findById(dataFlow.getId());
+
+            assertThat(result).isNotNull();
+            assertThat(result.getCheckpoint()).containsEntry("topic-0", 42L).containsEntry("part", Long.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    class FindStateById {
+
+        @Test
+        void shouldFindStateOfEntity() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+            getStore().save(dataFlow);
+
+            var result = getStore().findStateById(dataFlow.getId());
+
+            assertThat(result).isEqualTo(RECEIVED.code());
+        }
+
+        @Test
+        void shouldReturnNull_whenEntityDoesNotExist() {
+            assertThat(getStore().findStateById("not-exist")).isNull();
+        }
     }
 
     @Nested
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,6 +97,23 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldStoreNewAndUpdateExisting_whenSavingAll() {
+            var existing = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);
+            getStore().save(existing);
+            leaseEntity(existing.getId(), CONNECTOR_NAME);
+            existing.transitionToCompleted();
+            var newEntries = range(0, 3).mapToObj(i -> createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED)).toList();
+
+            getStore().saveAll(Stream.concat(Stream.of(existing), newEntries.stream()).toList());
+
+            assertThat(getStore().findById(existing.getId())).isNotNull()
+                    .extracting(PolicyMonitorEntry::getState).isEqualTo(COMPLETED.code());
+            assertThat(isLeasedBy(existing.getId(), CONNECTOR_NAME)).isFalse();
+            assertThat(newEntries).allSatisfy(entry -> assertThat(getStore().findById(entry.getId())).isNotNull()
+                    .usingRecursiveComparison().isEqualTo(entry));
+        }
     }
 
     @Nested